@@ -0,0 +1,54 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.benchmarks;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs all the serializer and parser benchmarks with the GC profiler enabled.
+ * <p>
+ * 	The GC profiler adds the allocation rate (<code>gc.alloc.rate.norm</code>) to the throughput results.
+ * <p>
+ * 	Usage:
+ * <p class='bcode'>
+ * 	mvn package
+ * 	java -jar target/benchmarks.jar [regexp...]
+ * </p>
+ * <p>
+ * 	Optional arguments are regular expressions for the benchmarks to run (e.g. <js>"SerializerBenchmark"</js>).
+ * 	Individual formats and payloads can be selected through the standard JMH launcher instead:
+ * <p class='bcode'>
+ * 	java -cp target/benchmarks.jar org.openjdk.jmh.Main SerializerBenchmark -p format=JSON,XML -p payload=FLAT -prof gc
+ * </p>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args Optional regular expressions for the benchmarks to include.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		ChainedOptionsBuilder b = new OptionsBuilder().addProfiler(GCProfiler.class);
+		if (args.length == 0)
+			b.include(SerializerBenchmark.class.getSimpleName()).include(ParserBenchmark.class.getSimpleName());
+		for (String a : args)
+			b.include(a);
+		new Runner(b.build()).run();
+	}
+}
@@ -0,0 +1,106 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+
+import org.apache.juneau.csv.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.jena.*;
+import org.apache.juneau.jso.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+
+/**
+ * The serializer/parser pairs measured by the benchmarks.
+ * <p>
+ * 	Formats without a parser (e.g. CSV) are only measured by {@link SerializerBenchmark}.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public enum Format {
+
+	/** {@link JsonSerializer#DEFAULT} / {@link JsonParser#DEFAULT} */
+	JSON(JsonSerializer.DEFAULT, JsonParser.DEFAULT),
+
+	/** {@link JsonSerializer#DEFAULT_LAX} / {@link JsonParser#DEFAULT} */
+	JSON_LAX(JsonSerializer.DEFAULT_LAX, JsonParser.DEFAULT),
+
+	/** {@link XmlSerializer#DEFAULT_SQ} / {@link XmlParser#DEFAULT} */
+	XML(XmlSerializer.DEFAULT_SQ, XmlParser.DEFAULT),
+
+	/** {@link HtmlSerializer#DEFAULT_SQ} / {@link HtmlParser#DEFAULT} */
+	HTML(HtmlSerializer.DEFAULT_SQ, HtmlParser.DEFAULT),
+
+	/** {@link UonSerializer#DEFAULT} / {@link UonParser#DEFAULT} */
+	UON(UonSerializer.DEFAULT, UonParser.DEFAULT),
+
+	/** {@link UrlEncodingSerializer#DEFAULT} / {@link UrlEncodingParser#DEFAULT} */
+	URLENCODING(UrlEncodingSerializer.DEFAULT, UrlEncodingParser.DEFAULT),
+
+	/** {@link MsgPackSerializer#DEFAULT} / {@link MsgPackParser#DEFAULT} */
+	MSGPACK(MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT),
+
+	/** {@link RdfSerializer#DEFAULT_XML} / {@link RdfParser#DEFAULT_XML} */
+	RDFXML(RdfSerializer.DEFAULT_XML, RdfParser.DEFAULT_XML),
+
+	/** {@link CsvSerializer} (no parser) */
+	CSV(new CsvSerializer().lock(), null),
+
+	/** {@link JavaSerializedObjectSerializer} / {@link JavaSerializedObjectParser} */
+	JSO(new JavaSerializedObjectSerializer().lock(), new JavaSerializedObjectParser().lock());
+
+	final Serializer serializer;
+	final Parser parser;
+
+	private Format(Serializer serializer, Parser parser) {
+		this.serializer = serializer;
+		this.parser = parser;
+	}
+
+	/**
+	 * Returns the serializer for this format.
+	 *
+	 * @return The serializer for this format.
+	 */
+	public Serializer getSerializer() {
+		return serializer;
+	}
+
+	/**
+	 * Returns the parser for this format.
+	 *
+	 * @return The parser for this format, or <jk>null</jk> if this format can only be serialized.
+	 */
+	public Parser getParser() {
+		return parser;
+	}
+
+	/**
+	 * Converts the payload into an object this format can serialize.
+	 * <p>
+	 * 	The CSV serializer only handles collections of beans, so single objects are wrapped in a list.
+	 *
+	 * @param payload The payload object.
+	 * @return The object to serialize.
+	 */
+	public Object adapt(Object payload) {
+		if (this == CSV && ! (payload instanceof Collection))
+			return Collections.singletonList(payload);
+		return payload;
+	}
+}
@@ -0,0 +1,79 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.benchmarks;
+
+import static org.apache.juneau.parser.ParserContext.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.parser.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of parsing each {@link Payload} with each {@link Format}.
+ * <p>
+ * 	The input is produced by the serializer of the same format.
+ * 	Formats without a parser are skipped.
+ * <p>
+ * 	Run with the GC profiler (see {@link BenchmarkRunner}) to also report the allocation rate.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class ParserBenchmark {
+
+	/** The format to parse. */
+	@Param({"JSON", "JSON_LAX", "XML", "HTML", "UON", "URLENCODING", "MSGPACK", "RDFXML", "JSO"})
+	public Format format;
+
+	/** The payload to parse. */
+	@Param
+	public Payload payload;
+
+	/** Whether to reuse parser sessions (see {@link ParserContext#PARSER_reuseSessions}). */
+	@Param({"false", "true"})
+	public boolean reuseSessions;
+
+	private Parser parser;
+	private Object input;
+	private Class<?> type;
+
+	/**
+	 * Serializes the payload to produce the parser input.
+	 *
+	 * @throws Exception
+	 */
+	@Setup
+	public void setup() throws Exception {
+		parser = format.getParser().clone().setProperty(PARSER_reuseSessions, reuseSessions).lock();
+		Object o = payload.create();
+		type = o.getClass();
+		input = format.getSerializer().serialize(o);
+	}
+
+	/**
+	 * Parses the serialized payload.
+	 *
+	 * @return The parsed object.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(input, type);
+	}
+}
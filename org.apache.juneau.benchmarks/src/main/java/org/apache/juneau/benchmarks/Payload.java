@@ -0,0 +1,155 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * The representative payloads serialized and parsed by the benchmarks.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public enum Payload {
+
+	/** A single bean with simple properties. */
+	FLAT {
+		@Override /* Payload */
+		public Object create() {
+			return new FlatBean().init(0);
+		}
+	},
+
+	/** A chain of 20 nested beans. */
+	DEEP {
+		@Override /* Payload */
+		public Object create() {
+			return new DeepBean().init(20);
+		}
+	},
+
+	/** A list of 1000 flat beans. */
+	LARGE_COLLECTION {
+		@Override /* Payload */
+		public Object create() {
+			FlatBeanList l = new FlatBeanList();
+			for (int i = 0; i < 1000; i++)
+				l.add(new FlatBean().init(i));
+			return l;
+		}
+	},
+
+	/** A map with 1000 keys. */
+	WIDE_MAP {
+		@Override /* Payload */
+		public Object create() {
+			WideMap m = new WideMap();
+			for (int i = 0; i < 1000; i++)
+				m.put("key" + i, i);
+			return m;
+		}
+	},
+
+	/** A bean containing long strings with characters that must be escaped in most languages. */
+	STRINGS {
+		@Override /* Payload */
+		public Object create() {
+			return new StringsBean().init(100);
+		}
+	};
+
+	/**
+	 * Creates a new instance of this payload.
+	 *
+	 * @return A new instance of this payload.
+	 */
+	public abstract Object create();
+
+	/**
+	 * A bean with simple properties.
+	 */
+	public static class FlatBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+		public int f1;
+		public long f2;
+		public double f3;
+		public boolean f4;
+		public String f5, f6, f7;
+		public Integer f8;
+
+		FlatBean init(int i) {
+			f1 = i;
+			f2 = i * 1000000l;
+			f3 = i / 3d;
+			f4 = i % 2 == 0;
+			f5 = "foo" + i;
+			f6 = "bar" + i;
+			f7 = "baz" + i;
+			f8 = i;
+			return this;
+		}
+	}
+
+	/**
+	 * A list of {@link FlatBean FlatBeans}.
+	 */
+	public static class FlatBeanList extends ArrayList<FlatBean> {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A bean that contains a child bean of the same type.
+	 */
+	public static class DeepBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+		public String name;
+		public int depth;
+		public DeepBean child;
+
+		DeepBean init(int depth) {
+			this.name = "level" + depth;
+			this.depth = depth;
+			if (depth > 0)
+				this.child = new DeepBean().init(depth-1);
+			return this;
+		}
+	}
+
+	/**
+	 * A map with many keys.
+	 */
+	public static class WideMap extends LinkedHashMap<String,Integer> {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A bean containing long strings.
+	 */
+	public static class StringsBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+		public String text;
+		public List<String> lines;
+
+		StringsBean init(int count) {
+			StringBuilder sb = new StringBuilder();
+			lines = new ArrayList<String>();
+			for (int i = 0; i < count; i++) {
+				String s = "Line " + i + ": <tag attr=\"value\"> & 'quotes', tabs\tand unicode \u00e9\u4e2d ";
+				sb.append(s).append('\n');
+				lines.add(s);
+			}
+			text = sb.toString();
+			return this;
+		}
+	}
+}
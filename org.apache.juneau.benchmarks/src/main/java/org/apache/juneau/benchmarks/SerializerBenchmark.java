@@ -0,0 +1,73 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.benchmarks;
+
+import static org.apache.juneau.serializer.SerializerContext.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of serializing each {@link Payload} with each {@link Format}.
+ * <p>
+ * 	Run with the GC profiler (see {@link BenchmarkRunner}) to also report the allocation rate.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class SerializerBenchmark {
+
+	/** The format to serialize to. */
+	@Param
+	public Format format;
+
+	/** The payload to serialize. */
+	@Param
+	public Payload payload;
+
+	/** Whether to reuse serializer sessions (see {@link SerializerContext#SERIALIZER_reuseSessions}). */
+	@Param({"false", "true"})
+	public boolean reuseSessions;
+
+	private Serializer serializer;
+	private Object input;
+
+	/**
+	 * Creates the payload.
+	 *
+	 * @throws Exception
+	 */
+	@Setup
+	public void setup() throws Exception {
+		serializer = format.getSerializer().clone().setProperty(SERIALIZER_reuseSessions, reuseSessions).lock();
+		input = format.adapt(payload.create());
+	}
+
+	/**
+	 * Serializes the payload.
+	 *
+	 * @return The serialized output (a <code>String</code> or <code><jk>byte</jk>[]</code>).
+	 * @throws Exception
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(input);
+	}
+}
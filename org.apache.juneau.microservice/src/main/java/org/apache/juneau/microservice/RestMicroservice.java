@@ -28,10 +28,12 @@ import org.apache.juneau.server.annotation.*;
 import org.eclipse.jetty.security.*;
 import org.eclipse.jetty.security.authentication.*;
 import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.server.nio.*;
 import org.eclipse.jetty.server.ssl.*;
 import org.eclipse.jetty.servlet.*;
 import org.eclipse.jetty.util.security.*;
 import org.eclipse.jetty.util.ssl.*;
+import org.eclipse.jetty.util.thread.*;
 
 
 /**
@@ -71,6 +73,7 @@ import org.eclipse.jetty.util.ssl.*;
 public class RestMicroservice extends Microservice {
 
 	Server server;
+	QueuedThreadPool threadPool;
 	int port;
 	Logger logger;
 
@@ -278,6 +281,31 @@ public class RestMicroservice extends Microservice {
 	 * 	<cc># Enable SSL support.</cc>
 	 * 	<ck>useSsl</ck> = false
 	 *
+	 * 	<cc># The number of threads accepting and selecting connections.
+	 * 	# Default is the Jetty default based on the number of processors.</cc>
+	 * 	<ck>acceptors</ck> =
+	 *
+	 * 	<cc># The size of the queue of connections waiting to be accepted.
+	 * 	# Default is the Jetty default.</cc>
+	 * 	<ck>acceptQueueSize</ck> =
+	 *
+	 * 	<cc># The time in milliseconds a connection can be idle before it's closed.
+	 * 	# Default is 200000.</cc>
+	 * 	<ck>maxIdleTime</ck> = 200000
+	 *
+	 * 	<cc># The minimum and maximum number of request threads.
+	 * 	# Defaults are 8 and 254.</cc>
+	 * 	<ck>minThreads</ck> = 8
+	 * 	<ck>maxThreads</ck> = 254
+	 *
+	 * 	<cc># The time in milliseconds a thread above minThreads can be idle before it's stopped.
+	 * 	# Default is 60000.</cc>
+	 * 	<ck>threadIdleTime</ck> = 60000
+	 *
+	 * 	<cc># The maximum number of requests waiting for a thread.
+	 * 	# Default is 10000.</cc>
+	 * 	<ck>maxQueued</ck> = 10000
+	 *
 	 * 	<cc>#================================================================================
 	 * 	# Bean properties on the org.eclipse.jetty.util.ssl.SslSocketFactory class
 	 * 	#--------------------------------------------------------------------------------
@@ -290,6 +318,10 @@ public class RestMicroservice extends Microservice {
 	 * 	<ck>excludeProtocols</ck> = SSLv3
 	 * 	<ck>allowRenegotiate</ck> = false
 	 * </p>
+	 * <p>
+	 * HTTP and HTTPS connections are both handled by non-blocking select-channel connectors, so idle keep-alive
+	 * 	connections don't tie up request threads.
+	 * The current settings and state of the connector and thread pool can be retrieved through {@link #getServerStats()}.
 	 *
 	 * @return The newly-created server.
 	 * @throws Exception
@@ -303,6 +335,15 @@ public class RestMicroservice extends Microservice {
 		port = cf.getInt("REST/port", mf.getInt("Rest-Port", 8000));
 		String contextPath = cf.getString("REST/contextPath", mf.getString("Rest-ContextPath", "/"));
 
+		threadPool = new QueuedThreadPool();
+		threadPool.setName("RestMicroservice");
+		threadPool.setMinThreads(cf.getInt("REST/minThreads", 8));
+		threadPool.setMaxThreads(cf.getInt("REST/maxThreads", 254));
+		threadPool.setMaxIdleTimeMs(cf.getInt("REST/threadIdleTime", 60000));
+		threadPool.setMaxQueued(cf.getInt("REST/maxQueued", 10000));
+
+		SelectChannelConnector connector;
+
 		if (cf.getBoolean("REST/useSsl")) {
 
 			SslContextFactory sslContextFactory = new SslContextFactory();
@@ -323,16 +364,25 @@ public class RestMicroservice extends Microservice {
 
 			logger.log(Level.WARNING, "SSL properties set: {0}", JsonSerializer.DEFAULT_LAX.toString(m));
 
-			SslSocketConnector connector = new SslSocketConnector(sslContextFactory);
-			connector.setPort(port);
-
-			server = new Server();
-			server.setConnectors(new Connector[] { connector });
+			connector = new SslSelectChannelConnector(sslContextFactory);
 
 		} else {
-			server = new Server(port);
+			connector = new SelectChannelConnector();
 		}
 
+		connector.setPort(port);
+		int acceptors = cf.getInt("REST/acceptors", 0);
+		if (acceptors > 0)
+			connector.setAcceptors(acceptors);
+		int acceptQueueSize = cf.getInt("REST/acceptQueueSize", 0);
+		if (acceptQueueSize > 0)
+			connector.setAcceptQueueSize(acceptQueueSize);
+		connector.setMaxIdleTime(cf.getInt("REST/maxIdleTime", 200000));
+
+		server = new Server();
+		server.setThreadPool(threadPool);
+		server.setConnectors(new Connector[] { connector });
+
 		ServletContextHandler context = new ServletContextHandler(ServletContextHandler.SESSIONS);
 
 		String authType = cf.getString("REST/authType", mf.getString("Rest-AuthType", "NONE"));
@@ -363,6 +413,43 @@ public class RestMicroservice extends Microservice {
 		server.join();
 	}
 
+	/**
+	 * Returns the current settings and state of the Jetty connectors and thread pool.
+	 * <p>
+	 * Can be used by resources to monitor the server.
+	 *
+	 * @return A map containing the thread pool values and a <js>"connectors"</js> list with the settings of each connector.
+	 * 	Empty if the server hasn't been created yet.
+	 */
+	public ObjectMap getServerStats() {
+		ObjectMap m = new ObjectMap();
+		if (threadPool != null) {
+			m.append("threads", threadPool.getThreads())
+				.append("idleThreads", threadPool.getIdleThreads())
+				.append("minThreads", threadPool.getMinThreads())
+				.append("maxThreads", threadPool.getMaxThreads())
+				.append("maxQueued", threadPool.getMaxQueued())
+				.append("threadIdleTime", threadPool.getMaxIdleTimeMs())
+				.append("lowOnThreads", threadPool.isLowOnThreads());
+		}
+		if (server != null) {
+			ObjectList l = new ObjectList();
+			for (Connector c : server.getConnectors()) {
+				ObjectMap cm = new ObjectMap()
+					.append("name", c.getName())
+					.append("port", c.getPort())
+					.append("maxIdleTime", c.getMaxIdleTime());
+				if (c instanceof AbstractConnector) {
+					AbstractConnector ac = (AbstractConnector)c;
+					cm.append("acceptors", ac.getAcceptors()).append("acceptQueueSize", ac.getAcceptQueueSize());
+				}
+				l.add(cm);
+			}
+			m.append("connectors", l);
+		}
+		return m;
+	}
+
 	/**
 	 * Returns the resource map to use for this microservice.
 	 * <p>
@@ -218,14 +218,13 @@ public class DirectoryResource extends Resource {
 	 * 	Applies to files only.
 	 *
 	 * @param req The HTTP request.
-	 * @param res The HTTP response.
-	 * @return A Reader containing the contents of the file.
+	 * @return The contents of the file, transferred directly from disk.
 	 * @throws Exception - If file could not be read or access was not granted.
 	 */
 	@RestMethod(name="DOWNLOAD", path="/*",
 		description="Download the contents of a file.\nApplies to files only."
 	)
-	public Reader doDownload(RestRequest req, RestResponse res) throws Exception {
+	public StreamResource doDownload(RestRequest req) throws Exception {
 		checkAccess(req);
 
 		File f = new File(rootDir.getAbsolutePath() + req.getPathInfo());
@@ -236,8 +235,7 @@ public class DirectoryResource extends Resource {
 		if (f.isDirectory())
 			throw new RestException(SC_METHOD_NOT_ALLOWED, "DOWNLOAD not available on directories");
 
-		res.setContentType("application");
-		return new FileReader(f);
+		return new StreamResource(f, "application/octet-stream");
 	}
 
 	/**
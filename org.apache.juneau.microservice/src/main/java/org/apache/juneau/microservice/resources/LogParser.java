@@ -63,6 +63,8 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 			if (e.matches())
 				next = e;
 		}
+		if (next == null)
+			close();
 	}
 
 	@Override /* Iterator */
@@ -88,6 +90,10 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 						prev.addText(e.line);
 				}
 			}
+			// Release the file as soon as the last entry has been read since serializers
+			// stream this object and never call close().
+			if (next == null)
+				close();
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
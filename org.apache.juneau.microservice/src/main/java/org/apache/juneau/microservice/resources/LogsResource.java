@@ -200,22 +200,19 @@ public class LogsResource extends Resource {
 	/**
 	 * [DOWNLOAD /*] - Download file.
 	 *
-	 * @param res The HTTP response.
 	 * @param path The log file path.
-	 * @return The contents of the log file.
+	 * @return The contents of the log file, transferred directly from disk.
 	 * @throws Exception
 	 */
 	@RestMethod(name="DOWNLOAD", path="/*", rc={200,404})
-	public Object downloadFile(RestResponse res, @PathRemainder String path) throws Exception {
+	public Object downloadFile(@PathRemainder String path) throws Exception {
 
 		File f = getFile(path);
 
 		if (f.isDirectory())
 			throw new RestException(SC_METHOD_NOT_ALLOWED, "Download not available on directories");
 
-		res.setContentType("application/octet-stream"); //$NON-NLS-1$
-		res.setContentLength((int)f.length());
-		return new FileInputStream(f);
+		return new StreamResource(f, "application/octet-stream"); //$NON-NLS-1$
 	}
 
 	/**
@@ -24,6 +24,7 @@ import org.apache.juneau.server.labels.*;
 		TestCallbackStrings.class,
 		TestCharsetEncodings.class,
 		TestClientVersion.class,
+		TestConditionalGet.class,
 		TestConfig.class,
 		TestContent.class,
 		TestDefaultContentTypes.class,
@@ -32,6 +33,7 @@ import org.apache.juneau.server.labels.*;
 		TestGroups.class,
 		TestGzip.TestGzipOff.class,
 		TestGzip.TestGzipOn.class,
+		TestGzip.TestGzipThreshold.class,
 		TestInheritance.TestEncoders.class,
 		TestInheritance.TestTransforms.class,
 		TestInheritance.TestParsers.class,
@@ -52,7 +54,9 @@ import org.apache.juneau.server.labels.*;
 		TestPath.class,
 		TestPaths.class,
 		TestProperties.class,
+		TestResponseCache.class,
 		TestRestClient2.class,
+		TestRouting.class,
 		TestSerializers.class,
 		TestStaticFiles.class,
 		TestUris.class,
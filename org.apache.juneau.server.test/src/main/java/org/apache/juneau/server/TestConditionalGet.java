@@ -0,0 +1,64 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static org.apache.juneau.server.RestServletContext.*;
+
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.server.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testConditionalGet",
+	serializers=PlainTextSerializer.class,
+	staticFiles="{xdocs:'xdocs'}"
+)
+public class TestConditionalGet extends RestServlet {
+	private static final long serialVersionUID = 1L;
+
+	private int version = 1;
+
+	//====================================================================================================
+	// Generated ETags
+	//====================================================================================================
+	@RestMethod(name="GET", path="/generated", properties=@Property(name=REST_generateETags, value="true"))
+	public String testGenerated() {
+		return "foo";
+	}
+
+	//====================================================================================================
+	// Resource-supplied ETags
+	//====================================================================================================
+	@RestMethod(name="GET", path="/versioned")
+	public String testVersioned(RestResponse res) {
+		if (res.checkNotModified(String.valueOf(version), -1))
+			return null;
+		return "version" + version;
+	}
+
+	@RestMethod(name="PUT", path="/versioned")
+	public String incrementVersion() {
+		version++;
+		return "OK";
+	}
+
+	//====================================================================================================
+	// Static files
+	//====================================================================================================
+	@RestMethod(name="GET", path="/*")
+	public String testXdocs() {
+		return null;
+	}
+}
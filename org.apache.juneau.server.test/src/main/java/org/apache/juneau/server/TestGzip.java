@@ -12,6 +12,8 @@
  ***************************************************************************************************************************/
 package org.apache.juneau.server;
 
+import static org.apache.juneau.server.RestServletContext.*;
+
 import java.io.*;
 
 import org.apache.juneau.encoders.*;
@@ -60,7 +62,8 @@ public class TestGzip {
 		path="/testGzipOn",
 		serializers=PlainTextSerializer.class,
 		parsers=PlainTextParser.class,
-		encoders=MyEncoder.class
+		encoders=MyEncoder.class,
+		staticFiles="{xdocs:'xdocs'}"
 	)
 	public static class TestGzipOn extends RestServlet {
 		private static final long serialVersionUID = 1L;
@@ -107,4 +110,33 @@ public class TestGzip {
 			w.flush();
 		}
 	}
+
+	//====================================================================================================
+	// Test with a compression threshold.
+	//====================================================================================================
+	@RestResource(
+		path="/testGzipThreshold",
+		serializers=PlainTextSerializer.class,
+		parsers=PlainTextParser.class,
+		encoders={GzipEncoder.class,MyEncoder.class},
+		properties=@Property(name=REST_compressionThreshold, value="100")
+	)
+	public static class TestGzipThreshold extends RestServlet {
+		private static final long serialVersionUID = 1L;
+
+		// Smaller than the threshold, so should not be compressed.
+		@RestMethod(name="GET", path="/small")
+		public String small() {
+			return "foo";
+		}
+
+		// Larger than the threshold, so should be compressed.
+		@RestMethod(name="GET", path="/large")
+		public String large() {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 100; i++)
+				sb.append("0123456789");
+			return sb.toString();
+		}
+	}
 }
@@ -0,0 +1,114 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.server.RestServletContext.*;
+
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.server.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testResponseCache",
+	serializers=PlainTextSerializer.class
+)
+public class TestResponseCache extends RestServlet {
+	private static final long serialVersionUID = 1L;
+
+	private int basicCount, ttlCount, varyCount, largeCount, errorCount, invalidateCount, statsCount, eTagCount, lastModifiedCount;
+
+	//====================================================================================================
+	// Cached responses are written without invoking the method.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/basic", cache=@Cache(ttl=60))
+	public String testBasic(RestResponse res) {
+		res.setHeader("X-Custom", "foo");
+		return "basic" + (++basicCount);
+	}
+
+	//====================================================================================================
+	// Cached responses expire.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/ttl", cache=@Cache(ttl=1))
+	public String testTtl() {
+		return "ttl" + (++ttlCount);
+	}
+
+	//====================================================================================================
+	// Cached responses vary by the specified parameters and headers.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/vary", cache=@Cache(ttl=60, varyParams="p", varyHeaders="X-Foo"))
+	public String testVary(@Param("p") String p, @Header("X-Foo") String foo) {
+		return "vary" + (++varyCount) + "/" + p + "/" + foo;
+	}
+
+	//====================================================================================================
+	// Responses larger than maxEntrySize aren't cached.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/large", cache=@Cache(ttl=60, maxEntrySize=10))
+	public String testLarge() {
+		return "large" + (++largeCount) + "-0123456789";
+	}
+
+	//====================================================================================================
+	// Error responses aren't cached.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/error", cache=@Cache(ttl=60))
+	public String testError() {
+		throw new RestException(SC_NOT_FOUND, "error{0}", ++errorCount);
+	}
+
+	//====================================================================================================
+	// Cached responses can be invalidated by URI prefix.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/invalidate/{id}", cache=@Cache(ttl=60))
+	public String testInvalidate(@Attr("id") String id) {
+		return id + (++invalidateCount);
+	}
+
+	@RestMethod(name="DELETE", path="/invalidate")
+	public String invalidate(@Param("prefix") String prefix) {
+		invalidateResponseCache(prefix);
+		return "OK";
+	}
+
+	//====================================================================================================
+	// Cache statistics.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/stats", cache=@Cache(ttl=60, maxEntries=2))
+	public String testStats() {
+		return "stats" + (++statsCount);
+	}
+
+	@RestMethod(name="GET", path="/stats/testStats")
+	public String getStats() {
+		return getResponseCacheStats().getObjectMap("testStats").toString();
+	}
+
+	//====================================================================================================
+	// Cached responses are checked against If-None-Match and If-Modified-Since.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/eTag", cache=@Cache(ttl=60), properties=@Property(name=REST_generateETags, value="true"))
+	public String testETag() {
+		return "eTag" + (++eTagCount);
+	}
+
+	@RestMethod(name="GET", path="/lastModified", cache=@Cache(ttl=60))
+	public String testLastModified(RestResponse res) {
+		res.setDateHeader("Last-Modified", 1000000000000L);
+		return "lastModified" + (++lastModifiedCount);
+	}
+}
@@ -0,0 +1,1186 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.server.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Benchmark resource with 200 GET routes used to measure path routing in RestServlet.
+ * <p>
+ * 	The routes are made up of 50 groups of the following 4 patterns:
+ * <ul>
+ * 	<li><code>/rN</code>
+ * 	<li><code>/rN/{id}</code>
+ * 	<li><code>/rN/{id}/sub</code>
+ * 	<li><code>/rN/*</code>
+ * </ul>
+ */
+@RestResource(
+	path="/testRouting",
+	serializers=PlainTextSerializer.class
+)
+public class TestRouting extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	//====================================================================================================
+	// Group 0
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r0")
+	public String r0() {
+		return "r0";
+	}
+
+	@RestMethod(name="GET", path="/r0/{id}")
+	public String r0Id(@Attr String id) {
+		return "r0/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r0/{id}/sub")
+	public String r0Sub(@Attr String id) {
+		return "r0/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r0/*")
+	public String r0Remainder(@PathRemainder String remainder) {
+		return "r0/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 1
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r1")
+	public String r1() {
+		return "r1";
+	}
+
+	@RestMethod(name="GET", path="/r1/{id}")
+	public String r1Id(@Attr String id) {
+		return "r1/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r1/{id}/sub")
+	public String r1Sub(@Attr String id) {
+		return "r1/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r1/*")
+	public String r1Remainder(@PathRemainder String remainder) {
+		return "r1/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 2
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r2")
+	public String r2() {
+		return "r2";
+	}
+
+	@RestMethod(name="GET", path="/r2/{id}")
+	public String r2Id(@Attr String id) {
+		return "r2/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r2/{id}/sub")
+	public String r2Sub(@Attr String id) {
+		return "r2/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r2/*")
+	public String r2Remainder(@PathRemainder String remainder) {
+		return "r2/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 3
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r3")
+	public String r3() {
+		return "r3";
+	}
+
+	@RestMethod(name="GET", path="/r3/{id}")
+	public String r3Id(@Attr String id) {
+		return "r3/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r3/{id}/sub")
+	public String r3Sub(@Attr String id) {
+		return "r3/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r3/*")
+	public String r3Remainder(@PathRemainder String remainder) {
+		return "r3/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 4
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r4")
+	public String r4() {
+		return "r4";
+	}
+
+	@RestMethod(name="GET", path="/r4/{id}")
+	public String r4Id(@Attr String id) {
+		return "r4/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r4/{id}/sub")
+	public String r4Sub(@Attr String id) {
+		return "r4/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r4/*")
+	public String r4Remainder(@PathRemainder String remainder) {
+		return "r4/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 5
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r5")
+	public String r5() {
+		return "r5";
+	}
+
+	@RestMethod(name="GET", path="/r5/{id}")
+	public String r5Id(@Attr String id) {
+		return "r5/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r5/{id}/sub")
+	public String r5Sub(@Attr String id) {
+		return "r5/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r5/*")
+	public String r5Remainder(@PathRemainder String remainder) {
+		return "r5/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 6
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r6")
+	public String r6() {
+		return "r6";
+	}
+
+	@RestMethod(name="GET", path="/r6/{id}")
+	public String r6Id(@Attr String id) {
+		return "r6/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r6/{id}/sub")
+	public String r6Sub(@Attr String id) {
+		return "r6/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r6/*")
+	public String r6Remainder(@PathRemainder String remainder) {
+		return "r6/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 7
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r7")
+	public String r7() {
+		return "r7";
+	}
+
+	@RestMethod(name="GET", path="/r7/{id}")
+	public String r7Id(@Attr String id) {
+		return "r7/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r7/{id}/sub")
+	public String r7Sub(@Attr String id) {
+		return "r7/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r7/*")
+	public String r7Remainder(@PathRemainder String remainder) {
+		return "r7/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 8
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r8")
+	public String r8() {
+		return "r8";
+	}
+
+	@RestMethod(name="GET", path="/r8/{id}")
+	public String r8Id(@Attr String id) {
+		return "r8/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r8/{id}/sub")
+	public String r8Sub(@Attr String id) {
+		return "r8/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r8/*")
+	public String r8Remainder(@PathRemainder String remainder) {
+		return "r8/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 9
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r9")
+	public String r9() {
+		return "r9";
+	}
+
+	@RestMethod(name="GET", path="/r9/{id}")
+	public String r9Id(@Attr String id) {
+		return "r9/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r9/{id}/sub")
+	public String r9Sub(@Attr String id) {
+		return "r9/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r9/*")
+	public String r9Remainder(@PathRemainder String remainder) {
+		return "r9/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 10
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r10")
+	public String r10() {
+		return "r10";
+	}
+
+	@RestMethod(name="GET", path="/r10/{id}")
+	public String r10Id(@Attr String id) {
+		return "r10/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r10/{id}/sub")
+	public String r10Sub(@Attr String id) {
+		return "r10/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r10/*")
+	public String r10Remainder(@PathRemainder String remainder) {
+		return "r10/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 11
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r11")
+	public String r11() {
+		return "r11";
+	}
+
+	@RestMethod(name="GET", path="/r11/{id}")
+	public String r11Id(@Attr String id) {
+		return "r11/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r11/{id}/sub")
+	public String r11Sub(@Attr String id) {
+		return "r11/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r11/*")
+	public String r11Remainder(@PathRemainder String remainder) {
+		return "r11/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 12
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r12")
+	public String r12() {
+		return "r12";
+	}
+
+	@RestMethod(name="GET", path="/r12/{id}")
+	public String r12Id(@Attr String id) {
+		return "r12/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r12/{id}/sub")
+	public String r12Sub(@Attr String id) {
+		return "r12/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r12/*")
+	public String r12Remainder(@PathRemainder String remainder) {
+		return "r12/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 13
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r13")
+	public String r13() {
+		return "r13";
+	}
+
+	@RestMethod(name="GET", path="/r13/{id}")
+	public String r13Id(@Attr String id) {
+		return "r13/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r13/{id}/sub")
+	public String r13Sub(@Attr String id) {
+		return "r13/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r13/*")
+	public String r13Remainder(@PathRemainder String remainder) {
+		return "r13/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 14
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r14")
+	public String r14() {
+		return "r14";
+	}
+
+	@RestMethod(name="GET", path="/r14/{id}")
+	public String r14Id(@Attr String id) {
+		return "r14/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r14/{id}/sub")
+	public String r14Sub(@Attr String id) {
+		return "r14/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r14/*")
+	public String r14Remainder(@PathRemainder String remainder) {
+		return "r14/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 15
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r15")
+	public String r15() {
+		return "r15";
+	}
+
+	@RestMethod(name="GET", path="/r15/{id}")
+	public String r15Id(@Attr String id) {
+		return "r15/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r15/{id}/sub")
+	public String r15Sub(@Attr String id) {
+		return "r15/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r15/*")
+	public String r15Remainder(@PathRemainder String remainder) {
+		return "r15/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 16
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r16")
+	public String r16() {
+		return "r16";
+	}
+
+	@RestMethod(name="GET", path="/r16/{id}")
+	public String r16Id(@Attr String id) {
+		return "r16/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r16/{id}/sub")
+	public String r16Sub(@Attr String id) {
+		return "r16/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r16/*")
+	public String r16Remainder(@PathRemainder String remainder) {
+		return "r16/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 17
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r17")
+	public String r17() {
+		return "r17";
+	}
+
+	@RestMethod(name="GET", path="/r17/{id}")
+	public String r17Id(@Attr String id) {
+		return "r17/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r17/{id}/sub")
+	public String r17Sub(@Attr String id) {
+		return "r17/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r17/*")
+	public String r17Remainder(@PathRemainder String remainder) {
+		return "r17/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 18
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r18")
+	public String r18() {
+		return "r18";
+	}
+
+	@RestMethod(name="GET", path="/r18/{id}")
+	public String r18Id(@Attr String id) {
+		return "r18/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r18/{id}/sub")
+	public String r18Sub(@Attr String id) {
+		return "r18/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r18/*")
+	public String r18Remainder(@PathRemainder String remainder) {
+		return "r18/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 19
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r19")
+	public String r19() {
+		return "r19";
+	}
+
+	@RestMethod(name="GET", path="/r19/{id}")
+	public String r19Id(@Attr String id) {
+		return "r19/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r19/{id}/sub")
+	public String r19Sub(@Attr String id) {
+		return "r19/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r19/*")
+	public String r19Remainder(@PathRemainder String remainder) {
+		return "r19/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 20
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r20")
+	public String r20() {
+		return "r20";
+	}
+
+	@RestMethod(name="GET", path="/r20/{id}")
+	public String r20Id(@Attr String id) {
+		return "r20/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r20/{id}/sub")
+	public String r20Sub(@Attr String id) {
+		return "r20/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r20/*")
+	public String r20Remainder(@PathRemainder String remainder) {
+		return "r20/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 21
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r21")
+	public String r21() {
+		return "r21";
+	}
+
+	@RestMethod(name="GET", path="/r21/{id}")
+	public String r21Id(@Attr String id) {
+		return "r21/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r21/{id}/sub")
+	public String r21Sub(@Attr String id) {
+		return "r21/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r21/*")
+	public String r21Remainder(@PathRemainder String remainder) {
+		return "r21/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 22
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r22")
+	public String r22() {
+		return "r22";
+	}
+
+	@RestMethod(name="GET", path="/r22/{id}")
+	public String r22Id(@Attr String id) {
+		return "r22/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r22/{id}/sub")
+	public String r22Sub(@Attr String id) {
+		return "r22/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r22/*")
+	public String r22Remainder(@PathRemainder String remainder) {
+		return "r22/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 23
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r23")
+	public String r23() {
+		return "r23";
+	}
+
+	@RestMethod(name="GET", path="/r23/{id}")
+	public String r23Id(@Attr String id) {
+		return "r23/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r23/{id}/sub")
+	public String r23Sub(@Attr String id) {
+		return "r23/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r23/*")
+	public String r23Remainder(@PathRemainder String remainder) {
+		return "r23/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 24
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r24")
+	public String r24() {
+		return "r24";
+	}
+
+	@RestMethod(name="GET", path="/r24/{id}")
+	public String r24Id(@Attr String id) {
+		return "r24/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r24/{id}/sub")
+	public String r24Sub(@Attr String id) {
+		return "r24/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r24/*")
+	public String r24Remainder(@PathRemainder String remainder) {
+		return "r24/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 25
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r25")
+	public String r25() {
+		return "r25";
+	}
+
+	@RestMethod(name="GET", path="/r25/{id}")
+	public String r25Id(@Attr String id) {
+		return "r25/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r25/{id}/sub")
+	public String r25Sub(@Attr String id) {
+		return "r25/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r25/*")
+	public String r25Remainder(@PathRemainder String remainder) {
+		return "r25/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 26
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r26")
+	public String r26() {
+		return "r26";
+	}
+
+	@RestMethod(name="GET", path="/r26/{id}")
+	public String r26Id(@Attr String id) {
+		return "r26/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r26/{id}/sub")
+	public String r26Sub(@Attr String id) {
+		return "r26/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r26/*")
+	public String r26Remainder(@PathRemainder String remainder) {
+		return "r26/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 27
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r27")
+	public String r27() {
+		return "r27";
+	}
+
+	@RestMethod(name="GET", path="/r27/{id}")
+	public String r27Id(@Attr String id) {
+		return "r27/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r27/{id}/sub")
+	public String r27Sub(@Attr String id) {
+		return "r27/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r27/*")
+	public String r27Remainder(@PathRemainder String remainder) {
+		return "r27/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 28
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r28")
+	public String r28() {
+		return "r28";
+	}
+
+	@RestMethod(name="GET", path="/r28/{id}")
+	public String r28Id(@Attr String id) {
+		return "r28/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r28/{id}/sub")
+	public String r28Sub(@Attr String id) {
+		return "r28/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r28/*")
+	public String r28Remainder(@PathRemainder String remainder) {
+		return "r28/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 29
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r29")
+	public String r29() {
+		return "r29";
+	}
+
+	@RestMethod(name="GET", path="/r29/{id}")
+	public String r29Id(@Attr String id) {
+		return "r29/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r29/{id}/sub")
+	public String r29Sub(@Attr String id) {
+		return "r29/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r29/*")
+	public String r29Remainder(@PathRemainder String remainder) {
+		return "r29/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 30
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r30")
+	public String r30() {
+		return "r30";
+	}
+
+	@RestMethod(name="GET", path="/r30/{id}")
+	public String r30Id(@Attr String id) {
+		return "r30/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r30/{id}/sub")
+	public String r30Sub(@Attr String id) {
+		return "r30/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r30/*")
+	public String r30Remainder(@PathRemainder String remainder) {
+		return "r30/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 31
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r31")
+	public String r31() {
+		return "r31";
+	}
+
+	@RestMethod(name="GET", path="/r31/{id}")
+	public String r31Id(@Attr String id) {
+		return "r31/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r31/{id}/sub")
+	public String r31Sub(@Attr String id) {
+		return "r31/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r31/*")
+	public String r31Remainder(@PathRemainder String remainder) {
+		return "r31/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 32
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r32")
+	public String r32() {
+		return "r32";
+	}
+
+	@RestMethod(name="GET", path="/r32/{id}")
+	public String r32Id(@Attr String id) {
+		return "r32/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r32/{id}/sub")
+	public String r32Sub(@Attr String id) {
+		return "r32/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r32/*")
+	public String r32Remainder(@PathRemainder String remainder) {
+		return "r32/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 33
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r33")
+	public String r33() {
+		return "r33";
+	}
+
+	@RestMethod(name="GET", path="/r33/{id}")
+	public String r33Id(@Attr String id) {
+		return "r33/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r33/{id}/sub")
+	public String r33Sub(@Attr String id) {
+		return "r33/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r33/*")
+	public String r33Remainder(@PathRemainder String remainder) {
+		return "r33/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 34
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r34")
+	public String r34() {
+		return "r34";
+	}
+
+	@RestMethod(name="GET", path="/r34/{id}")
+	public String r34Id(@Attr String id) {
+		return "r34/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r34/{id}/sub")
+	public String r34Sub(@Attr String id) {
+		return "r34/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r34/*")
+	public String r34Remainder(@PathRemainder String remainder) {
+		return "r34/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 35
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r35")
+	public String r35() {
+		return "r35";
+	}
+
+	@RestMethod(name="GET", path="/r35/{id}")
+	public String r35Id(@Attr String id) {
+		return "r35/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r35/{id}/sub")
+	public String r35Sub(@Attr String id) {
+		return "r35/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r35/*")
+	public String r35Remainder(@PathRemainder String remainder) {
+		return "r35/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 36
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r36")
+	public String r36() {
+		return "r36";
+	}
+
+	@RestMethod(name="GET", path="/r36/{id}")
+	public String r36Id(@Attr String id) {
+		return "r36/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r36/{id}/sub")
+	public String r36Sub(@Attr String id) {
+		return "r36/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r36/*")
+	public String r36Remainder(@PathRemainder String remainder) {
+		return "r36/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 37
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r37")
+	public String r37() {
+		return "r37";
+	}
+
+	@RestMethod(name="GET", path="/r37/{id}")
+	public String r37Id(@Attr String id) {
+		return "r37/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r37/{id}/sub")
+	public String r37Sub(@Attr String id) {
+		return "r37/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r37/*")
+	public String r37Remainder(@PathRemainder String remainder) {
+		return "r37/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 38
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r38")
+	public String r38() {
+		return "r38";
+	}
+
+	@RestMethod(name="GET", path="/r38/{id}")
+	public String r38Id(@Attr String id) {
+		return "r38/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r38/{id}/sub")
+	public String r38Sub(@Attr String id) {
+		return "r38/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r38/*")
+	public String r38Remainder(@PathRemainder String remainder) {
+		return "r38/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 39
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r39")
+	public String r39() {
+		return "r39";
+	}
+
+	@RestMethod(name="GET", path="/r39/{id}")
+	public String r39Id(@Attr String id) {
+		return "r39/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r39/{id}/sub")
+	public String r39Sub(@Attr String id) {
+		return "r39/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r39/*")
+	public String r39Remainder(@PathRemainder String remainder) {
+		return "r39/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 40
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r40")
+	public String r40() {
+		return "r40";
+	}
+
+	@RestMethod(name="GET", path="/r40/{id}")
+	public String r40Id(@Attr String id) {
+		return "r40/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r40/{id}/sub")
+	public String r40Sub(@Attr String id) {
+		return "r40/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r40/*")
+	public String r40Remainder(@PathRemainder String remainder) {
+		return "r40/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 41
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r41")
+	public String r41() {
+		return "r41";
+	}
+
+	@RestMethod(name="GET", path="/r41/{id}")
+	public String r41Id(@Attr String id) {
+		return "r41/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r41/{id}/sub")
+	public String r41Sub(@Attr String id) {
+		return "r41/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r41/*")
+	public String r41Remainder(@PathRemainder String remainder) {
+		return "r41/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 42
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r42")
+	public String r42() {
+		return "r42";
+	}
+
+	@RestMethod(name="GET", path="/r42/{id}")
+	public String r42Id(@Attr String id) {
+		return "r42/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r42/{id}/sub")
+	public String r42Sub(@Attr String id) {
+		return "r42/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r42/*")
+	public String r42Remainder(@PathRemainder String remainder) {
+		return "r42/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 43
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r43")
+	public String r43() {
+		return "r43";
+	}
+
+	@RestMethod(name="GET", path="/r43/{id}")
+	public String r43Id(@Attr String id) {
+		return "r43/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r43/{id}/sub")
+	public String r43Sub(@Attr String id) {
+		return "r43/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r43/*")
+	public String r43Remainder(@PathRemainder String remainder) {
+		return "r43/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 44
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r44")
+	public String r44() {
+		return "r44";
+	}
+
+	@RestMethod(name="GET", path="/r44/{id}")
+	public String r44Id(@Attr String id) {
+		return "r44/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r44/{id}/sub")
+	public String r44Sub(@Attr String id) {
+		return "r44/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r44/*")
+	public String r44Remainder(@PathRemainder String remainder) {
+		return "r44/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 45
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r45")
+	public String r45() {
+		return "r45";
+	}
+
+	@RestMethod(name="GET", path="/r45/{id}")
+	public String r45Id(@Attr String id) {
+		return "r45/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r45/{id}/sub")
+	public String r45Sub(@Attr String id) {
+		return "r45/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r45/*")
+	public String r45Remainder(@PathRemainder String remainder) {
+		return "r45/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 46
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r46")
+	public String r46() {
+		return "r46";
+	}
+
+	@RestMethod(name="GET", path="/r46/{id}")
+	public String r46Id(@Attr String id) {
+		return "r46/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r46/{id}/sub")
+	public String r46Sub(@Attr String id) {
+		return "r46/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r46/*")
+	public String r46Remainder(@PathRemainder String remainder) {
+		return "r46/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 47
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r47")
+	public String r47() {
+		return "r47";
+	}
+
+	@RestMethod(name="GET", path="/r47/{id}")
+	public String r47Id(@Attr String id) {
+		return "r47/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r47/{id}/sub")
+	public String r47Sub(@Attr String id) {
+		return "r47/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r47/*")
+	public String r47Remainder(@PathRemainder String remainder) {
+		return "r47/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 48
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r48")
+	public String r48() {
+		return "r48";
+	}
+
+	@RestMethod(name="GET", path="/r48/{id}")
+	public String r48Id(@Attr String id) {
+		return "r48/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r48/{id}/sub")
+	public String r48Sub(@Attr String id) {
+		return "r48/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r48/*")
+	public String r48Remainder(@PathRemainder String remainder) {
+		return "r48/*:" + remainder;
+	}
+
+	//====================================================================================================
+	// Group 49
+	//====================================================================================================
+	@RestMethod(name="GET", path="/r49")
+	public String r49() {
+		return "r49";
+	}
+
+	@RestMethod(name="GET", path="/r49/{id}")
+	public String r49Id(@Attr String id) {
+		return "r49/" + id;
+	}
+
+	@RestMethod(name="GET", path="/r49/{id}/sub")
+	public String r49Sub(@Attr String id) {
+		return "r49/" + id + "/sub";
+	}
+
+	@RestMethod(name="GET", path="/r49/*")
+	public String r49Remainder(@PathRemainder String remainder) {
+		return "r49/*:" + remainder;
+	}
+}
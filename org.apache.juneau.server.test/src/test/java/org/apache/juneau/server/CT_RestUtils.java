@@ -185,4 +185,29 @@ public class CT_RestUtils {
 		assertEquals("/foo/bar", trimTrailingSlashes(new StringBuffer("/foo/bar//")).toString());
 		assertEquals("//foo/bar", trimTrailingSlashes(new StringBuffer("//foo/bar//")).toString());
 	}
+
+	//====================================================================================================
+	// createETag(byte[])
+	//====================================================================================================
+	@Test
+	public void testCreateETag() throws Exception {
+		assertEquals("\"d41d8cd98f00b204e9800998ecf8427e\"", createETag(new byte[0]));
+		assertEquals(createETag("foo".getBytes()), createETag("foo".getBytes()));
+		assertFalse(createETag("foo".getBytes()).equals(createETag("bar".getBytes())));
+	}
+
+	//====================================================================================================
+	// matchesETag(String,String)
+	//====================================================================================================
+	@Test
+	public void testMatchesETag() throws Exception {
+		assertTrue(matchesETag("\"foo\"", "\"foo\""));
+		assertTrue(matchesETag("\"bar\", \"foo\"", "\"foo\""));
+		assertTrue(matchesETag("W/\"foo\"", "\"foo\""));
+		assertTrue(matchesETag("\"foo\"", "W/\"foo\""));
+		assertTrue(matchesETag("*", "\"foo\""));
+		assertFalse(matchesETag("\"bar\"", "\"foo\""));
+		assertFalse(matchesETag(null, "\"foo\""));
+		assertFalse(matchesETag("\"foo\"", null));
+	}
 }
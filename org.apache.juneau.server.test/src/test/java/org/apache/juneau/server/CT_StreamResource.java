@@ -0,0 +1,59 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+public class CT_StreamResource {
+
+	//====================================================================================================
+	// Files that grow after the resource is created are only streamed up to the original length.
+	//====================================================================================================
+	@Test
+	public void testGrowingFile() throws Exception {
+		File f = File.createTempFile("CT_StreamResource", ".log");
+		try {
+			write(f, "foo", false);
+			StreamResource r = new StreamResource(f, "text/plain");
+			write(f, "bar", true);
+
+			assertEquals(3, r.getContentLength());
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			r.streamTo(baos);
+			assertEquals("foo", baos.toString("UTF-8"));
+
+			r = new StreamResource(f.toURI().toURL(), "text/plain");
+			write(f, "baz", true);
+
+			assertEquals(6, r.getContentLength());
+			baos = new ByteArrayOutputStream();
+			r.streamTo(baos);
+			assertEquals("foobar", baos.toString("UTF-8"));
+		} finally {
+			f.delete();
+		}
+	}
+
+	private static void write(File f, String s, boolean append) throws IOException {
+		FileOutputStream fos = new FileOutputStream(f, append);
+		try {
+			fos.write(s.getBytes("UTF-8"));
+		} finally {
+			fos.close();
+		}
+	}
+}
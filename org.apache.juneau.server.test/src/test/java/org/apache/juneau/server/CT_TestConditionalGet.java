@@ -0,0 +1,95 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.client.*;
+import org.apache.juneau.plaintext.*;
+import org.junit.*;
+
+/**
+ * Test ETag, If-None-Match and If-Modified-Since handling.
+ */
+public class CT_TestConditionalGet {
+
+	private static String URL = "/testConditionalGet";
+
+	//====================================================================================================
+	// Generated ETags
+	//====================================================================================================
+	@Test
+	public void testGenerated() throws Exception {
+		RestClient client = new TestRestClient(PlainTextSerializer.class, PlainTextParser.class);
+		String url = URL + "/generated";
+		RestCall r;
+
+		r = client.doGet(url);
+		assertEquals("foo", r.getResponseAsString());
+		String eTag = r.getResponse().getFirstHeader("ETag").getValue();
+		assertEquals(RestUtils.createETag("foo".getBytes("UTF-8")), eTag);
+
+		r = client.doGet(url).setHeader("If-None-Match", eTag);
+		assertEquals(304, r.run());
+
+		r = client.doGet(url).setHeader("If-None-Match", "\"xxx\"");
+		assertEquals("foo", r.getResponseAsString());
+
+		client.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Resource-supplied ETags
+	//====================================================================================================
+	@Test
+	public void testVersioned() throws Exception {
+		RestClient client = new TestRestClient(PlainTextSerializer.class, PlainTextParser.class);
+		String url = URL + "/versioned";
+		RestCall r;
+
+		r = client.doGet(url);
+		String content = r.getResponseAsString();
+		String eTag = r.getResponse().getFirstHeader("ETag").getValue();
+		assertEquals("\"" + content.substring(7) + "\"", eTag);
+
+		r = client.doGet(url).setHeader("If-None-Match", eTag);
+		assertEquals(304, r.run());
+
+		client.doPut(url, "").run();
+
+		r = client.doGet(url).setHeader("If-None-Match", eTag);
+		assertEquals(200, r.run());
+		assertFalse(eTag.equals(r.getResponse().getFirstHeader("ETag").getValue()));
+
+		client.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Static files
+	//====================================================================================================
+	@Test
+	public void testStaticFiles() throws Exception {
+		RestClient client = new TestRestClient(PlainTextSerializer.class, PlainTextParser.class);
+		String url = URL + "/xdocs/test.txt";
+		RestCall r;
+
+		r = client.doGet(url);
+		assertEquals("OK-1", r.getResponseAsString());
+		String eTag = r.getResponse().getFirstHeader("ETag").getValue();
+
+		r = client.doGet(url).setHeader("If-None-Match", eTag);
+		assertEquals(304, r.run());
+
+		client.closeQuietly();
+	}
+}
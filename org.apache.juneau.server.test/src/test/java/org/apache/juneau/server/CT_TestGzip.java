@@ -36,6 +36,7 @@ public class CT_TestGzip {
 
 	private static String testGzipOff = "/testGzipOff";
 	private static String testGzipOn = "/testGzipOn";
+	private static String testGzipThreshold = "/testGzipThreshold";
 
 	// Converts string into a GZipped input stream.
 	private static InputStream compress(String contents) throws Exception {
@@ -341,4 +342,82 @@ public class CT_TestGzip {
 
 		c.closeQuietly();
 	}
+
+	//====================================================================================================
+	// Test precompressed static files.
+	//====================================================================================================
+	@Test
+	public void testGzipOnStaticFiles() throws Exception {
+		// Create a client that disables content compression support so that we can get the gzipped content directly.
+		CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(TestRestClient.getSSLSocketFactory()).disableContentCompression().build();
+		RestClient c = new TestRestClient(httpClient);
+		RestCall r;
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			sb.append("0123456789");
+		String expected = sb.toString();
+
+		// Compressible files are served precompressed.
+		for (int i = 0; i < 2; i++) {
+			r = c.doGet(testGzipOn + "/xdocs/compressible.txt").setHeader("Accept-Encoding", "mycoding");
+			assertEquals(expected, decompress(r.getInputStream()));
+			assertEquals("mycoding", r.getResponse().getFirstHeader("Content-Encoding").getValue());
+			assertTrue(r.getResponse().getFirstHeader("ETag").getValue().endsWith("-mycoding\""));
+		}
+
+		r = c.doGet(testGzipOn + "/xdocs/compressible.txt");
+		assertEquals(expected, r.getResponseAsString());
+		assertEquals(0, r.getResponse().getHeaders("Content-Encoding").length);
+
+		// Files that don't get smaller when compressed are served as-is.
+		r = c.doGet(testGzipOn + "/xdocs/test.txt").setHeader("Accept-Encoding", "mycoding");
+		assertEquals("OK-1", r.getResponseAsString());
+		assertEquals(0, r.getResponse().getHeaders("Content-Encoding").length);
+
+		// Directories aren't static files.
+		try {
+			c.doGet(testGzipOn + "/xdocs/xdocs?noTrace=true").connect();
+			fail("404 exception expected");
+		} catch (RestCallException e) {
+			assertEquals(404, e.getResponseCode());
+		}
+
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Test compression threshold.
+	//====================================================================================================
+	@Test
+	public void testGzipThreshold() throws Exception {
+		// Create a client that disables content compression support so that we can get the gzipped content directly.
+		CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(TestRestClient.getSSLSocketFactory()).disableContentCompression().build();
+		RestClient c = new TestRestClient(httpClient).setAccept("text/plain");
+		RestCall r;
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			sb.append("0123456789");
+		String expected = sb.toString();
+
+		// Responses smaller than the threshold are sent uncompressed.
+		r = c.doGet(testGzipThreshold + "/small").setHeader("Accept-Encoding", "mycoding");
+		assertEquals("foo", r.getResponseAsString());
+		assertEquals(0, r.getResponse().getHeaders("Content-Encoding").length);
+
+		// Responses larger than the threshold are compressed.
+		r = c.doGet(testGzipThreshold + "/large").setHeader("Accept-Encoding", "mycoding");
+		assertEquals(expected, decompress(r.getInputStream()));
+		assertEquals("mycoding", r.getResponse().getFirstHeader("Content-Encoding").getValue());
+
+		r = c.doGet(testGzipThreshold + "/large").setHeader("Accept-Encoding", "gzip");
+		assertEquals(expected, decompress(r.getInputStream()));
+		assertEquals("gzip", r.getResponse().getFirstHeader("Content-Encoding").getValue());
+
+		// Responses aren't compressed when no encoding is accepted.
+		r = c.doGet(testGzipThreshold + "/large");
+		assertEquals(expected, r.getResponseAsString());
+		assertEquals(0, r.getResponse().getHeaders("Content-Encoding").length);
+
+		c.closeQuietly();
+	}
 }
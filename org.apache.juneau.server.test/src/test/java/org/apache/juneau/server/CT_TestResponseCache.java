@@ -0,0 +1,169 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.server.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.client.*;
+import org.apache.juneau.plaintext.*;
+import org.junit.*;
+
+/**
+ * Test server-side response caching.
+ */
+public class CT_TestResponseCache {
+
+	private static String URL = "/testResponseCache";
+	private static boolean debug = false;
+	private static RestClient client;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		client = new TestRestClient(PlainTextSerializer.class, PlainTextParser.class);
+	}
+
+	@AfterClass
+	public static void afterClass() {
+		client.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Cached responses are written without invoking the method.
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		RestCall r;
+
+		assertEquals("basic1", client.doGet(URL + "/basic").getResponseAsString());
+
+		r = client.doGet(URL + "/basic");
+		assertEquals("basic1", r.getResponseAsString());
+		assertEquals("foo", r.getResponse().getFirstHeader("X-Custom").getValue());
+
+		// Different query strings are cached separately.
+		assertEquals("basic2", client.doGet(URL + "/basic?x=1").getResponseAsString());
+		assertEquals("basic2", client.doGet(URL + "/basic?x=1").getResponseAsString());
+		assertEquals("basic1", client.doGet(URL + "/basic").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Cached responses expire.
+	//====================================================================================================
+	@Test
+	public void testTtl() throws Exception {
+		assertEquals("ttl1", client.doGet(URL + "/ttl").getResponseAsString());
+		assertEquals("ttl1", client.doGet(URL + "/ttl").getResponseAsString());
+		Thread.sleep(1100);
+		assertEquals("ttl2", client.doGet(URL + "/ttl").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Cached responses vary by the specified parameters and headers.
+	//====================================================================================================
+	@Test
+	public void testVary() throws Exception {
+		assertEquals("vary1/a/x", client.doGet(URL + "/vary?p=a").setHeader("X-Foo", "x").getResponseAsString());
+		assertEquals("vary1/a/x", client.doGet(URL + "/vary?p=a").setHeader("X-Foo", "x").getResponseAsString());
+
+		// Other parameters are ignored.
+		assertEquals("vary1/a/x", client.doGet(URL + "/vary?p=a&q=b").setHeader("X-Foo", "x").getResponseAsString());
+
+		assertEquals("vary2/b/x", client.doGet(URL + "/vary?p=b").setHeader("X-Foo", "x").getResponseAsString());
+		assertEquals("vary3/a/y", client.doGet(URL + "/vary?p=a").setHeader("X-Foo", "y").getResponseAsString());
+		assertEquals("vary1/a/x", client.doGet(URL + "/vary?p=a").setHeader("X-Foo", "x").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Responses larger than maxEntrySize aren't cached.
+	//====================================================================================================
+	@Test
+	public void testMaxEntrySize() throws Exception {
+		assertEquals("large1-0123456789", client.doGet(URL + "/large").getResponseAsString());
+		assertEquals("large2-0123456789", client.doGet(URL + "/large").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Error responses aren't cached.
+	//====================================================================================================
+	@Test
+	public void testErrors() throws Exception {
+		for (int i = 1; i <= 2; i++) {
+			try {
+				client.doGet(URL + "/error").run();
+				fail("Exception expected");
+			} catch (RestCallException e) {
+				checkErrorResponse(debug, e, SC_NOT_FOUND, "error" + i);
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Cached responses can be invalidated by URI prefix.
+	//====================================================================================================
+	@Test
+	public void testInvalidate() throws Exception {
+		assertEquals("a1", client.doGet(URL + "/invalidate/a").getResponseAsString());
+		assertEquals("b2", client.doGet(URL + "/invalidate/b").getResponseAsString());
+		assertEquals("a1", client.doGet(URL + "/invalidate/a").getResponseAsString());
+
+		client.doDelete(URL + "/invalidate?prefix=" + URL + "/invalidate/a").run();
+		assertEquals("a3", client.doGet(URL + "/invalidate/a").getResponseAsString());
+		assertEquals("b2", client.doGet(URL + "/invalidate/b").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Cache statistics.
+	//====================================================================================================
+	@Test
+	public void testStats() throws Exception {
+		client.doGet(URL + "/stats").run();
+		client.doGet(URL + "/stats").run();
+		client.doGet(URL + "/stats").run();
+		assertEquals("{size:1,maxEntries:2,ttl:60,hits:2,misses:1,evictions:0}", client.doGet(URL + "/stats/testStats").getResponseAsString());
+
+		client.doGet(URL + "/stats?x=1").run();
+		client.doGet(URL + "/stats?x=2").run();
+		assertEquals("{size:2,maxEntries:2,ttl:60,hits:2,misses:3,evictions:1}", client.doGet(URL + "/stats/testStats").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Cached responses are checked against If-None-Match and If-Modified-Since.
+	//====================================================================================================
+	@Test
+	public void testConditional() throws Exception {
+		RestCall r;
+
+		r = client.doGet(URL + "/eTag");
+		assertEquals("eTag1", r.getResponseAsString());
+		String eTag = r.getResponse().getFirstHeader("ETag").getValue();
+
+		r = client.doGet(URL + "/eTag");
+		assertEquals("eTag1", r.getResponseAsString());
+		assertEquals(eTag, r.getResponse().getFirstHeader("ETag").getValue());
+
+		r = client.doGet(URL + "/eTag").setHeader("If-None-Match", eTag);
+		assertEquals(SC_NOT_MODIFIED, r.run());
+		assertEquals("eTag1", client.doGet(URL + "/eTag").getResponseAsString());
+
+		r = client.doGet(URL + "/lastModified");
+		assertEquals("lastModified1", r.getResponseAsString());
+		String lastModified = r.getResponse().getFirstHeader("Last-Modified").getValue();
+
+		r = client.doGet(URL + "/lastModified").setHeader("If-Modified-Since", lastModified);
+		assertEquals(SC_NOT_MODIFIED, r.run());
+		assertEquals(lastModified, r.getResponse().getFirstHeader("Last-Modified").getValue());
+		assertEquals("lastModified1", client.doGet(URL + "/lastModified").getResponseAsString());
+	}
+}
@@ -0,0 +1,71 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.server.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.client.*;
+import org.junit.*;
+
+public class CT_TestRouting {
+
+	private static String URL = "/testRouting";
+	private static boolean debug = false;
+
+	//====================================================================================================
+	// Routes are resolved the same way as a linear search through the methods.
+	//====================================================================================================
+	@Test
+	public void testRoutes() throws Exception {
+		RestClient client = new TestRestClient().setHeader("Accept", "text/plain");
+
+		assertEquals("r0", client.doGet(URL + "/r0").getResponseAsString());
+		assertEquals("r0/foo", client.doGet(URL + "/r0/foo").getResponseAsString());
+		assertEquals("r0/foo/sub", client.doGet(URL + "/r0/foo/sub").getResponseAsString());
+		assertEquals("r0/*:foo/bar", client.doGet(URL + "/r0/foo/bar").getResponseAsString());
+		assertEquals("r0/*:foo/sub/bar", client.doGet(URL + "/r0/foo/sub/bar").getResponseAsString());
+		assertEquals("r49", client.doGet(URL + "/r49").getResponseAsString());
+		assertEquals("r49/foo", client.doGet(URL + "/r49/foo").getResponseAsString());
+		assertEquals("r49/foo/sub", client.doGet(URL + "/r49/foo/sub").getResponseAsString());
+		assertEquals("r49/*:foo/bar", client.doGet(URL + "/r49/foo/bar").getResponseAsString());
+
+		try {
+			client.doGet(URL + "/r50?noTrace=true").connect();
+			fail("Exception expected");
+		} catch (RestCallException e) {
+			checkErrorResponse(debug, e, SC_NOT_FOUND, "Method 'GET' not found on resource with matching pattern on path '/r50'");
+		}
+
+		client.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Repeated requests to the first, middle and last methods resolve to the same routes every time.
+	//====================================================================================================
+	@Test
+	public void testRepeatedRoutes() throws Exception {
+		RestClient client = new TestRestClient().setHeader("Accept", "text/plain");
+		String[][] routes = {
+			{"/r0/foo/sub", "r0/foo/sub"},
+			{"/r49/foo/sub", "r49/foo/sub"},
+			{"/r25/foo", "r25/foo"},
+			{"/r12/foo/bar", "r12/*:foo/bar"}
+		};
+		for (int i = 0; i < 100; i++)
+			for (String[] r : routes)
+				assertEquals(r[1], client.doGet(URL + r[0]).getResponseAsString());
+		client.closeQuietly();
+	}
+}
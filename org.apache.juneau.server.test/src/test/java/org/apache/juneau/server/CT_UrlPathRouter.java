@@ -0,0 +1,92 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+public class CT_UrlPathRouter {
+
+	//====================================================================================================
+	// Candidates are a superset of the matching patterns.
+	//====================================================================================================
+	@Test
+	public void testCandidates() throws Exception {
+		UrlPathPattern[] p = {
+			new UrlPathPattern("/foo/bar"),
+			new UrlPathPattern("/foo/bar/*"),
+			new UrlPathPattern("/foo/{id}/bar"),
+			new UrlPathPattern("/foo/{id}"),
+			new UrlPathPattern("/foo"),
+			new UrlPathPattern("/foo/*"),
+			new UrlPathPattern("/"),
+			new UrlPathPattern("/*"),
+			new UrlPathPattern("/foo.json"),
+			new UrlPathPattern("/x-{id}"),
+		};
+		UrlPathRouter r = new UrlPathRouter(p);
+
+		assertEquals("{0, 1, 3, 5, 7, 8}", r.getCandidates("/foo/bar").toString());
+		assertEquals("{1, 2, 5, 7, 8}", r.getCandidates("/foo/bar/bar").toString());
+		assertEquals("{2, 5, 7, 8}", r.getCandidates("/foo/x/bar").toString());
+		assertEquals("{4, 5, 7, 8, 9}", r.getCandidates("/foo").toString());
+		assertEquals("{5, 7, 8}", r.getCandidates("/foo/").toString());
+		assertEquals("{6, 7, 8}", r.getCandidates("/").toString());
+		assertEquals("{7, 8, 9}", r.getCandidates("/x-1").toString());
+		assertEquals("{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}", r.getCandidates(null).toString());
+	}
+
+	//====================================================================================================
+	// The router finds the same patterns as a linear scan.
+	//====================================================================================================
+	@Test
+	public void testMatchesLinearScan() throws Exception {
+		List<UrlPathPattern> l = new ArrayList<UrlPathPattern>();
+		for (int i = 0; i < 50; i++) {
+			l.add(new UrlPathPattern("/r" + i));
+			l.add(new UrlPathPattern("/r" + i + "/{id}"));
+			l.add(new UrlPathPattern("/r" + i + "/{id}/sub"));
+			l.add(new UrlPathPattern("/r" + i + "/*"));
+		}
+		l.add(new UrlPathPattern("/"));
+		l.add(new UrlPathPattern("/*"));
+		Collections.sort(l);
+		UrlPathPattern[] p = l.toArray(new UrlPathPattern[l.size()]);
+		UrlPathRouter r = new UrlPathRouter(p);
+
+		String[] paths = {"/r0", "/r0/foo", "/r0/foo/sub", "/r49/foo/sub/bar", "/r50", "/", "/r1/", "/r1/foo/bar", null, "/r10/foo"};
+		for (String path : paths) {
+			BitSet bs = r.getCandidates(path);
+
+			// Every pattern that matches is a candidate.
+			int first = -1;
+			for (int i = 0; i < p.length; i++) {
+				if (p[i].match(path) != null) {
+					assertTrue(path + " did not return candidate " + p[i], bs.get(i));
+					if (first == -1)
+						first = i;
+				}
+			}
+
+			// The first matching candidate is the first matching pattern.
+			int first2 = -1;
+			for (int i = bs.nextSetBit(0); i >= 0 && first2 == -1; i = bs.nextSetBit(i+1))
+				if (p[i].match(path) != null)
+					first2 = i;
+			assertEquals(path, first, first2);
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.text.*;
+import java.util.*;
+
+import javax.servlet.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.server.annotation.*;
+
+/**
+ * In-memory cache of serialized and encoded response bodies for a REST method.
+ * <p>
+ * 	Created for methods where caching is enabled through the {@link Cache @Cache} annotation.
+ * 	See {@link Cache} for a description of how responses are keyed.
+ * <p>
+ * 	This class is thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class ResponseCache {
+
+	private static final String[] DEFAULT_VARY_HEADERS = {"Accept","Accept-Encoding","Accept-Charset","Accept-Language"};
+
+	// Response headers that are never replayed from the cache.
+	private static final Set<String> EXCLUDED_HEADERS = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+	static {
+		EXCLUDED_HEADERS.addAll(Arrays.asList("Content-Type","Content-Length","Date","Set-Cookie","Transfer-Encoding","Connection"));
+	}
+
+	private final long ttl;
+	private final int maxEntries, maxEntrySize;
+	private final String[] varyHeaders, varyParams;
+	private final LinkedHashMap<String,Entry> map;
+	private long hits, misses, evictions;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param c The cache settings.
+	 */
+	public ResponseCache(Cache c) {
+		this.ttl = c.ttl() * 1000L;
+		this.maxEntries = c.maxEntries();
+		this.maxEntrySize = c.maxEntrySize();
+		List<String> l = new ArrayList<String>(Arrays.asList(DEFAULT_VARY_HEADERS));
+		l.addAll(Arrays.asList(c.varyHeaders()));
+		this.varyHeaders = l.toArray(new String[l.size()]);
+		this.varyParams = c.varyParams();
+		this.map = new LinkedHashMap<String,Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override /* LinkedHashMap */
+			protected boolean removeEldestEntry(Map.Entry<String,ResponseCache.Entry> eldest) {
+				if (size() > maxEntries) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Writes the cached response for the specified request if there is one.
+	 * <p>
+	 * 	The cached response headers are replayed, and the status is set to <code>304 Not Modified</code> without
+	 * 	writing the body if the <code>ETag</code> or <code>Last-Modified</code> headers of the cached response show that
+	 * 	the client's copy is current.
+	 * <p>
+	 * 	Otherwise, marks the response to be cached once it has been written.
+	 *
+	 * @param req The HTTP request.
+	 * @param res The HTTP response.
+	 * @return <jk>true</jk> if a cached response was written.
+	 * @throws IOException If the cached response could not be written.
+	 */
+	boolean serve(RestRequest req, RestResponse res) throws IOException {
+		String key = getKey(req);
+		Entry e = get(key);
+		if (e == null) {
+			res.setCache(this, key, maxEntrySize);
+			return false;
+		}
+		res.setStatus(SC_OK);
+		if (e.contentType != null)
+			res.setContentType(e.contentType);
+		for (int i = 0; i < e.headers.length; i++) {
+			String[] h = e.headers[i];
+			if (i > 0 && h[0].equals(e.headers[i-1][0]))
+				res.addHeader(h[0], h[1]);
+			else
+				res.setHeader(h[0], h[1]);
+		}
+		if ((e.eTag != null || e.lastModified >= 0) && res.checkNotModified(e.eTag, e.lastModified))
+			return true;
+		res.setContentLength(e.content.length);
+		ServletOutputStream os = res.getOutputStream();
+		os.write(e.content);
+		os.close();
+		return true;
+	}
+
+	/**
+	 * Adds a response to this cache.
+	 * <p>
+	 * 	The response headers are stored with the body, except for headers that are specific to a single response
+	 * 	(e.g. <code>Date</code> and <code>Set-Cookie</code>).
+	 *
+	 * @param key The key returned by {@link #getKey(RestRequest)}.
+	 * @param path The request URI.
+	 * @param content The response body.
+	 * @param res The response that was written.
+	 */
+	void put(String key, String path, byte[] content, RestResponse res) {
+		List<String[]> l = new ArrayList<String[]>();
+		for (String name : new LinkedHashSet<String>(res.getHeaderNames()))
+			if (! EXCLUDED_HEADERS.contains(name))
+				for (String value : res.getHeaders(name))
+					l.add(new String[]{name, value});
+		Entry e = new Entry(path, content, res.getContentType(), l.toArray(new String[l.size()][]), res.getHeader("ETag"), parseDate(res.getHeader("Last-Modified")), System.currentTimeMillis() + ttl);
+		synchronized (this) {
+			map.put(key, e);
+		}
+	}
+
+	private synchronized Entry get(String key) {
+		Entry e = map.get(key);
+		if (e != null && e.expires <= System.currentTimeMillis()) {
+			map.remove(key);
+			evictions++;
+			e = null;
+		}
+		if (e == null)
+			misses++;
+		else
+			hits++;
+		return e;
+	}
+
+	private String getKey(RestRequest req) {
+		StringBuilder sb = new StringBuilder(req.getRequestURI()).append('?');
+		if (varyParams.length == 0) {
+			String qs = req.getQueryString();
+			if (qs != null)
+				sb.append(qs);
+		} else {
+			for (String p : varyParams)
+				sb.append(p).append('=').append(req.getQueryParameter(p)).append('&');
+		}
+		for (String h : varyHeaders)
+			sb.append('\n').append(req.getHeader(h));
+		sb.append('\n').append(req.getRemoteUser());
+		return sb.toString();
+	}
+
+	/**
+	 * Removes all cached responses.
+	 */
+	public synchronized void invalidate() {
+		map.clear();
+	}
+
+	/**
+	 * Removes the cached responses for request URIs starting with the specified string.
+	 *
+	 * @param uriPrefix The request URI prefix (e.g. <js>"/myservlet/countries"</js>).
+	 */
+	public synchronized void invalidate(String uriPrefix) {
+		for (Iterator<Entry> i = map.values().iterator(); i.hasNext();)
+			if (i.next().path.startsWith(uriPrefix))
+				i.remove();
+	}
+
+	/**
+	 * Returns the settings and statistics of this cache.
+	 *
+	 * @return A map containing the <js>"size"</js>, <js>"maxEntries"</js>, <js>"ttl"</js>, <js>"hits"</js>,
+	 * 	<js>"misses"</js> and <js>"evictions"</js> values.
+	 * 	Expired entries are counted as evictions.
+	 */
+	public synchronized ObjectMap getStats() {
+		return new ObjectMap()
+			.append("size", map.size())
+			.append("maxEntries", maxEntries)
+			.append("ttl", ttl / 1000)
+			.append("hits", hits)
+			.append("misses", misses)
+			.append("evictions", evictions);
+	}
+
+	/*
+	 * Parses an HTTP date header value, or returns -1 if it's missing or invalid.
+	 */
+	private static long parseDate(String s) {
+		if (s == null)
+			return -1;
+		try {
+			SimpleDateFormat f = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+			f.setTimeZone(TimeZone.getTimeZone("GMT"));
+			return f.parse(s).getTime();
+		} catch (ParseException e) {
+			return -1;
+		}
+	}
+
+	private static final class Entry {
+		private final String path, contentType, eTag;
+		private final byte[] content;
+		private final String[][] headers;    // Name/value pairs, with values of the same header next to each other.
+		private final long lastModified, expires;
+
+		private Entry(String path, byte[] content, String contentType, String[][] headers, String eTag, long lastModified, long expires) {
+			this.path = path;
+			this.content = content;
+			this.contentType = contentType;
+			this.headers = headers;
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+			this.expires = expires;
+		}
+	}
+}
@@ -1295,6 +1295,8 @@ public final class RestRequest extends HttpServletRequestWrapper {
 
 	/**
 	 * Same as {@link #getReader()}, but doesn't encapsulate the result in a {@link BufferedReader};
+	 * <p>
+	 * 	UTF-8 encoded bodies are decoded directly from the input stream using a {@link Utf8Reader}.
 	 *
 	 * @return An unbuffered reader.
 	 * @throws IOException
@@ -1302,7 +1304,10 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	protected Reader getUnbufferedReader() throws IOException {
 		if (content != null)
 			return new CharSequenceReader(content);
-		return new InputStreamReader(getInputStream(), getCharacterEncoding());
+		String charset = getCharacterEncoding();
+		if ("UTF-8".equalsIgnoreCase(charset))
+			return new Utf8Reader(getInputStream());
+		return new InputStreamReader(getInputStream(), charset);
 	}
 
 	/**
@@ -1328,6 +1333,10 @@ public final class RestRequest extends HttpServletRequestWrapper {
 					return is2.read();
 				}
 				@Override /* InputStream */
+				public final int read(byte[] b, int off, int len) throws IOException {
+					return is2.read(b, off, len);
+				}
+				@Override /* InputStream */
 				public final void close() throws IOException {
 					is2.close();
 				}
@@ -62,6 +62,10 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private EncoderGroup encoders;
 	private RestServlet servlet;
 	private ServletOutputStream os;
+	private ResponseCache cache;                         // The cache to add this response to, if any.
+	private String cacheKey;
+	private int cacheMaxSize;
+	private CapturingOutputStream capture;
 
 	/**
 	 * Constructor.
@@ -70,6 +74,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		super(res);
 		this.request = req;
 		this.servlet = servlet;
+		this.encoders = servlet.getEncoders();
 
 		for (Map.Entry<String,Object> e : servlet.getDefaultResponseHeaders().entrySet())
 			setHeader(e.getKey(), e.getValue().toString());
@@ -126,6 +131,15 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		return serializerGroup;
 	}
 
+	/**
+	 * Gets the encoder group for the response.
+	 *
+	 * @return The encoder group for the response.
+	 */
+	public EncoderGroup getEncoderGroup() {
+		return encoders;
+	}
+
 	/**
 	 * Returns the media types that are valid for <code>Accept</code> headers on the request.
 	 *
@@ -256,6 +270,9 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * Equivalent to {@link HttpServletResponse#getOutputStream()}, except
 	 * 	wraps the output stream if an {@link Encoder} was found that matched
 	 * 	the <code>Accept-Encoding</code> header.
+	 * <p>
+	 * 	If the {@link RestServletContext#REST_compressionThreshold} property is set, the output is only compressed
+	 * 	once that many bytes have been written.
 	 *
 	 * @return A negotiated output stream.
 	 * @throws IOException
@@ -264,27 +281,15 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		if (os == null) {
 			Encoder encoder = null;
 
-			String ae = request.getHeader("Accept-Encoding");
-			if (! (ae == null || ae.isEmpty())) {
-				String match = encoders != null ? encoders.findMatch(ae) : null;
-				if (match == null) {
-					// Identity should always match unless "identity;q=0" or "*;q=0" is specified.
-					if (ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*")) {
-						throw new RestException(SC_NOT_ACCEPTABLE,
-							"Unsupported encoding in request header ''Accept-Encoding'': ''{0}''\n\tSupported codings: {1}",
-							ae, encoders.getSupportedEncodings()
-						);
-					}
-				} else {
-					encoder = encoders.getEncoder(match);
-
-					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! match.equals("identity"))
-					setHeader("content-encoding", match);
-				}
-			}
+			String coding = getNegotiatedEncoding();
+			if (coding != null)
+				encoder = encoders.getEncoder(coding);
 			os = getOutputStream();
-			if (encoder != null) {
+			int threshold = servlet.context.compressionThreshold;
+			if (encoder != null && threshold > 0) {
+				os = new ThresholdOutputStream(os, encoder, coding, threshold);
+			} else if (encoder != null) {
+				setHeader("content-encoding", coding);
 				final OutputStream os2 = encoder.getOutputStream(os);
 				os = new ServletOutputStream(){
 					@Override /* OutputStream */
@@ -309,13 +314,229 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		return os;
 	}
 
+	/*
+	 * Buffers output until the threshold is reached, and then starts compressing.
+	 * If the stream is closed before then, the buffered output is written uncompressed.
+	 */
+	private final class ThresholdOutputStream extends ServletOutputStream {
+		private final ServletOutputStream os;
+		private final Encoder encoder;
+		private final String coding;
+		private final int threshold;
+		private ByteArrayOutputStream buffer;
+		private OutputStream out;
+
+		private ThresholdOutputStream(ServletOutputStream os, Encoder encoder, String coding, int threshold) {
+			this.os = os;
+			this.encoder = encoder;
+			this.coding = coding;
+			this.threshold = threshold;
+			this.buffer = new ByteArrayOutputStream(threshold);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (out == null) {
+				if (buffer.size() + len < threshold) {
+					buffer.write(b, off, len);
+					return;
+				}
+				setHeader("content-encoding", coding);
+				out = encoder.getOutputStream(os);
+				buffer.writeTo(out);
+				buffer = null;
+			}
+			out.write(b, off, len);
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (out != null)
+				out.flush();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (out == null) {
+				buffer.writeTo(os);
+				buffer = null;
+				out = os;
+			}
+			out.close();
+		}
+	}
+
+	/**
+	 * Returns the coding from the {@link EncoderGroup} that matches the <code>Accept-Encoding</code> header.
+	 * <p>
+	 * 	Used by {@link #getNegotiatedOutputStream()} to determine the encoder to use.
+	 *
+	 * @return The matched coding (e.g. <js>"gzip"</js>), or <jk>null</jk> if the response should not be encoded.
+	 * @throws RestException If no coding is acceptable, including identity.
+	 */
+	public String getNegotiatedEncoding() throws RestException {
+		String ae = request.getHeader("Accept-Encoding");
+		if (ae == null || ae.isEmpty())
+			return null;
+		String match = encoders != null ? encoders.findMatch(ae) : null;
+		if (match == null) {
+			// Identity should always match unless "identity;q=0" or "*;q=0" is specified.
+			if (ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*")) {
+				throw new RestException(SC_NOT_ACCEPTABLE,
+					"Unsupported encoding in request header ''Accept-Encoding'': ''{0}''\n\tSupported codings: {1}",
+					ae, encoders.getSupportedEncodings()
+				);
+			}
+			return null;
+		}
+		// Some clients don't recognize identity as an encoding, so don't set it.
+		return match.equals("identity") ? null : match;
+	}
+
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
-		if (os == null)
+		if (os == null) {
 			os = super.getOutputStream();
+			if (cacheKey != null)
+				os = capture = new CapturingOutputStream(os, cacheMaxSize);
+		}
 		return os;
 	}
 
+	/**
+	 * Specifies that the response body should be added to the specified cache once it has been written.
+	 */
+	void setCache(ResponseCache cache, String cacheKey, int maxSize) {
+		this.cache = cache;
+		this.cacheKey = cacheKey;
+		this.cacheMaxSize = maxSize;
+	}
+
+	/**
+	 * Adds the response body to the cache specified by {@link #setCache(ResponseCache, String, int)}.
+	 * <p>
+	 * 	Only successful responses that were completely written through {@link #getOutputStream()} are cached.
+	 */
+	void cacheResponse() {
+		if (capture == null || ! capture.closed || capture.overflow || getStatus() != SC_OK)
+			return;
+		cache.put(cacheKey, request.getRequestURI(), capture.buffer.toByteArray(), this);
+	}
+
+	/*
+	 * Copies the bytes written to the response into a buffer for caching.
+	 * Stops copying once the buffer exceeds the maximum size.
+	 */
+	private static final class CapturingOutputStream extends ServletOutputStream {
+		private final ServletOutputStream os;
+		private final int maxSize;
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private boolean overflow, closed;
+
+		private CapturingOutputStream(ServletOutputStream os, int maxSize) {
+			this.os = os;
+			this.maxSize = maxSize;
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			os.write(b, off, len);
+			if (! overflow) {
+				if (buffer.size() + len > maxSize)
+					overflow = true;
+				else
+					buffer.write(b, off, len);
+			}
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			os.write(b);
+			if (! overflow) {
+				if (buffer.size() + 1 > maxSize)
+					overflow = true;
+				else
+					buffer.write(b);
+			}
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			os.flush();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			closed = true;
+			os.close();
+		}
+	}
+
+	/**
+	 * Sets the <code>ETag</code> and <code>Last-Modified</code> headers and determines whether the client's copy is current.
+	 * <p>
+	 * 	The client's copy is current if the <code>If-None-Match</code> request header matches the entity tag, or if
+	 * 	there is no <code>If-None-Match</code> header and the <code>If-Modified-Since</code> header is not older
+	 * 	than the last-modified time.
+	 * 	In that case, the status is set to <code>304 Not Modified</code> and no response body should be written.
+	 * <p>
+	 * 	Only <code>GET</code> and <code>HEAD</code> requests can be answered with <code>304</code>.
+	 *
+	 * <dl>
+	 * 	<dt>Example:</dt>
+	 * 	<dd>
+	 * <p class='bcode'>
+	 * 	<ja>@RestMethod</ja>(name=<js>"GET"</js>, path=<js>"/dashboard"</js>)
+	 * 	<jk>public</jk> Dashboard getDashboard(RestResponse res) {
+	 * 		<jk>if</jk> (res.checkNotModified(String.<jsm>valueOf</jsm>(<jf>dashboardVersion</jf>), -1))
+	 * 			<jk>return null</jk>;
+	 * 		<jk>return</jk> createDashboard();
+	 * 	}
+	 * </p>
+	 * 	</dd>
+	 * </dl>
+	 *
+	 * @param eTag The entity tag of the resource, or <jk>null</jk> if not known.
+	 * 	Values that aren't already quoted (e.g. version numbers) are quoted.
+	 * @param lastModified The last-modified time of the resource in milliseconds, or <code>-1</code> if not known.
+	 * @return <jk>true</jk> if the status was set to <code>304 Not Modified</code>.
+	 */
+	public boolean checkNotModified(String eTag, long lastModified) {
+		if (eTag != null) {
+			if (! (eTag.startsWith("\"") || eTag.startsWith("W/")))
+				eTag = '"' + eTag + '"';
+			setHeader("ETag", eTag);
+		}
+		if (lastModified >= 0)
+			setDateHeader("Last-Modified", lastModified);
+
+		String method = request.getMethod();
+		if (! (method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD")))
+			return false;
+
+		boolean notModified = false;
+		String inm = request.getHeader("If-None-Match");
+		if (inm != null) {
+			notModified = RestUtils.matchesETag(inm, eTag);
+		} else if (lastModified >= 0) {
+			long ims = -1;
+			try {
+				ims = request.getDateHeader("If-Modified-Since");
+			} catch (IllegalArgumentException e) {
+				// Ignore invalid dates.
+			}
+			notModified = ims >= 0 && lastModified / 1000 <= ims / 1000;
+		}
+		if (notModified)
+			setStatus(SC_NOT_MODIFIED);
+		return notModified;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link #getOutputStream()} has been called.
 	 *
@@ -26,10 +26,12 @@ import java.io.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.lang.reflect.Method;
+import java.net.*;
 import java.nio.charset.*;
 import java.text.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.logging.*;
 
 import javax.activation.*;
@@ -90,7 +92,7 @@ public abstract class RestServlet extends HttpServlet {
 	private JuneauLogger logger;
 	private MessageBundle msgs;                           // NLS messages.
 
-	private Map<Integer,Integer> stackTraceHashes = new HashMap<Integer,Integer>();
+	private BoundedCache<Integer,AtomicInteger> stackTraceHashes = new BoundedCache<Integer,AtomicInteger>(RestServletContext.DEFAULT_MAX_STACK_TRACE_HASHES);
 	private String path;
 
 	private LinkedHashMap<Class<?>,RestResource> restResourceAnnotationsChildFirst, restResourceAnnotationsParentFirst;
@@ -119,11 +121,13 @@ public abstract class RestServlet extends HttpServlet {
 	private String[] staticFilesPrefixes;
 	private ResponseHandler[] responseHandlers;
 	private String clientVersionHeader = "";
+	private Cache resourceCache;
 
 	RestServletContext context;
 
-	// In-memory cache of images and stylesheets in the org.apache.juneau.server.htdocs package.
-	private Map<String,StreamResource> staticFilesCache = new ConcurrentHashMap<String,StreamResource>();
+	// In-memory cache of static files in access order, bounded by the REST_staticFilesCacheSize property.
+	private final LinkedHashMap<String,StreamResource> staticFilesCache = new LinkedHashMap<String,StreamResource>(16, 0.75f, true);
+	private long staticFilesCacheBytes;
 
 	// The following code block is executed before the constructor is called to
 	// allow the config file to be accessed during object creation.
@@ -177,6 +181,8 @@ public abstract class RestServlet extends HttpServlet {
 					description = r.description();
 				if (clientVersionHeader.isEmpty())
 					clientVersionHeader = r.clientVersionHeader();
+				if (resourceCache == null && r.cache().ttl() != 0)
+					resourceCache = r.cache();
 			}
 			if (msgs == null)
 				msgs = new MessageBundle(this.getClass(), "");
@@ -191,6 +197,7 @@ public abstract class RestServlet extends HttpServlet {
 			properties = createProperties();
 			transforms = createTransforms();
 			context = ContextFactory.create().setProperties(properties).getContext(RestServletContext.class);
+			stackTraceHashes.setMaxSize(context.maxStackTraceHashes);
 			beanContext = createBeanContext(properties, transforms);
 			urlEncodingSerializer = createUrlEncodingSerializer(properties, transforms).lock();
 			urlEncodingParser = createUrlEncodingParser(properties, transforms).lock();
@@ -905,7 +912,8 @@ public abstract class RestServlet extends HttpServlet {
 					handleNotFound(rc, req, res);
 			}
 
-			if (res.hasOutput()) {
+			// Don't write a body if a method determined that the client's copy is current.
+			if (res.hasOutput() && res.getStatus() != SC_NOT_MODIFIED) {
 				Object output = res.getOutput();
 
 				// Do any class-level transforming.
@@ -919,6 +927,8 @@ public abstract class RestServlet extends HttpServlet {
 				handleResponse(req, res, output);
 			}
 
+			res.cacheResponse();
+
 			onSuccess(req, res, System.currentTimeMillis() - startTime);
 
 		} catch (RestException e) {
@@ -955,17 +965,17 @@ public abstract class RestServlet extends HttpServlet {
 			throw new ServletException("Invalid method response: " + rc);
 	}
 
-	private synchronized void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
-		Integer c = 1;
+	/*
+	 * Not synchronized so that concurrent errors don't block each other while being logged and rendered.
+	 * Occurrence counts are kept in a bounded cache so that the number of distinct stack traces tracked can't grow without limit.
+	 */
+	private void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
 		if (context.useStackTraceHashes) {
-			int h = e.hashCode();
-			c = stackTraceHashes.get(h);
+			Integer h = e.hashCode();
+			AtomicInteger c = stackTraceHashes.get(h);
 			if (c == null)
-				c = 1;
-			else
-				c++;
-			stackTraceHashes.put(h, c);
-			e.setOccurrence(c);
+				c = stackTraceHashes.put(h, new AtomicInteger());
+			e.setOccurrence(c.incrementAndGet());
 		}
 		onError(req, res, e);
 		renderError(req, res, e);
@@ -1257,33 +1267,110 @@ public abstract class RestServlet extends HttpServlet {
 	 * @throws IOException
 	 */
 	protected StreamResource resolveStaticFile(String pathInfo) throws IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
-			String p = RestUtils.decode(RestUtils.trimSlashes(pathInfo));
-			if (p.indexOf("..") != -1)
-				throw new RestException(SC_NOT_FOUND, "Invalid path");
-			for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
-				String key = RestUtils.trimSlashes(e.getKey());
-				if (p.startsWith(key)) {
-					String remainder = (p.equals(key) ? "" : p.substring(key.length()));
-					if (remainder.isEmpty() || remainder.startsWith("/")) {
-						String p2 = RestUtils.trimSlashes(e.getValue()) + remainder;
-						InputStream is = getResource(p2);
-						if (is != null) {
-							try {
-								int i = p2.lastIndexOf('/');
-								String name = (i == -1 ? p2 : p2.substring(i+1));
-								String mediaType = getMimetypesFileTypeMap().getContentType(name);
-								staticFilesCache.put(pathInfo, new StreamResource(is, mediaType).setHeader("Cache-Control", "max-age=86400, public"));
-								return staticFilesCache.get(pathInfo);
-							} finally {
-								is.close();
+		synchronized (staticFilesCache) {
+			StreamResource r = staticFilesCache.get(pathInfo);
+			if (r != null)
+				return r;
+		}
+		String p = RestUtils.decode(RestUtils.trimSlashes(pathInfo));
+		if (p.indexOf("..") != -1)
+			throw new RestException(SC_NOT_FOUND, "Invalid path");
+		for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
+			String key = RestUtils.trimSlashes(e.getKey());
+			if (p.startsWith(key)) {
+				String remainder = (p.equals(key) ? "" : p.substring(key.length()));
+				if (remainder.isEmpty() || remainder.startsWith("/")) {
+					String p2 = RestUtils.trimSlashes(e.getValue()) + remainder;
+					int i = p2.lastIndexOf('/');
+					String name = (i == -1 ? p2 : p2.substring(i+1));
+					String mediaType = getMimetypesFileTypeMap().getContentType(name);
+					StreamResource r = createStaticFile(p2, mediaType);
+					if (r != null) {
+						r.setHeader("Cache-Control", "max-age=86400, public");
+						if (r.getContentLength() <= context.staticFilesMaxCachedSize && r.getMemorySize() > 0) {
+							// Compress once here instead of on every request.
+							for (String coding : getEncoders().getSupportedEncodings()) {
+								Encoder encoder = getEncoders().getEncoder(coding);
+								if (encoder != null)
+									r.precompress(encoder);
 							}
+							cacheStaticFile(pathInfo, r);
 						}
+						return r;
 					}
 				}
 			}
 		}
-		return staticFilesCache.get(pathInfo);
+		return null;
+	}
+
+	/*
+	 * Finds the static file with the specified name.
+	 * Files and classpath resources larger than the REST_staticFilesMaxCachedSize setting are streamed instead of being
+	 * loaded into memory.
+	 * Other static files are read through getResource(String) so that subclasses can change how they're found.
+	 */
+	private StreamResource createStaticFile(String name, String mediaType) throws IOException {
+		URL url = null;
+		for (Class<?> c = getClass(); c != null && url == null; c = c.getSuperclass())
+			url = c.getResource(name);
+
+		File f = null;
+		if (url == null) {
+			f = new File(name);
+		} else if (url.getProtocol().equals("file")) {
+			try {
+				f = new File(url.toURI());
+			} catch (URISyntaxException e) {
+				f = null;
+			}
+		}
+
+		if (f != null && f.exists()) {
+			// Directories aren't static files.
+			if (! f.isFile())
+				return null;
+			if (f.length() > context.staticFilesMaxCachedSize)
+				return new StreamResource(f, mediaType);
+		} else if (url != null) {
+			StreamResource r = new StreamResource(url, mediaType);
+			if (r.getContentLength() > context.staticFilesMaxCachedSize)
+				return r;
+		}
+
+		InputStream is = getResource(name);
+		if (is == null)
+			return null;
+		try {
+			StreamResource r = new StreamResource(is, mediaType);
+			if (f != null && f.isFile())
+				r.setLastModified(f.lastModified());
+			return r;
+		} finally {
+			is.close();
+		}
+	}
+
+	/*
+	 * Adds a static file to the cache, evicting the least-recently-used files if the cache grows too large.
+	 */
+	private void cacheStaticFile(String pathInfo, StreamResource r) {
+		long size = r.getMemorySize();
+		if (size > context.staticFilesCacheSize)
+			return;
+		synchronized (staticFilesCache) {
+			StreamResource old = staticFilesCache.put(pathInfo, r);
+			if (old != null)
+				staticFilesCacheBytes -= old.getMemorySize();
+			staticFilesCacheBytes += size;
+			for (Iterator<StreamResource> i = staticFilesCache.values().iterator(); i.hasNext() && staticFilesCacheBytes > context.staticFilesCacheSize;) {
+				StreamResource r2 = i.next();
+				if (r2 != r) {
+					staticFilesCacheBytes -= r2.getMemorySize();
+					i.remove();
+				}
+			}
+		}
 	}
 
 	/**
@@ -1839,6 +1926,7 @@ public abstract class RestServlet extends HttpServlet {
 		private boolean mPlainParams;
 		private String description;
 		private Integer priority;
+		private ResponseCache cache;                            // Cached responses, or null if caching is disabled.
 
 		private MethodMeta(java.lang.reflect.Method method) throws RestServletException {
 			try {
@@ -1884,6 +1972,16 @@ public abstract class RestServlet extends HttpServlet {
 				for (int i = 0; i < guards.length; i++)
 					guards[i] = m.guards()[i].newInstance();
 
+				// Only responses to GET and HEAD requests can be cached.
+				Cache mc = m.cache();
+				boolean cacheable = httpMethod.equals("GET") || httpMethod.equals("HEAD");
+				if (mc.ttl() != 0 && ! cacheable)
+					throw new RestServletException("@Cache is not allowed on HTTP method ''{0}'' on method ''{1}.{2}''.  Only GET and HEAD responses can be cached.", httpMethod, method.getDeclaringClass().getName(), method.getName());
+				if (mc.ttl() == 0 && cacheable)
+					mc = resourceCache;
+				if (mc != null && mc.ttl() > 0)
+					cache = new ResponseCache(mc);
+
 				List<RestMatcher> optionalMatchers = new LinkedList<RestMatcher>(), requiredMatchers = new LinkedList<RestMatcher>();
 				for (int i = 0; i < m.matchers().length; i++) {
 					Class<? extends RestMatcher> c = m.matchers()[i];
@@ -2062,6 +2160,9 @@ public abstract class RestServlet extends HttpServlet {
 					if (! guard.guard(req, res))
 						return SC_OK;
 
+				if (cache != null && cache.serve(req, res))
+					return SC_OK;
+
 				Object output = method.invoke(resource, args);
 				if (! method.getReturnType().equals(Void.TYPE))
 					if (output != null || ! res.getOutputStreamCalled())
@@ -2151,6 +2252,7 @@ public abstract class RestServlet extends HttpServlet {
 	 */
 	private class MultiMethod extends ResourceMethod {
 		MethodMeta[] childMethods;
+		UrlPathRouter router;
 		List<MethodMeta> tempCache = new LinkedList<MethodMeta>();
 		Set<String> collisions = new HashSet<String>();
 
@@ -2174,12 +2276,21 @@ public abstract class RestServlet extends HttpServlet {
 			Collections.sort(tempCache);
 			collisions = null;
 			childMethods = tempCache.toArray(new MethodMeta[tempCache.size()]);
+			UrlPathPattern[] patterns = new UrlPathPattern[childMethods.length];
+			for (int i = 0; i < patterns.length; i++)
+				patterns[i] = childMethods[i].pathPattern;
+			router = new UrlPathRouter(patterns);
 		}
 
 		@Override /* ResourceMethod */
 		int invoke(String methodName, String pathInfo, RestServlet resource, RestRequest req, RestResponse res) throws RestException {
-			int maxRc = 0;
-			for (MethodMeta m : childMethods) {
+
+			// Only try the methods whose paths could match, in the same order as childMethods.
+			// Methods skipped by the router would have returned SC_NOT_FOUND.
+			BitSet candidates = router.getCandidates(pathInfo);
+			int maxRc = (candidates.cardinality() < childMethods.length ? SC_NOT_FOUND : 0);
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i+1)) {
+				MethodMeta m = childMethods[i];
 				int rc = m.invoke(methodName, pathInfo, resource, req, res);
 				//if (rc == SC_UNAUTHORIZED)
 				//	return SC_UNAUTHORIZED;
@@ -2500,6 +2611,43 @@ public abstract class RestServlet extends HttpServlet {
 		return guards;
 	}
 
+	/**
+	 * Removes all responses cached through the {@link RestMethod#cache() @RestMethod.cache()} and
+	 * 	{@link RestResource#cache() @RestResource.cache()} annotations.
+	 */
+	public void invalidateResponseCache() {
+		for (MethodMeta m : javaRestMethods.values())
+			if (m.cache != null)
+				m.cache.invalidate();
+	}
+
+	/**
+	 * Removes the cached responses for request URIs starting with the specified string.
+	 * <p>
+	 * 	Typically called after a resource is modified so that subsequent <code>GET</code> requests return the new state.
+	 *
+	 * @param uriPrefix The request URI prefix (e.g. <js>"/myservlet/addressBook/people/1"</js>).
+	 */
+	public void invalidateResponseCache(String uriPrefix) {
+		for (MethodMeta m : javaRestMethods.values())
+			if (m.cache != null)
+				m.cache.invalidate(uriPrefix);
+	}
+
+	/**
+	 * Returns the statistics of the response caches on this servlet.
+	 *
+	 * @return A map of Java method names to {@link ResponseCache#getStats()} values.
+	 * 	Methods without caching enabled are not included.
+	 */
+	public ObjectMap getResponseCacheStats() {
+		ObjectMap m = new ObjectMap();
+		for (Map.Entry<String,MethodMeta> e : javaRestMethods.entrySet())
+			if (e.getValue().cache != null)
+				m.put(e.getKey(), e.getValue().cache.getStats());
+		return m;
+	}
+
 	/**
 	 * Returns the class-level POJO transforms associated with this servlet.
 	 * <p>
@@ -2712,7 +2860,7 @@ public abstract class RestServlet extends HttpServlet {
 			InputStream is = ReflectionUtils.getResource(getClass(), name);
 			if (is == null && name.indexOf("..") == -1) {
 				File f = new File(name);
-				if (f.exists() && f.canRead())
+				if (f.isFile() && f.canRead())
 					is = new FileInputStream(f);
 			}
 			if (is != null) {
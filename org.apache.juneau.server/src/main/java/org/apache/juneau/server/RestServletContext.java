@@ -99,6 +99,16 @@ public final class RestServletContext extends Context {
 	 */
 	public static final String REST_useStackTraceHashes = "RestServlet.useStackTraceHashes";
 
+	/**
+	 * Maximum number of stack trace hashes to keep track of ({@link Integer}, default=<code>1000</code>).
+	 * <p>
+	 * When {@link #REST_useStackTraceHashes} is enabled, the occurrence counts of the oldest stack traces are discarded
+	 * 	when this number of distinct stack traces has been encountered.
+	 * <p>
+	 * Applicable to servlet class only.
+	 */
+	public static final String REST_maxStackTraceHashes = "RestServlet.maxStackTraceHashes";
+
 	/**
 	 * The default character encoding for the request and response if not specified on the request ({@link String}>, default=<js>"utf-8"</js>).
 	 * <p>
@@ -128,6 +138,54 @@ public final class RestServletContext extends Context {
 	 */
 	public static final String REST_paramFormat = "RestServlet.paramFormat";
 
+	/**
+	 * Generate <code>ETag</code> headers from serialized responses ({@link Boolean}, default=<jk>false</jk>).
+	 * <p>
+	 * When enabled, POJOs returned by <code>GET</code> and <code>HEAD</code> methods are serialized into a buffer and
+	 * 	an <code>ETag</code> header is set to a hash of the serialized bytes.
+	 * If the hash matches the <code>If-None-Match</code> request header, a <code>304 Not Modified</code> response is
+	 * 	returned without a body.
+	 * <p>
+	 * This saves bandwidth but not serialization time.  Methods that can cheaply determine the version of a resource
+	 * 	should call {@link RestResponse#checkNotModified(String, long)} before building the response instead.
+	 * <p>
+	 * Applicable to servlet class and methods.
+	 */
+	public static final String REST_generateETags = "RestServlet.generateETags";
+
+	/**
+	 * Maximum size in bytes of the in-memory cache of static files ({@link Integer}, default=<code>10485760</code>).
+	 * <p>
+	 * Static files specified through {@link RestResource#staticFiles()} are kept in memory along with their compressed
+	 * 	forms.  When this size is exceeded, the least-recently-used files are evicted.
+	 * <p>
+	 * Applicable to servlet class only.
+	 */
+	public static final String REST_staticFilesCacheSize = "RestServlet.staticFilesCacheSize";
+
+	/**
+	 * Maximum size in bytes of static files that are cached in memory ({@link Integer}, default=<code>1048576</code>).
+	 * <p>
+	 * Larger static files located on the file system are transferred directly from disk on each request.
+	 * <p>
+	 * Applicable to servlet class only.
+	 */
+	public static final String REST_staticFilesMaxCachedSize = "RestServlet.staticFilesMaxCachedSize";
+
+	/**
+	 * Minimum size in bytes of responses that are compressed ({@link Integer}, default=<code>0</code>).
+	 * <p>
+	 * Responses written through {@link RestResponse#getNegotiatedOutputStream()} or {@link RestResponse#getNegotiatedWriter()}
+	 * 	are buffered until this many bytes have been written.
+	 * Responses that are closed before then are sent uncompressed, since small responses cost more to compress than to send.
+	 * Flushing the stream has no effect until the size is reached.
+	 * <p>
+	 * A value of <code>0</code> compresses all responses when an encoder matches the <code>Accept-Encoding</code> header.
+	 * <p>
+	 * Applicable to servlet class only.
+	 */
+	public static final String REST_compressionThreshold = "RestServlet.compressionThreshold";
+
 	//--------------------------------------------------------------------------------
 	// Automatically added properties.
 	//--------------------------------------------------------------------------------
@@ -187,7 +245,11 @@ public final class RestServletContext extends Context {
 	public static final String REST_method = "RestServlet.method";
 
 
+	/** Default value for the {@link #REST_maxStackTraceHashes} property. */
+	public static final int DEFAULT_MAX_STACK_TRACE_HASHES = 1000;
+
 	final boolean allowHeaderParams, allowContentParam, renderResponseStackTraces, useStackTraceHashes;
+	final int maxStackTraceHashes, staticFilesCacheSize, staticFilesMaxCachedSize, compressionThreshold;
 	final String defaultCharset, paramFormat;
 	final Set<String> allowMethodParams;
 
@@ -204,6 +266,10 @@ public final class RestServletContext extends Context {
 		allowContentParam = cf.getProperty(REST_allowContentParam, boolean.class, true);
 		renderResponseStackTraces = cf.getProperty(REST_renderResponseStackTraces, boolean.class, false);
 		useStackTraceHashes = cf.getProperty(REST_useStackTraceHashes, boolean.class, true);
+		maxStackTraceHashes = cf.getProperty(REST_maxStackTraceHashes, int.class, DEFAULT_MAX_STACK_TRACE_HASHES);
+		staticFilesCacheSize = cf.getProperty(REST_staticFilesCacheSize, int.class, 10485760);
+		staticFilesMaxCachedSize = cf.getProperty(REST_staticFilesMaxCachedSize, int.class, 1048576);
+		compressionThreshold = cf.getProperty(REST_compressionThreshold, int.class, 0);
 		defaultCharset = cf.getProperty(REST_defaultCharset, String.class, "utf-8");
 		paramFormat = cf.getProperty(REST_paramFormat, String.class, "");
 
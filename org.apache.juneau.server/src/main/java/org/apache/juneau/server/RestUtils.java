@@ -14,6 +14,7 @@ package org.apache.juneau.server;
 
 import java.io.*;
 import java.net.*;
+import java.security.*;
 import java.util.*;
 
 import javax.servlet.http.*;
@@ -165,6 +166,51 @@ public final class RestUtils {
 		return s;
 	}
 
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Creates a strong entity tag from a hash of the specified content.
+	 *
+	 * @param content The response body.
+	 * @return The quoted entity tag (e.g. <js>"\"d41d8cd98f00b204e9800998ecf8427e\""</js>).
+	 */
+	public static String createETag(byte[] content) {
+		try {
+			byte[] b = MessageDigest.getInstance("MD5").digest(content);
+			StringBuilder sb = new StringBuilder(b.length*2 + 2).append('"');
+			for (byte x : b)
+				sb.append(HEX[(x >> 4) & 0xF]).append(HEX[x & 0xF]);
+			return sb.append('"').toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e); // Shouldn't happen.
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified entity tag matches the value of an <code>If-None-Match</code> header.
+	 * <p>
+	 * 	Uses weak comparison, so <js>"W/\"foo\""</js> matches <js>"\"foo\""</js>.
+	 *
+	 * @param ifNoneMatch The <code>If-None-Match</code> header value (e.g. <js>"\"foo\", \"bar\""</js> or <js>"*"</js>).
+	 * @param eTag The entity tag of the resource.
+	 * @return <jk>true</jk> if the entity tag matches.
+	 */
+	public static boolean matchesETag(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null || eTag == null)
+			return false;
+		eTag = stripWeak(eTag);
+		for (String s : ifNoneMatch.split(",")) {
+			s = s.trim();
+			if (s.equals("*") || stripWeak(s).equals(eTag))
+				return true;
+		}
+		return false;
+	}
+
+	private static String stripWeak(String eTag) {
+		return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+	}
+
    /**
     * Identical to {@link HttpServletRequest#getPathInfo()} but doesn't decode encoded characters.
     *
@@ -13,9 +13,13 @@
 package org.apache.juneau.server;
 
 import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.server.response.*;
 
@@ -23,14 +27,28 @@ import org.apache.juneau.server.response.*;
  * Represents the contents of a byte stream file with convenience methods for adding HTTP response headers.
  * <p>
  * This class is handled special by the {@link StreamableHandler} class.
+ * <p>
+ * Resources created from a {@link File} are not loaded into memory, and are transferred directly from the file
+ * 	channel when streamed.
+ * Resources created from a {@link URL} are not loaded into memory either, and are read from the URL when streamed.
+ * For both, the length is captured when the resource is created, and no more than that many bytes are streamed even if
+ * 	the file grows in the meantime (e.g. a log file that's still being written to).
+ * Resources created from bytes can be compressed ahead of time using {@link #precompress(Encoder)} so that
+ * 	they don't need to be compressed on every request.
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
 public class StreamResource implements Streamable {
 
 	private byte[] contents;
+	private File file;
+	private URL url;
+	private long length = -1;
 	private String mediaType;
+	private Map<Encoder,byte[]> encodedContents = new ConcurrentHashMap<Encoder,byte[]>();
 	private Map<String,String> headers = new LinkedHashMap<String,String>();
+	private String eTag;
+	private long lastModified = -1;
 
 	/**
 	 * Constructor.
@@ -58,6 +76,43 @@ public class StreamResource implements Streamable {
 		this.mediaType = mediaType;
 	}
 
+	/**
+	 * Constructor.
+	 * Create a stream resource from a file.
+	 * The contents of the file are not loaded into memory.
+	 * <p>
+	 * The length and last-modified time are set to those of the file when this method is called.
+	 *
+	 * @param file The resource file.
+	 * @param mediaType The resource media type.
+	 */
+	public StreamResource(File file, String mediaType) {
+		this.file = file;
+		this.mediaType = mediaType;
+		this.length = file.length();
+		this.lastModified = file.lastModified();
+	}
+
+	/**
+	 * Constructor.
+	 * Create a stream resource from a URL, such as a resource in a jar file.
+	 * The contents of the URL are not loaded into memory, and are read from the URL every time they're streamed.
+	 * <p>
+	 * The length and last-modified time are set to the values reported by the URL connection, if any.
+	 *
+	 * @param url The resource URL.
+	 * @param mediaType The resource media type.
+	 * @throws IOException If a connection to the URL could not be opened.
+	 */
+	public StreamResource(URL url, String mediaType) throws IOException {
+		URLConnection c = url.openConnection();
+		this.url = url;
+		this.mediaType = mediaType;
+		this.length = c.getContentLength();
+		long l = c.getLastModified();
+		this.lastModified = (l > 0 ? l : -1);
+	}
+
 	/**
 	 * Add an HTTP response header.
 	 *
@@ -79,9 +134,130 @@ public class StreamResource implements Streamable {
 		return headers;
 	}
 
+	/**
+	 * Sets the last-modified time of this resource.
+	 *
+	 * @param lastModified The last-modified time in milliseconds, or <code>-1</code> if not known.
+	 * @return This object (for method chaining).
+	 */
+	public StreamResource setLastModified(long lastModified) {
+		this.lastModified = lastModified;
+		return this;
+	}
+
+	/**
+	 * Returns the last-modified time of this resource.
+	 *
+	 * @return The last-modified time in milliseconds, or <code>-1</code> if not known.
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the entity tag of this resource.
+	 * <p>
+	 * 	Computed from a hash of the contents on the first call.
+	 * 	For file and URL resources, computed from the last-modified time and length instead.
+	 *
+	 * @return The quoted entity tag.
+	 */
+	public String getETag() {
+		if (eTag == null) {
+			if (contents == null)
+				eTag = '"' + Long.toHexString(lastModified) + '-' + Long.toHexString(getContentLength()) + '"';
+			else
+				eTag = RestUtils.createETag(contents);
+		}
+		return eTag;
+	}
+
+	/**
+	 * Returns the length of the contents of this resource.
+	 *
+	 * @return The length of the contents in bytes, or <code>-1</code> if not known.
+	 */
+	public long getContentLength() {
+		return contents != null ? contents.length : length;
+	}
+
+	/**
+	 * Compresses the contents of this resource using the specified encoder.
+	 * <p>
+	 * 	The compressed contents are kept in memory and returned by {@link #getEncodedContents(Encoder)}.
+	 * 	Does nothing for file and URL resources, or if the compressed contents aren't smaller than the original contents.
+	 *
+	 * @param encoder The encoder to compress the contents with.
+	 * @return This object (for method chaining).
+	 * @throws IOException
+	 */
+	public StreamResource precompress(Encoder encoder) throws IOException {
+		if (contents != null && ! (encoder instanceof IdentityEncoder) && ! encodedContents.containsKey(encoder)) {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(contents.length);
+			OutputStream os = encoder.getOutputStream(baos);
+			os.write(contents);
+			os.close();
+			if (baos.size() < contents.length)
+				encodedContents.put(encoder, baos.toByteArray());
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the contents of this resource compressed by {@link #precompress(Encoder)}.
+	 *
+	 * @param encoder The encoder.
+	 * @return The compressed contents, or <jk>null</jk> if the contents were not compressed using the encoder.
+	 */
+	public byte[] getEncodedContents(Encoder encoder) {
+		return encoder == null ? null : encodedContents.get(encoder);
+	}
+
+	/**
+	 * Returns the number of bytes of heap used by the contents of this resource, including compressed contents.
+	 */
+	long getMemorySize() {
+		long l = contents == null ? 0 : contents.length;
+		for (byte[] b : encodedContents.values())
+			l += b.length;
+		return l;
+	}
+
 	@Override /* Streamable */
 	public void streamTo(OutputStream os) throws IOException {
-		os.write(contents);
+		if (url != null) {
+			InputStream is = url.openStream();
+			try {
+				byte[] b = new byte[8192];
+				long remaining = (length < 0 ? Long.MAX_VALUE : length);
+				int i;
+				while (remaining > 0 && (i = is.read(b, 0, (int)Math.min(b.length, remaining))) != -1) {
+					os.write(b, 0, i);
+					remaining -= i;
+				}
+			} finally {
+				is.close();
+			}
+			return;
+		}
+		if (file == null) {
+			os.write(contents);
+			return;
+		}
+		FileInputStream fis = new FileInputStream(file);
+		try {
+			FileChannel fc = fis.getChannel();
+			WritableByteChannel out = Channels.newChannel(os);
+			// Stop at the advertised length even if the file has grown since.
+			for (long pos = 0; pos < length;) {
+				long n = fc.transferTo(pos, length - pos, out);
+				if (n <= 0)
+					break;  // File was truncated.
+				pos += n;
+			}
+		} finally {
+			fis.close();
+		}
 	}
 
 	@Override /* Streamable */
@@ -0,0 +1,146 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server;
+
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * A routing tree compiled from a list of {@link UrlPathPattern UrlPathPatterns}.
+ * <p>
+ * 	Used to quickly narrow down the patterns that could possibly match a path without running every
+ * 	pattern's regular expression.
+ * 	The tree is made up of path segments, where each node has the following children:
+ * <ul>
+ * 	<li>Literal segments (e.g. <js>"/foo"</js>) looked up by name.
+ * 	<li>A single variable node for segments containing <js>"{var}"</js> variables (e.g. <js>"/{id}"</js>).
+ * 	<li>The patterns ending at the node, and the patterns ending at the node with a trailing <js>"/*"</js>.
+ * </ul>
+ * <p>
+ * 	Lookups take time proportional to the depth of the path.
+ * 	Patterns that can't be represented as segments (e.g. those containing regular expression characters)
+ * 	are always returned as candidates.
+ * <p>
+ * 	The result of {@link #getCandidates(String)} is a superset of the matching patterns.
+ * 	Callers are still expected to call {@link UrlPathPattern#match(String)} on each candidate.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class UrlPathRouter {
+
+	// Characters that are matched literally by the regular expression of a pattern.
+	private static final Pattern LITERAL = Pattern.compile("[\\w\\-~%,;=@:!'&]*");
+	private static final Pattern VARS = Pattern.compile("\\{[^\\}]+\\}");
+
+	private final int size;
+	private final Node root = new Node();
+	private final BitSet always = new BitSet();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param patterns The patterns to route.
+	 * 	The bit indexes returned by {@link #getCandidates(String)} are the indexes in this array.
+	 */
+	public UrlPathRouter(UrlPathPattern[] patterns) {
+		this.size = patterns.length;
+		for (int i = 0; i < patterns.length; i++)
+			if (! add(patterns[i].patternString, i))
+				always.set(i);
+	}
+
+	private boolean add(String p, int index) {
+		if (! p.startsWith("/"))
+			p = '/' + p;
+		if (p.equals("/*")) {
+			root.dotAll.set(index);
+			return true;
+		}
+		boolean isDotAll = p.endsWith("/*");
+		if (isDotAll)
+			p = p.substring(0, p.length()-2);
+
+		// Make sure variable names containing '/' characters don't break segment splitting.
+		p = VARS.matcher(p).replaceAll("{}");
+		String[] segments = p.substring(1).split("/", -1);
+
+		// Validate before modifying the tree.
+		for (String s : segments)
+			if (! LITERAL.matcher(s.replace("{}", "")).matches())
+				return false;
+
+		Node n = root;
+		for (String s : segments) {
+			if (s.contains("{}")) {
+				if (n.var == null)
+					n.var = new Node();
+				n = n.var;
+			} else {
+				Node n2 = n.literals.get(s);
+				if (n2 == null) {
+					n2 = new Node();
+					n.literals.put(s, n2);
+				}
+				n = n2;
+			}
+		}
+		(isDotAll ? n.dotAll : n.end).set(index);
+		return true;
+	}
+
+	/**
+	 * Returns the indexes of the patterns that could possibly match the specified path.
+	 *
+	 * @param path The path to match against (e.g. {@link RestRequest#getPathInfo()}).
+	 * @return The indexes of the candidate patterns.  Never <jk>null</jk>.
+	 */
+	public BitSet getCandidates(String path) {
+		BitSet bs = new BitSet(size);
+		if (path == null || ! path.startsWith("/")) {
+			bs.set(0, size);
+			return bs;
+		}
+		bs.or(always);
+		find(root, path.substring(1).split("/", -1), 0, bs);
+		return bs;
+	}
+
+	private static void find(Node n, String[] segments, int depth, BitSet bs) {
+		bs.or(n.dotAll);
+		if (depth == segments.length) {
+			bs.or(n.end);
+			return;
+		}
+		String s = segments[depth];
+		Node n2 = n.literals.get(s);
+		if (n2 != null)
+			find(n2, segments, depth+1, bs);
+		if (n.var != null && ! s.isEmpty())
+			find(n.var, segments, depth+1, bs);
+	}
+
+	/**
+	 * Returns the number of patterns in this router.
+	 *
+	 * @return The number of patterns in this router.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static class Node {
+		private final Map<String,Node> literals = new HashMap<String,Node>();
+		private Node var;
+		private final BitSet end = new BitSet(), dotAll = new BitSet();
+	}
+}
@@ -0,0 +1,103 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.server.annotation;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.*;
+
+import org.apache.juneau.server.*;
+
+/**
+ * Response caching settings used in the {@link RestMethod#cache()} and {@link RestResource#cache()} annotations.
+ * <p>
+ * 	When enabled, the serialized and encoded body of successful <code>GET</code> and <code>HEAD</code> responses is kept
+ * 	in memory and written directly to subsequent identical requests without invoking the Java method.
+ * 	Caching can't be enabled on methods for other HTTP methods, and the servlet fails to initialize if it is.
+ * <p>
+ * 	Responses are keyed by the following:
+ * <ul>
+ * 	<li>The request URI.
+ * 	<li>The query string, or only the parameters specified by {@link #varyParams()}.
+ * 	<li>The <code>Accept</code>, <code>Accept-Encoding</code>, <code>Accept-Charset</code> and <code>Accept-Language</code>
+ * 		headers, and any headers specified by {@link #varyHeaders()}.
+ * 	<li>The authenticated user.
+ * </ul>
+ * <p>
+ * 	Only responses with status <code>200</code> that are completely written to the output stream are cached.
+ * 	The response headers are cached along with the body, except for <code>Date</code>, <code>Set-Cookie</code> and
+ * 	headers describing the connection.
+ * 	Cached responses with <code>ETag</code> or <code>Last-Modified</code> headers are answered with
+ * 	<code>304 Not Modified</code> when the client's copy is current.
+ * <p>
+ * 	Cached responses can be removed using {@link RestServlet#invalidateResponseCache(String)}, and cache statistics
+ * 	can be retrieved using {@link RestServlet#getResponseCacheStats()}.
+ *
+ * <dl>
+ * 	<dt>Example:</dt>
+ * 	<dd>
+ * <p class='bcode'>
+ * 	<jc>// Cache up to 50 responses for 5 minutes.</jc>
+ * 	<ja>@RestMethod</ja>(name=<js>"GET"</js>, path=<js>"/countries"</js>, cache=<ja>@Cache</ja>(ttl=300, maxEntries=50))
+ * 	<jk>public</jk> List&lt;Country&gt; getCountries() {
+ * 		...
+ * 	}
+ * </p>
+ * 	</dd>
+ * </dl>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+@Documented
+@Target(ANNOTATION_TYPE)
+@Retention(RUNTIME)
+@Inherited
+public @interface Cache {
+
+	/**
+	 * The time in seconds that responses are cached.
+	 * <p>
+	 * 	The default value of <code>0</code> disables caching, unless caching is enabled on the class through
+	 * 	{@link RestResource#cache()}.
+	 * 	A negative value disables caching on a method even if it's enabled on the class.
+	 */
+	int ttl() default 0;
+
+	/**
+	 * The maximum number of cached responses.
+	 * <p>
+	 * 	When the cache is full, the least-recently-used response is evicted.
+	 */
+	int maxEntries() default 100;
+
+	/**
+	 * The maximum size in bytes of a cached response body.
+	 * <p>
+	 * 	Larger responses are not cached.
+	 */
+	int maxEntrySize() default 1048576;
+
+	/**
+	 * Additional request headers that responses vary by.
+	 */
+	String[] varyHeaders() default {};
+
+	/**
+	 * The query parameters that responses vary by.
+	 * <p>
+	 * 	If not specified, responses vary by the entire query string.
+	 * 	Otherwise all other query parameters are ignored.
+	 */
+	String[] varyParams() default {};
+}
@@ -435,4 +435,17 @@ public @interface RestMethod {
 	 * </ul>
 	 */
 	String clientVersion() default "";
+
+	/**
+	 * Enables server-side caching of the responses of this method.
+	 * <p>
+	 * 	Cached responses are written directly to the output without invoking the Java method.
+	 * 	Guards and matchers are still evaluated on every request.
+	 * <p>
+	 * 	Overrides the value specified by {@link RestResource#cache()}.
+	 * 	Use <code><ja>@Cache</ja>(ttl=-1)</code> to disable caching on a method when it's enabled on the class.
+	 * <p>
+	 * 	See {@link Cache} for more information.
+	 */
+	Cache cache() default @Cache;
 }
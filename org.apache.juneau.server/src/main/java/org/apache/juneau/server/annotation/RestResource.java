@@ -442,4 +442,13 @@ public @interface RestResource {
 	 */
 	String clientVersionHeader() default "";
 
+	/**
+	 * Enables server-side caching of the responses of all <code>GET</code> methods on this resource.
+	 * <p>
+	 * 	Can be overridden on individual methods using {@link RestMethod#cache()}.
+	 * <p>
+	 * 	See {@link Cache} for more information.
+	 */
+	Cache cache() default @Cache;
+
 }
@@ -67,6 +67,14 @@ public final class Queryable implements RestConverter {
 				if (cm.getPojoTransform() != null)
 					o = cm.getPojoTransform().transform(o);
 
+				// Iterators are normally streamed, but need to be read into a list to be filtered.
+				if (o instanceof Iterator) {
+					List l = new ArrayList();
+					for (Iterator i = (Iterator)o; i.hasNext();)
+						l.add(i.next());
+					o = l;
+				}
+
 				PojoQuery f = new PojoQuery(o, bc);
 
 				if (o instanceof Collection || o.getClass().isArray()) {
@@ -13,6 +13,7 @@
 package org.apache.juneau.server.response;
 
 import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.server.RestServletContext.*;
 
 import java.io.*;
 
@@ -31,6 +32,9 @@ import org.apache.juneau.server.*;
  * The <code>Content-Type</code> header is set to the mime-type defined on the selected
  * 	serializer based on the {@link Produces#contentType() @Produces.contentType} annotation.
  * <p>
+ * If the {@link RestServletContext#REST_generateETags} property is enabled, <code>GET</code> and <code>HEAD</code>
+ * 	responses are serialized into a buffer first so that an <code>ETag</code> header can be computed from the bytes.
+ * <p>
  * This handler is registered by default on {@link RestServlet RestServlets} via the
  * 	default implementation of the {@link RestServlet#createResponseHandlers} method.
  *
@@ -63,12 +67,43 @@ public class DefaultHandler implements ResponseHandler {
 					res.setContentType("text/plain");
 				}
 				p.append("mediaType", matchingAccept).append("characterEncoding", res.getCharacterEncoding());
-				if (! s.isWriterSerializer()) {
+				String method = req.getMethod();
+				if (p.getBoolean(REST_generateETags, false) && (method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD"))) {
+					ByteArrayOutputStream baos = new ByteArrayOutputStream();
+					Writer w = null;
+					if (s.isWriterSerializer() && ! "UTF-8".equalsIgnoreCase(res.getCharacterEncoding())) {
+						try {
+							w = new OutputStreamWriter(baos, res.getCharacterEncoding());
+						} catch (UnsupportedEncodingException e) {
+							String ce = res.getCharacterEncoding();
+							res.setCharacterEncoding("UTF-8");
+							throw new RestException(SC_NOT_ACCEPTABLE, "Unsupported charset in request header ''Accept-Charset'': ''{0}''", ce);
+						}
+					}
+					SerializerSession session = s.createSession(w == null ? baos : w, p, req.getJavaMethod());
+					s.serialize(session, output);
+					if (w != null)
+						w.close();
+					byte[] b = baos.toByteArray();
+					if (! res.checkNotModified(RestUtils.createETag(b), -1)) {
+						OutputStream os = res.getNegotiatedOutputStream();
+						os.write(b);
+						os.close();
+					}
+				} else if (! s.isWriterSerializer()) {
 					OutputStreamSerializer s2 = (OutputStreamSerializer)s;
 					OutputStream os = res.getNegotiatedOutputStream();
 					SerializerSession session = s.createSession(os, p, req.getJavaMethod());
 					s2.serialize(session, output);
 					os.close();
+				} else if ("UTF-8".equalsIgnoreCase(res.getCharacterEncoding())) {
+					// Serializer sessions encode directly to UTF-8 bytes when the output is a stream,
+					// which is faster than going through a PrintWriter and OutputStreamWriter.
+					WriterSerializer s2 = (WriterSerializer)s;
+					OutputStream os = res.getNegotiatedOutputStream();
+					SerializerSession session = s.createSession(os, p, req.getJavaMethod());
+					s2.serialize(session, output);
+					os.close();
 				} else {
 					WriterSerializer s2 = (WriterSerializer)s;
 					Writer w = res.getNegotiatedWriter();
@@ -16,6 +16,7 @@ import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.server.*;
 
 /**
@@ -23,6 +24,9 @@ import org.apache.juneau.server.*;
  * <p>
  * Uses the {@link Writable#writeTo(Writer)} method to send the contents to the {@link RestResponse#getNegotiatedWriter()} writer.
  * <p>
+ * {@link StreamResource} objects are sent using their precompressed contents if they were compressed using the encoder
+ * 	matching the <code>Accept-Encoding</code> header.
+ * <p>
  * This handler is registered by default on {@link RestServlet RestServlets} via the
  * 	default implementation of the {@link RestServlet#createResponseHandlers} method.
  *
@@ -40,6 +44,36 @@ public final class StreamableHandler implements ResponseHandler {
 					res.setContentType(mediaType);
 				for (Map.Entry<String,String> h : r.getHeaders().entrySet())
 					res.setHeader(h.getKey(), h.getValue());
+
+				String eTag = r.getETag();
+				String coding = res.getNegotiatedEncoding();
+				byte[] b = null;
+				if (coding != null) {
+					EncoderGroup g = res.getEncoderGroup();
+					b = r.getEncodedContents(g == null ? null : g.getEncoder(coding));
+					res.setHeader("Vary", "Accept-Encoding");
+				}
+				if (b != null)
+					eTag = eTag.substring(0, eTag.length()-1) + '-' + coding + '"';
+
+				if (res.checkNotModified(eTag, r.getLastModified()))
+					return true;
+
+				if (b != null) {
+					res.setHeader("Content-Encoding", coding);
+					res.setContentLength(b.length);
+				} else if (r.getContentLength() >= 0) {
+					res.setHeader("Content-Length", String.valueOf(r.getContentLength()));
+				}
+
+				OutputStream os = res.getOutputStream();
+				if (b != null)
+					os.write(b);
+				else
+					r.streamTo(os);
+				os.flush();
+				os.close();
+				return true;
 			}
 			OutputStream os = res.getOutputStream();
 			((Streamable)output).streamTo(os);
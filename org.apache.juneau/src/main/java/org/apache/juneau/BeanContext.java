@@ -278,6 +278,19 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = "BeanContext.useJavaBeanIntrospector";
 
+	/**
+	 * Use generated bean accessors ({@link Boolean}, default=<jk>false</jk>).
+	 * <p>
+	 * If <jk>true</jk>, a small accessor class is generated for each bean class so that constructors, getters, setters, and
+	 * 	fields are invoked through direct method calls instead of through reflection.
+	 * This significantly reduces the cost of reading and writing bean properties during serialization and parsing.
+	 * <p>
+	 * Only public members of public classes can be accessed through generated accessors.
+	 * All other members (and all members when class generation is not possible in the runtime environment)
+	 * 	continue to be accessed through reflection.
+	 */
+	public static final String BEAN_useGeneratedAccessors = "BeanContext.useGeneratedAccessors";
+
 	/**
 	 * Use interface proxies ({@link Boolean}, default=<jk>true</jk>).
 	 * <p>
@@ -341,6 +354,20 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_sortProperties = "BeanContext.sortProperties";
 
+	/**
+	 * Maximum number of cached array and parameterized class types ({@link Integer}, default=<code>1000</code>).
+	 * <p>
+	 * {@link ClassMeta} objects for arrays (e.g. <code>String[]</code>) and for parameterized maps and collections
+	 * 	(e.g. <code>Map&lt;String,Integer&gt;</code>, <code>List&lt;MyBean&gt;</code>) are interned in a cache shared by all
+	 * 	bean contexts with the same settings, so that repeated lookups of the same type return the same fully-initialized object.
+	 * <p>
+	 * When the cache is full, the oldest entries are evicted.
+	 * A value of <code>0</code> disables the cache, in which case a new {@link ClassMeta} is created on every lookup.
+	 * <p>
+	 * Plain (non-parameterized) classes are always cached.
+	 */
+	public static final String BEAN_classMetaCacheSize = "BeanContext.classMetaCacheSize";
+
 	/**
 	 * List of packages whose classes should not be considered beans (<code>Set&lt;String&gt;</code>).
 	 * <p>
@@ -421,6 +448,24 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_transforms_remove = "BeanContext.transforms.list.remove";
 
+	/**
+	 * List of {@link PojoConverter} classes used by {@link #convertToType(Object, ClassMeta)} (<code>List&lt;Class&gt;</code>).
+	 * <p>
+	 * Converters take precedence over the built-in conversions.
+	 * If more than one converter applies to a conversion, the first one in the list is used.
+	 */
+	public static final String BEAN_converters = "BeanContext.converters.list";
+
+	/**
+	 * Add to the list of converter classes.
+	 */
+	public static final String BEAN_converters_add = "BeanContext.converters.list.add";
+
+	/**
+	 * Remove from the list of converter classes.
+	 */
+	public static final String BEAN_converters_remove = "BeanContext.converters.list.remove";
+
 	/**
 	 * Specifies implementation classes for an interface or abstract class (<code>Map&lt;Class,Class&gt;</code>).
 	 * <p>
@@ -481,7 +526,21 @@ public class BeanContext extends Context {
 	// This map ensures that if the BeanContext properties in the ConfigFactory are the same,
 	// then we reuse the same Class->ClassMeta cache map.
 	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
-	private static final ConcurrentHashMap<ContextFactory.PropertyMap,Map<Class,ClassMeta>> cmCacheCache = new ConcurrentHashMap<ContextFactory.PropertyMap,Map<Class,ClassMeta>>();
+	private static final ConcurrentHashMap<ContextFactory.PropertyMap,ConcurrentMap<Class,ClassMeta>> cmCacheCache = new ConcurrentHashMap<ContextFactory.PropertyMap,ConcurrentMap<Class,ClassMeta>>();
+
+	// Same as above, but for array and parameterized class types.
+	private static final ConcurrentHashMap<ContextFactory.PropertyMap,BoundedCache<ClassMetaKey,ClassMeta>> icmCacheCache = new ConcurrentHashMap<ContextFactory.PropertyMap,BoundedCache<ClassMetaKey,ClassMeta>>();
+
+	// The pending ClassMeta that each thread is waiting on.  Used to detect class reference loops across threads.
+	private static final ConcurrentHashMap<Thread,PendingClassMeta> waitingThreads = new ConcurrentHashMap<Thread,PendingClassMeta>();
+
+	// The ClassMeta creation state of the current thread.
+	private static final ThreadLocal<CreationState> creationState = new ThreadLocal<CreationState>() {
+		@Override /* ThreadLocal */
+		protected CreationState initialValue() {
+			return new CreationState();
+		}
+	};
 
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = ContextFactory.create().getContext(BeanContext.class);
@@ -502,6 +561,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useGeneratedAccessors,
 		sortProperties;
 
 	final Visibility
@@ -514,11 +574,13 @@ public class BeanContext extends Context {
 	final String[] notBeanPackageNames, notBeanPackagePrefixes;
 	final BeanTransform<?>[] beanTransforms;
 	final PojoTransform<?,?>[] pojoTransforms;
+	final PojoConverter<?,?>[] pojoConverters;
 	final Map<Class<?>,Class<?>> implClasses;
 	final Class<?>[] implKeyClasses, implValueClasses;
 	final ClassLoader classLoader;
 
-	final Map<Class,ClassMeta> cmCache;
+	final ConcurrentMap<Class,ClassMeta> cmCache;
+	final BoundedCache<ClassMetaKey,ClassMeta> icmCache;  // Interned array and parameterized types.
 	final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -527,7 +589,7 @@ public class BeanContext extends Context {
 	final ReaderParser defaultParser;
 
 	// Holds pending ClassMetas (created, but not yet initialized).
-	final Deque<ClassMeta> pendingClassMetas = new LinkedList<ClassMeta>();
+	final ConcurrentHashMap<Class,PendingClassMeta> pendingClassMetas = new ConcurrentHashMap<Class,PendingClassMeta>();
 
 	final int hashCode;
 
@@ -558,6 +620,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters = pm.get(BEAN_ignoreInvocationExceptionsOnGetters, boolean.class, false);
 		ignoreInvocationExceptionsOnSetters = pm.get(BEAN_ignoreInvocationExceptionsOnSetters, boolean.class, false);
 		useJavaBeanIntrospector = pm.get(BEAN_useJavaBeanIntrospector, boolean.class, false);
+		useGeneratedAccessors = pm.get(BEAN_useGeneratedAccessors, boolean.class, false);
 		sortProperties = pm.get(BEAN_sortProperties, boolean.class, false);
 
 		beanConstructorVisibility = pm.get(BEAN_beanConstructorVisibility, Visibility.class, PUBLIC);
@@ -614,6 +677,16 @@ public class BeanContext extends Context {
  		beanTransforms = lbf.toArray(new BeanTransform[0]);
  		pojoTransforms = lpf.toArray(new PojoTransform[0]);
 
+		LinkedList<PojoConverter<?,?>> lpc = new LinkedList<PojoConverter<?,?>>();
+		for (Class<?> c : pm.get(BEAN_converters, Class[].class, new Class[0])) {
+			try {
+				lpc.add((PojoConverter<?,?>)c.newInstance());
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}
+		pojoConverters = lpc.toArray(new PojoConverter[0]);
+
  		implClasses = new TreeMap<Class<?>,Class<?>>(new ClassComparator());
  		Map<Class,Class> m = pm.getMap(BEAN_implClasses, Class.class, Class.class, null);
  		if (m != null)
@@ -622,6 +695,10 @@ public class BeanContext extends Context {
 		implKeyClasses = implClasses.keySet().toArray(new Class[0]);
 		implValueClasses = implClasses.values().toArray(new Class[0]);
 
+		if (! icmCacheCache.containsKey(pm))
+			icmCacheCache.putIfAbsent(pm, new BoundedCache<ClassMetaKey,ClassMeta>(pm.get(BEAN_classMetaCacheSize, int.class, 1000)));
+		this.icmCache = icmCacheCache.get(pm);
+
 		if (! cmCacheCache.containsKey(pm)) {
 			ConcurrentHashMap<Class,ClassMeta> cm = new ConcurrentHashMap<Class,ClassMeta>();
 			cm.put(String.class, new ClassMeta(String.class, this));
@@ -645,6 +722,19 @@ public class BeanContext extends Context {
 		return bc.cmCache == this.cmCache;
 	}
 
+	/**
+	 * Returns the cache of array and parameterized class types (e.g. <code>Map&lt;String,Integer&gt;</code>) used by this context.
+	 * <p>
+	 * 	The cache is shared by all bean contexts with the same settings.
+	 * 	Its size is controlled by the {@link #BEAN_classMetaCacheSize} setting.
+	 * 	Use {@link BoundedCache#getHits()} and {@link BoundedCache#getMisses()} to monitor its effectiveness.
+	 *
+	 * @return The class type cache.  Never <jk>null</jk>.
+	 */
+	public BoundedCache<?,ClassMeta> getClassMetaCache() {
+		return icmCache;
+	}
+
 	/**
 	 * Bean property getter:  <property>ignoreUnknownBeanProperties</property>.
 	 * See {@link BeanContext#BEAN_ignoreUnknownBeanProperties}.
@@ -689,6 +779,8 @@ public class BeanContext extends Context {
 			for (Map<Class,ClassMeta> cm : cmCacheCache.values())
 				ctCount += cm.size();
 			System.out.println(MessageFormat.format("ClassMeta cache: {0} instances in {1} caches", ctCount, cmCacheCache.size()));
+			for (BoundedCache<ClassMetaKey,ClassMeta> c : icmCacheCache.values())
+				System.out.println(MessageFormat.format("Array/parameterized ClassMeta cache: {0}", c));
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -935,49 +1027,142 @@ public class BeanContext extends Context {
 	 * @param <T> The class type being wrapped.
 	 * @param c The class being wrapped.
 	 * 	of type {@link Class} or {@link ClassMeta}.
-	 * @return If the class is not an array, returns a cached {@link ClassMeta} object.
-	 * 	Otherwise, returns a new {@link ClassMeta} object every time.<br>
+	 * @return A cached {@link ClassMeta} object.
+	 * 	Arrays are cached in the class type cache (see {@link #BEAN_classMetaCacheSize}).
 	 */
 	public <T> ClassMeta<T> getClassMeta(Class<T> c) {
 
-		// If this is an array, then we want it wrapped in an uncached ClassMeta object.
-		// Note that if it has a pojo transform, we still want to cache it so that
+		// If this is an array, then we want it in the bounded cache since there can be any number of array dimensions.
+		// Note that if it has a pojo transform, we still want to cache it in the normal cache so that
 		// we can cache something like byte[] with ByteArrayBase64Transform.
 		if (c.isArray() && findPojoTransform(c) == null)
-			return new ClassMeta(c, this);
+			return internClassMeta(c);
 
 		// This can happen if we have transforms defined against String or Object.
 		if (cmCache == null)
 			return null;
 
 		ClassMeta<T> cm = cmCache.get(c);
-		if (cm == null) {
+		if (cm == null)
+			cm = createClassMeta(c);
+		return cm;
+	}
 
-			synchronized (this) {
-
-				// Make sure someone didn't already set it while this thread was blocked.
-				cm = cmCache.get(c);
-				if (cm == null) {
-
-					// Note:  Bean properties add the possibility that class reference loops exist.
-					// To handle this possibility, we create a set of pending ClassMetas, and
-					// call init (which finds the bean properties) after it's been added to the pending set.
-					for (ClassMeta pcm : pendingClassMetas)
-						if (pcm.innerClass == c)
-							return pcm;
-
-					cm = new ClassMeta<T>(c, this, true);
-					pendingClassMetas.addLast(cm);
-					try {
-						cm.init();
-					} finally {
-						pendingClassMetas.removeLast();
-					}
-					cmCache.put(c, cm);
+	/*
+	 * Creates, initializes, and caches the ClassMeta for the specified class.
+	 *
+	 * Different classes are initialized in parallel by different threads.
+	 * Threads asking for a class that's being initialized by another thread wait for it to finish.
+	 *
+	 * Note:  Bean properties add the possibility that class reference loops exist.
+	 * To handle this possibility, we create a set of pending ClassMetas, and
+	 * call init (which finds the bean properties) after it's been added to the pending set.
+	 * A thread that asks for a pending class that it's initializing itself gets the pending object.
+	 * If waiting on another thread would create a loop (e.g. thread 1 initializing A needs B while
+	 * thread 2 initializing B needs A), the pending object is also returned, and the thread waits for it
+	 * to finish before returning from its outermost call.
+	 */
+	private <T> ClassMeta<T> createClassMeta(Class<T> c) {
+		CreationState s = creationState.get();
+		s.depth++;
+		try {
+			while (true) {
+				PendingClassMeta p = new PendingClassMeta(new ClassMeta<T>(c, this, true));
+				PendingClassMeta p2 = pendingClassMetas.putIfAbsent(c, p);
+				if (p2 != null) {
+					ClassMeta<T> cm = awaitClassMeta(p2, s);
+					if (cm != null)
+						return cm;
+					// The other thread failed to initialize it, so try ourselves.
+					continue;
+				}
+				try {
+					// Make sure someone didn't already set it before we added our pending entry.
+					ClassMeta<T> cm = cmCache.get(c);
+					if (cm != null)
+						return cm;
+					p.cm.init();
+					cm = cmCache.putIfAbsent(c, p.cm);
+					return (cm == null ? p.cm : cm);
+				} finally {
+					pendingClassMetas.remove(c);
+					p.latch.countDown();
 				}
 			}
+		} finally {
+			if (--s.depth == 0)
+				s.awaitBorrowed();
+		}
+	}
+
+	/*
+	 * Waits for a pending ClassMeta created by another thread.
+	 * Returns null if initialization failed in the other thread.
+	 */
+	private <T> ClassMeta<T> awaitClassMeta(PendingClassMeta p, CreationState s) {
+		Thread t = Thread.currentThread();
+		if (p.owner == t)
+			return p.cm;
+		waitingThreads.put(t, p);
+		try {
+			// Follow the chain of threads waiting on each other.
+			PendingClassMeta x = p;
+			for (int i = 0; x != null && i <= waitingThreads.size(); i++) {
+				if (x.owner == t) {
+					s.borrowed.add(p);
+					return p.cm;
+				}
+				x = waitingThreads.get(x.owner);
+			}
+			p.await();
+		} finally {
+			waitingThreads.remove(t);
+		}
+		return cmCache.get(p.cm.innerClass);
+	}
+
+	/*
+	 * A ClassMeta being initialized by a thread.
+	 */
+	static final class PendingClassMeta {
+		final ClassMeta cm;
+		final Thread owner = Thread.currentThread();
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		PendingClassMeta(ClassMeta cm) {
+			this.cm = cm;
+		}
+
+		void await() {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					latch.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/*
+	 * Tracks the nesting of ClassMeta creation on a thread, and the pending ClassMetas of other threads that were
+	 * returned before they were initialized.
+	 */
+	static final class CreationState {
+		int depth;
+		final List<PendingClassMeta> borrowed = new ArrayList<PendingClassMeta>();
+
+		void awaitBorrowed() {
+			if (! borrowed.isEmpty()) {
+				for (PendingClassMeta p : borrowed)
+					p.await();
+				borrowed.clear();
+			}
 		}
-		return cm;
 	}
 
 	/**
@@ -989,13 +1174,13 @@ public class BeanContext extends Context {
 	 * @param c The map class type.
 	 * @param keyType The map key class type.
 	 * @param valueType The map value class type.
-	 * @return If the key and value types are OBJECT, returns a cached {@link ClassMeta} object.<br>
-	 * 	Otherwise, returns a new {@link ClassMeta} object every time.
+	 * @return A cached {@link ClassMeta} object.
+	 * 	If the key or value type is not OBJECT, the object comes from the class type cache (see {@link #BEAN_classMetaCacheSize}).
 	 */
 	public <K,V,T extends Map<K,V>> ClassMeta<T> getMapClassMeta(Class<T> c, ClassMeta<K> keyType, ClassMeta<V> valueType) {
 		if (keyType.isObject() && valueType.isObject())
 			return getClassMeta(c);
-		return new ClassMeta(c, this).setKeyType(keyType).setValueType(valueType);
+		return internClassMeta(c, keyType, valueType);
 	}
 
 	/**
@@ -1035,13 +1220,67 @@ public class BeanContext extends Context {
 	 * @param <T> The collection class type.
 	 * @param c The collection class type.
 	 * @param elementType The collection element class type.
-	 * @return If the element type is <code>OBJECT</code>, returns a cached {@link ClassMeta} object.<br>
-	 * 	Otherwise, returns a new {@link ClassMeta} object every time.
+	 * @return A cached {@link ClassMeta} object.
+	 * 	If the element type is not <code>OBJECT</code>, the object comes from the class type cache (see {@link #BEAN_classMetaCacheSize}).
 	 */
 	public <E,T extends Collection<E>> ClassMeta<T> getCollectionClassMeta(Class<T> c, ClassMeta<E> elementType) {
 		if (elementType.isObject())
 			return getClassMeta(c);
-		return new ClassMeta(c, this).setElementType(elementType);
+		return internClassMeta(c, elementType);
+	}
+
+	/*
+	 * Returns the canonical ClassMeta for an array (no parameters), collection (element type), or map (key and value types).
+	 */
+	private <T> ClassMeta<T> internClassMeta(Class<T> c, ClassMeta<?>...params) {
+		ClassMetaKey key = new ClassMetaKey(c, params);
+		ClassMeta<T> cm = icmCache.get(key);
+		if (cm == null) {
+			cm = new ClassMeta<T>(c, this);
+			if (params.length == 1)
+				cm.setElementType(params[0]);
+			else if (params.length == 2)
+				cm.setKeyType(params[0]).setValueType(params[1]);
+			cm = icmCache.put(key, cm);
+		}
+		return cm;
+	}
+
+	/*
+	 * Key for the class type cache.
+	 * Parameters are compared by identity since ClassMetas are themselves canonical within a cache.
+	 */
+	static final class ClassMetaKey {
+		private final Class<?> c;
+		private final ClassMeta<?>[] params;
+		private final int hashCode;
+
+		ClassMetaKey(Class<?> c, ClassMeta<?>[] params) {
+			this.c = c;
+			this.params = params;
+			int h = c.hashCode();
+			for (ClassMeta<?> p : params)
+				h = 31*h + System.identityHashCode(p);
+			this.hashCode = h;
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof ClassMetaKey))
+				return false;
+			ClassMetaKey k = (ClassMetaKey)o;
+			if (k.c != c || k.params.length != params.length)
+				return false;
+			for (int i = 0; i < params.length; i++)
+				if (k.params[i] != params[i])
+					return false;
+			return true;
+		}
 	}
 
 	/**
@@ -1160,14 +1399,14 @@ public class BeanContext extends Context {
 					return rawType;
 				if (params[0].isObject() && params[1].isObject())
 					return rawType;
-				return new ClassMeta(rawType.innerClass, this).setKeyType(params[0]).setValueType(params[1]);
+				return internClassMeta(rawType.innerClass, params[0], params[1]);
 			}
 			if (rawType.isCollection()) {
 				if (params.length != 1)
 					return rawType;
 				if (params[0].isObject())
 					return rawType;
-				return new ClassMeta(rawType.innerClass, this).setElementType(params[0]);
+				return internClassMeta(rawType.innerClass, params[0]);
 			}
 		}
 
@@ -1268,7 +1507,7 @@ public class BeanContext extends Context {
 				ClassMeta<?> valueType = resolveType(pParams[1], cm2.getValueType(), cm.getValueType());
 				if (keyType.isObject() && valueType.isObject())
 					return cm2;
-				return new ClassMeta<T>(cm2.innerClass, this).setKeyType(keyType).setValueType(valueType);
+				return internClassMeta(cm2.innerClass, keyType, valueType);
 			}
 
 			if (cm2.isCollection()) {
@@ -1278,7 +1517,7 @@ public class BeanContext extends Context {
 				ClassMeta<?> elementType = resolveType(pParams[0], cm2.getElementType(), cm.getElementType());
 				if (elementType.isObject())
 					return cm2;
-				return new ClassMeta<T>(cm2.innerClass, this).setElementType(elementType);
+				return internClassMeta(cm2.innerClass, elementType);
 			}
 
 			return cm2;
@@ -1389,13 +1628,13 @@ public class BeanContext extends Context {
 
 			if (p != null) {
 				if (cm.isMap())
-					cm = new ClassMeta(c, this).setKeyType(p.get(0)).setValueType(p.get(1));
+					cm = internClassMeta(c, p.get(0), p.get(1));
 				if (cm.isCollection())
-					cm = new ClassMeta(c, this).setElementType(p.get(0));
+					cm = internClassMeta(c, p.get(0));
 			}
 
 			while (dim > 0) {
-				cm = new ClassMeta(Array.newInstance(cm.getInnerClass(), 0).getClass(), this);
+				cm = getClassMeta(Array.newInstance(cm.getInnerClass(), 0).getClass());
 				dim--;
 			}
 
@@ -1711,18 +1950,180 @@ public class BeanContext extends Context {
 		if (type == null)
 			type = (ClassMeta<T>)object();
 
+		// Handle the case of a null value.
+		if (value == null) {
+
+			// If it's a primitive, then use the converters to get the default value for the primitive type.
+			if (type.isPrimitive())
+				return type.getPrimitiveDefault();
+
+			// Otherwise, just return null.
+			return null;
+		}
+
+		// Converters are cached on ClassMetas created by this context.
+		// ClassMetas from other contexts may have different transforms and converters, so they're never cached.
+		Class<?> vc = value.getClass();
+		boolean cache = (type.beanContext == this);
+		// Conversions without a dedicated converter go through convertToTypeGeneric().
+		Converter c = (cache ? type.getConverter(vc) : null);
+		if (c == null && ! (cache && type.isGenericConversion(vc))) {
+			c = findConverter(vc, type);
+			if (cache)
+				type.setConverter(vc, c);
+		}
+
+		if (c == null)
+			return convertToTypeGeneric(outer, value, type);
 		try {
-			// Handle the case of a null value.
-			if (value == null) {
+			return (T)c.convert(this, value, type);
+		} catch (Exception e) {
+			throw new InvalidDataConversionException(value, type, e);
+		}
+	}
 
-				// If it's a primitive, then use the converters to get the default value for the primitive type.
-				if (type.isPrimitive())
-					return type.getPrimitiveDefault();
+	/*
+	 * Returns the converter to use for converting values of the specified class to the specified type.
+	 * The checks here must be kept in sync with the order of the checks in convertToTypeGeneric().
+	 * Only conversions that are determined solely by the value class have dedicated converters.
+	 * Returns null if the conversion must go through convertToTypeGeneric().
+	 */
+	private Converter findConverter(Class<?> vc, ClassMeta<?> type) {
+		Class<?> tc = type.getInnerClass();
+
+		// User converters take precedence over all the built-in conversions.
+		// Converters to primitive wrappers are also used for the primitive types.
+		Class<?> wtc = getWrapperIfPrimitive(tc);
+		for (PojoConverter<?,?> pc : pojoConverters)
+			if (pc.getTargetClass() == wtc && isParentClass(pc.getSourceClass(), vc))
+				return new UserConverter(pc);
+
+		if (tc.isAssignableFrom(vc))
+			if (! ((type.isMap() && type.getValueType().isNotObject()) || (type.isCollection() && type.getElementType().isNotObject())))
+				return Converter.IDENTITY;
+
+		if (tc == Class.class)
+			return null;
 
-				// Otherwise, just return null.
-				return null;
+		PojoTransform f = type.getPojoTransform();
+		if (f != null && isParentClass(f.getNormalClass(), tc) && isParentClass(f.getTransformedClass(), vc))
+			return null;
+
+		ClassMeta<?> vt = getClassMeta(vc);
+		f = vt.getPojoTransform();
+		if (f != null && isParentClass(f.getNormalClass(), vc) && isParentClass(f.getTransformedClass(), tc))
+			return null;
+
+		if (type.isNumber()) {
+			Class<?> wc = getWrapperIfPrimitive(tc);
+			if (wc == Integer.class || wc == Short.class || wc == Long.class || wc == Float.class || wc == Double.class || wc == Byte.class)
+				return (Number.class.isAssignableFrom(vc) ? Converter.NUMBER : Converter.NUMBER_FROM_STRING);
+		} else if (type.isBoolean()) {
+			return Converter.BOOLEAN;
+		} else if (type.isString()) {
+			if (! (vt.isArray() || vt.isMap() || vt.isCollection() || vt.isBean() || vt.isClass()))
+				return Converter.TO_STRING;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Converts values of one class to a specific {@link ClassMeta}.
+	 * <p>
+	 * 	Resolved the first time a value class is converted to a target type, and then cached on the target type.
+	 */
+	static abstract class Converter {
+		abstract Object convert(BeanContext bc, Object value, ClassMeta<?> type) throws Exception;
+
+		// The shared converters are defined here so that they're initialized before BeanContext.DEFAULT is created.
+
+		static final Converter IDENTITY = new Converter() {
+			@Override /* Converter */
+			Object convert(BeanContext bc, Object value, ClassMeta<?> type) {
+				return value;
 			}
+		};
+
+		// Number or primitive number from a Number.
+		static final Converter NUMBER = new Converter() {
+			@Override /* Converter */
+			Object convert(BeanContext bc, Object value, ClassMeta<?> type) {
+				Number n = (Number)value;
+				Class<?> wc = getWrapperIfPrimitive(type.getInnerClass());
+				if (wc == Integer.class)
+					return Integer.valueOf(n.intValue());
+				if (wc == Long.class)
+					return Long.valueOf(n.longValue());
+				if (wc == Double.class)
+					return Double.valueOf(n.doubleValue());
+				if (wc == Float.class)
+					return Float.valueOf(n.floatValue());
+				if (wc == Short.class)
+					return Short.valueOf(n.shortValue());
+				return Byte.valueOf(n.byteValue());
+			}
+		};
+
+		// Number or primitive number from the string form of any other value.
+		static final Converter NUMBER_FROM_STRING = new Converter() {
+			@Override /* Converter */
+			Object convert(BeanContext bc, Object value, ClassMeta<?> type) {
+				String s = (value instanceof Boolean ? (((Boolean)value).booleanValue() ? "1" : "0") : value.toString());
+				if (s.isEmpty())
+					return (type.isPrimitive() ? type.getPrimitiveDefault() : null);
+				Class<?> wc = getWrapperIfPrimitive(type.getInnerClass());
+				if (wc == Integer.class)
+					return Integer.valueOf(s);
+				if (wc == Long.class)
+					return Long.valueOf(s);
+				if (wc == Double.class)
+					return Double.valueOf(s);
+				if (wc == Float.class)
+					return Float.valueOf(s);
+				if (wc == Short.class)
+					return Short.valueOf(s);
+				return Byte.valueOf(s);
+			}
+		};
+
+		// Boolean or boolean from anything.
+		static final Converter BOOLEAN = new Converter() {
+			@Override /* Converter */
+			Object convert(BeanContext bc, Object value, ClassMeta<?> type) {
+				if (value instanceof Number)
+					return ((Number)value).intValue() != 0;
+				return Boolean.valueOf(value.toString());
+			}
+		};
+
+		// String from a simple value.
+		static final Converter TO_STRING = new Converter() {
+			@Override /* Converter */
+			Object convert(BeanContext bc, Object value, ClassMeta<?> type) {
+				return value.toString();
+			}
+		};
+	}
+
+	private static final class UserConverter extends Converter {
+		private final PojoConverter pc;
 
+		UserConverter(PojoConverter<?,?> pc) {
+			this.pc = pc;
+		}
+
+		@Override /* Converter */
+		Object convert(BeanContext bc, Object value, ClassMeta<?> type) throws Exception {
+			return pc.convert(value, type, bc);
+		}
+	}
+
+	/*
+	 * Performs conversions that don't have a dedicated converter.
+	 */
+	private <T> T convertToTypeGeneric(Object outer, Object value, ClassMeta<T> type) throws InvalidDataConversionException {
+		try {
 			Class<T> tc = type.getInnerClass();
 
 			// If no conversion needed, then just return the value.
@@ -2055,8 +2456,10 @@ public class BeanContext extends Context {
 			.append("ignoreInvocationExceptionsOnGetters", ignoreInvocationExceptionsOnGetters)
 			.append("ignoreInvocationExceptionsOnSetters", ignoreInvocationExceptionsOnSetters)
 			.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
+			.append("useGeneratedAccessors", useGeneratedAccessors)
 			.append("beanTransforms", beanTransforms)
 			.append("pojoTransforms", pojoTransforms)
+			.append("pojoConverters", pojoConverters)
 			.append("notBeanClasses", notBeanClasses)
 			.append("implClasses", implClasses)
 			.append("sortProperties", sortProperties);
@@ -13,7 +13,6 @@
 package org.apache.juneau;
 
 import java.io.*;
-import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.annotation.*;
@@ -136,12 +135,11 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 		/** If this is a read-only bean, then we need to create it. */
 		if (bean == null && create && meta.constructorArgs.length > 0) {
 			String[] props = meta.constructorArgs;
-			Constructor<T> c = meta.constructor;
 			Object[] args = new Object[props.length];
 			for (int i = 0; i < props.length; i++)
 				args[i] = propertyCache.remove(props[i]);
 			try {
-				bean = c.newInstance(args);
+				bean = meta.newBeanWithArgs(args);
 				for (Map.Entry<String,Object> e : propertyCache.entrySet())
 					put(e.getKey(), e.getValue());
 				propertyCache = null;
@@ -25,6 +25,7 @@ import org.apache.juneau.annotation.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.xml.*;
 
@@ -96,6 +97,9 @@ public class BeanMeta<T> {
 	/** XML-related metadata */
 	protected XmlBeanMeta<T> xmlMeta;
 
+	/** Generated accessor for this bean, or <jk>null</jk> if accessors are not being generated for this bean. */
+	protected BeanAccessor accessor;
+
 	// Other fields
 	BeanPropertyMeta<T> uriProperty;                                 // The property identified as the URI for this bean (annotated with @BeanProperty.beanUri).
 	BeanPropertyMeta<T> subTypeIdProperty;                           // The property indentified as the sub type differentiator property (identified by @Bean.subTypeProperty annotation).
@@ -350,6 +354,9 @@ public class BeanMeta<T> {
 			// We return this through the Bean.keySet() interface, so make sure it's not modifiable.
 			properties = Collections.unmodifiableMap(properties);
 
+			if (ctx.useGeneratedAccessors)
+				initAccessor();
+
 		} catch (BeanRuntimeException e) {
 			throw e;
 		} catch (Exception e) {
@@ -359,6 +366,27 @@ public class BeanMeta<T> {
 		return null;
 	}
 
+	/*
+	 * Generates the bean accessor and associates it with the properties that it can access.
+	 * Members that cannot be accessed through the generated class continue to use reflection.
+	 */
+	private void initAccessor() {
+		List<BeanPropertyMeta<T>> l = new ArrayList<BeanPropertyMeta<T>>(properties.values());
+		int n = l.size();
+		Method[] getters = new Method[n], setters = new Method[n];
+		Field[] fields = new Field[n];
+		for (int i = 0; i < n; i++) {
+			BeanPropertyMeta<T> p = l.get(i);
+			getters[i] = p.getGetter();
+			setters[i] = p.getSetter();
+			fields[i] = p.getField();
+		}
+		accessor = BeanAccessorGenerator.generate(c, classMeta.isMemberClass ? null : constructor, getters, setters, fields);
+		if (accessor != null)
+			for (int i = 0; i < n; i++)
+				l.get(i).setAccessor(accessor, i);
+	}
+
 	/**
 	 * Returns the subtype ID property of this bean if it has one.
 	 * <p>
@@ -600,8 +628,11 @@ public class BeanMeta<T> {
 			if (constructor != null)
 				return constructor.newInstance(outer);
 		} else {
-			if (constructor != null)
+			if (constructor != null) {
+				if (accessor != null && accessor.canInstantiate())
+					return (T)accessor.newInstance(null);
 				return constructor.newInstance((Object[])null);
+			}
 			InvocationHandler h = classMeta.getProxyInvocationHandler();
 			if (h != null) {
 				ClassLoader cl = classMeta.beanContext.classLoader;
@@ -613,6 +644,23 @@ public class BeanMeta<T> {
 		return null;
 	}
 
+	/**
+	 * Creates a new instance of this bean using the {@link BeanConstructor @BeanConstructor} constructor.
+	 *
+	 * @param args The constructor arguments in the order defined by {@link BeanConstructor#properties()}.
+	 * @return A new instance of this bean.
+	 * @throws IllegalArgumentException Thrown by constructor.
+	 * @throws InstantiationException Thrown by constructor.
+	 * @throws IllegalAccessException Thrown by constructor.
+	 * @throws InvocationTargetException Thrown by constructor.
+	 */
+	@SuppressWarnings("unchecked")
+	protected T newBeanWithArgs(Object[] args) throws IllegalArgumentException, InstantiationException, IllegalAccessException, InvocationTargetException {
+		if (accessor != null && accessor.canInstantiate())
+			return (T)accessor.newInstance(args);
+		return constructor.newInstance(args);
+	}
+
 	/*
 	 * Returns the property name of the specified field if it's a valid property.
 	 * Returns null if the field isn't a valid property.
@@ -701,6 +749,7 @@ public class BeanMeta<T> {
 			this.subTypes = subTypes;
 			this.realProperty = realProperty;
 			this.htmlMeta = new HtmlBeanPropertyMeta<T>(this);
+			this.jsonMeta = new JsonBeanPropertyMeta<T>(this);
 			this.xmlMeta = new XmlBeanPropertyMeta<T>(this);
 			this.rdfMeta = new RdfBeanPropertyMeta<T>(this);
 		}
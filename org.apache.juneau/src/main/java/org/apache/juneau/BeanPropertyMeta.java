@@ -27,6 +27,7 @@ import org.apache.juneau.annotation.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.transform.*;
@@ -59,10 +60,16 @@ public class BeanPropertyMeta<T> {
 		typeMeta;                              // The transformed class type of the bean property.
 	private String[] properties;
 	private PojoTransform transform;      // PojoTransform defined only via @BeanProperty annotation.
+	private BeanAccessor accessor;        // Generated accessor (see BeanContext.BEAN_useGeneratedAccessors).
+	private int accessorIndex;
+	private boolean isGeneratedGetter, isGeneratedSetter;
 
 	/** HTML related metadata on this bean property. */
 	protected HtmlBeanPropertyMeta<T> htmlMeta;
 
+	/** JSON related metadata on this bean property. */
+	protected JsonBeanPropertyMeta<T> jsonMeta;
+
 	/** XML related metadata on this bean property. */
 	protected XmlBeanPropertyMeta<T> xmlMeta;
 
@@ -182,6 +189,21 @@ public class BeanPropertyMeta<T> {
 		return this;
 	}
 
+	/**
+	 * Associates a generated bean accessor with this property.
+	 *
+	 * @param accessor The generated accessor for the bean class.
+	 * @param index The index of this property in the accessor.
+	 * @return This object (for method chaining).
+	 */
+	BeanPropertyMeta<T> setAccessor(BeanAccessor accessor, int index) {
+		this.accessor = accessor;
+		this.accessorIndex = index;
+		this.isGeneratedGetter = accessor.isReadable(index);
+		this.isGeneratedSetter = accessor.isWritable(index);
+		return this;
+	}
+
 	/**
 	 * Marks this property as only settable through a constructor arg.
 	 *
@@ -236,6 +258,15 @@ public class BeanPropertyMeta<T> {
 		return htmlMeta;
 	}
 
+	/**
+	 * Returns the JSON-related metadata on this bean property.
+	 *
+	 * @return The JSON-related metadata on this bean property.  Never <jk>null</jk>/.
+	 */
+	public JsonBeanPropertyMeta<T> getJsonMeta() {
+		return jsonMeta;
+	}
+
 	/**
 	 * Returns the XML-related metadata on this bean property.
 	 *
@@ -318,6 +349,7 @@ public class BeanPropertyMeta<T> {
 			return false;
 
 		htmlMeta = new HtmlBeanPropertyMeta(this);
+		jsonMeta = new JsonBeanPropertyMeta(this);
 		xmlMeta = new XmlBeanPropertyMeta(this);
 		rdfMeta = new RdfBeanPropertyMeta(this);
 
@@ -355,11 +387,7 @@ public class BeanPropertyMeta<T> {
 			if (getter == null && field == null)
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 
-			if (getter != null)
-				o = getter.invoke(bean, (Object[])null);
-
-			else if (field != null)
-				o = field.get(bean);
+			o = invokeGetter(bean);
 
 			o = transform(o);
 			if (o == null)
@@ -442,11 +470,8 @@ public class BeanPropertyMeta<T> {
 				Class<?> propertyClass = rawTypeMeta.getInnerClass();
 
 			if (value == null && (isMap || isCollection)) {
-				if (setter != null) {
-					setter.invoke(bean, new Object[] { null });
-					return r;
-				} else if (field != null) {
-					field.set(bean, null);
+				if (setter != null || field != null) {
+					invokeSetter(bean, null);
 					return r;
 				}
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' to null because no setter or public field is defined", name);
@@ -480,10 +505,7 @@ public class BeanPropertyMeta<T> {
 										throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because the value types in the assigned map do not match the specified ''elementClass'' attribute on the property, and the property value is currently null", name, propertyClass.getName(), findClassName(value));
 								}
 							}
-							if (setter != null)
-								setter.invoke(bean, valueMap);
-							else
-								field.set(bean, valueMap);
+							invokeSetter(bean, valueMap);
 							return r;
 						}
 						throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{2}'' to object of type ''{2}'' because the assigned map cannot be converted to the specified type because the property type is abstract, and the property value is currently null", name, propertyClass.getName(), findClassName(value));
@@ -491,10 +513,8 @@ public class BeanPropertyMeta<T> {
 				} else {
 					if (propMap == null) {
 						propMap = (Map)propertyClass.newInstance();
-						if (setter != null)
-							setter.invoke(bean, propMap);
-						else if (field != null)
-							field.set(bean, propMap);
+						if (setter != null || field != null)
+							invokeSetter(bean, propMap);
 						else
 							throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter or public field is defined on this property, and the existing property value is null", name, propertyClass.getName(), findClassName(value));
 					} else {
@@ -542,10 +562,7 @@ public class BeanPropertyMeta<T> {
 									}
 									valueList = l;
 								}
-							if (setter != null)
-								setter.invoke(bean, valueList);
-							else
-								field.set(bean, valueList);
+							invokeSetter(bean, valueList);
 							return r;
 						}
 						throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because the assigned map cannot be converted to the specified type because the property type is abstract, and the property value is currently null", name, propertyClass.getName(), findClassName(value));
@@ -554,10 +571,8 @@ public class BeanPropertyMeta<T> {
 				} else {
 					if (propList == null) {
 						propList = (Collection)propertyClass.newInstance();
-						if (setter != null)
-							setter.invoke(bean, propList);
-						else if (field != null)
-							field.set(bean, propList);
+						if (setter != null || field != null)
+							invokeSetter(bean, propList);
 						else
 							throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, propertyClass.getName(), findClassName(value));
 					} else {
@@ -578,10 +593,8 @@ public class BeanPropertyMeta<T> {
 				} else {
 						value = beanMeta.ctx.convertToType(value, rawTypeMeta);
 					}
-				if (setter != null)
-					setter.invoke(bean, new Object[] { value });
-				else if (field != null)
-					field.set(bean, value);
+				if (setter != null || field != null)
+					invokeSetter(bean, value);
 			}
 
 			return r;
@@ -613,10 +626,8 @@ public class BeanPropertyMeta<T> {
 	 */
 	protected void setArray(T bean, List l) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		Object array = ArrayUtils.toArray(l, this.rawTypeMeta.getElementType().getInnerClass());
-		if (setter != null)
-			setter.invoke(bean, array);
-		else if (field != null)
-			field.set(bean, array);
+		if (setter != null || field != null)
+			invokeSetter(bean, array);
 		else
 			throw new BeanRuntimeException(beanMeta.c, "Attempt to initialize array property ''{0}'', but no setter or field defined.", name);
 	}
@@ -657,10 +668,8 @@ public class BeanPropertyMeta<T> {
 
 			if (isCollection) {
 				Collection c = null;
-				if (getter != null) {
-					c = (Collection)getter.invoke(bean, (Object[])null);
-				} else if (field != null) {
-					c = (Collection)field.get(bean);
+				if (getter != null || field != null) {
+					c = (Collection)invokeGetter(bean);
 				} else {
 					throw new BeanRuntimeException(beanMeta.c, "Attempt to append to collection property ''{0}'', but no getter or field defined.", name);
 				}
@@ -677,10 +686,8 @@ public class BeanPropertyMeta<T> {
 
 				c.add(v);
 
-				if (setter != null)
-					setter.invoke(bean, c);
-				else if (field != null)
-					field.set(bean, c);
+				if (setter != null || field != null)
+					invokeSetter(bean, c);
 				else
 					throw new BeanRuntimeException(beanMeta.c, "Attempt to initialize collection property ''{0}'', but no setter or field defined.", name);
 
@@ -696,10 +703,8 @@ public class BeanPropertyMeta<T> {
 
 					// Copy any existing array values into the temporary list.
 					Object oldArray;
-				if (getter != null)
-						oldArray = getter.invoke(bean, (Object[])null);
-				else if (field != null)
-						oldArray = field.get(bean);
+				if (getter != null || field != null)
+						oldArray = invokeGetter(bean);
 				else
 					throw new BeanRuntimeException(beanMeta.c, "Attempt to append to array property ''{0}'', but no getter or field defined.", name);
 					ArrayUtils.copyToList(oldArray, l);
@@ -743,6 +748,29 @@ public class BeanPropertyMeta<T> {
 		return l;
 	}
 
+	/*
+	 * Invokes the getter (or reads the field) through the generated accessor if possible, otherwise through reflection.
+	 */
+	private Object invokeGetter(Object bean) throws IllegalAccessException, InvocationTargetException {
+		if (isGeneratedGetter)
+			return accessor.get(bean, accessorIndex);
+		if (getter != null)
+			return getter.invoke(bean, (Object[])null);
+		return field.get(bean);
+	}
+
+	/*
+	 * Invokes the setter (or sets the field) through the generated accessor if possible, otherwise through reflection.
+	 */
+	private void invokeSetter(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+		if (isGeneratedSetter)
+			accessor.set(bean, accessorIndex, value);
+		else if (setter != null)
+			setter.invoke(bean, new Object[] { value });
+		else
+			field.set(bean, value);
+	}
+
 	private Object transform(Object o) throws SerializeException {
 		// First use transform defined via @BeanProperty.
 		if (transform != null)
@@ -21,6 +21,7 @@ import java.lang.reflect.Proxy;
 import java.net.*;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.html.*;
@@ -57,7 +58,7 @@ public final class ClassMeta<T> implements Type {
 
 	/** Class categories. */
 	enum ClassCategory {
-		MAP, COLLECTION, CLASS, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, BEAN, UNKNOWN, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM
+		MAP, COLLECTION, CLASS, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, BEAN, UNKNOWN, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, ITERATOR
 	}
 
 	final BeanContext beanContext;                      // The bean context that created this object.
@@ -98,6 +99,10 @@ public final class ClassMeta<T> implements Type {
 	private Object primitiveDefault;                   // Default value for primitive type classes.
 	private Map<String,Method> remoteableMethods,      // Methods annotated with @Remoteable.  Contains all public methods if class is annotated with @Remotable.
 		publicMethods;                                 // All public methods, including static methods.
+	private volatile Map<Class<?>,BeanContext.Converter> converters;  // Converters to this class keyed by value class.  Used by BeanContext.convertToType().
+	private volatile Set<Class<?>> genericConversions;  // Value classes without a dedicated converter to this class.  Used by BeanContext.convertToType().
+
+	private static final int MAX_CONVERTERS = 100;
 
 	private static final Boolean BOOLEAN_DEFAULT = false;
 	private static final Character CHARACTER_DEFAULT = (char)0;
@@ -216,6 +221,8 @@ public final class ClassMeta<T> implements Type {
 					classCategory = READER;
 				else if (isParentClass(InputStream.class, c))
 					classCategory = INPUTSTREAM;
+				else if (isParentClass(Iterator.class, c) || isParentClass(Enumeration.class, c))
+					classCategory = ITERATOR;
 			}
 
 			isMemberClass = c.isMemberClass() && ! isStatic(c);
@@ -528,6 +535,54 @@ public final class ClassMeta<T> implements Type {
 		return this;
 	}
 
+	/**
+	 * Returns the cached converter for converting values of the specified class to this class.
+	 *
+	 * @param c The value class.
+	 * @return The cached converter, or <jk>null</jk> if not cached yet.
+	 */
+	BeanContext.Converter getConverter(Class<?> c) {
+		Map<Class<?>,BeanContext.Converter> m = converters;
+		return (m == null ? null : m.get(c));
+	}
+
+	/**
+	 * Returns <jk>true</jk> if values of the specified class are known to have no dedicated converter to this class.
+	 *
+	 * @param c The value class.
+	 * @return <jk>true</jk> if a <jk>null</jk> converter was cached for the value class.
+	 */
+	boolean isGenericConversion(Class<?> c) {
+		Set<Class<?>> s = genericConversions;
+		return (s != null && s.contains(c));
+	}
+
+	/**
+	 * Caches the converter for converting values of the specified class to this class.
+	 * <p>
+	 * 	Converters aren't cached until this class meta is initialized.
+	 *
+	 * @param c The value class.
+	 * @param converter The converter, or <jk>null</jk> if there's no dedicated converter for the value class.
+	 */
+	void setConverter(Class<?> c, BeanContext.Converter converter) {
+		if (classCategory == UNKNOWN)
+			return;
+		if (converter == null) {
+			Set<Class<?>> s = genericConversions;
+			if (s == null)
+				genericConversions = s = Collections.newSetFromMap(new ConcurrentHashMap<Class<?>,Boolean>());
+			if (s.size() < MAX_CONVERTERS)
+				s.add(c);
+			return;
+		}
+		Map<Class<?>,BeanContext.Converter> m = converters;
+		if (m == null)
+			converters = m = new ConcurrentHashMap<Class<?>,BeanContext.Converter>();
+		if (m.size() < MAX_CONVERTERS)
+			m.put(c, converter);
+	}
+
 	/**
 	 * Returns the {@link Class} object that this class type wraps.
 	 *
@@ -611,6 +666,17 @@ public final class ClassMeta<T> implements Type {
 		return classCategory == COLLECTION;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is a subclass of {@link Iterator} or {@link Enumeration}.
+	 * <p>
+	 * 	Serializers stream the entries of these objects one at a time without collecting them into a list first.
+	 *
+	 * @return <jk>true</jk> if this class is a subclass of {@link Iterator} or {@link Enumeration}.
+	 */
+	public boolean isIterator() {
+		return classCategory == ITERATOR;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is {@link Class}.
 	 *
@@ -709,6 +709,21 @@ public final class ContextFactory extends Lockable {
 		return this;
 	}
 
+	/**
+	 * Shortcut for calling <code>addTo(<jsf>BEAN_converters</jsf>, <jf>classes</jf>)</code>.
+	 *
+	 * @param classes The new setting value for the bean context.
+	 * @throws LockedException If {@link ContextFactory#lock()} was called on this class or the bean context.
+	 * @return This object (for method chaining).
+	 * @see ContextFactory#addToProperty(String, Object)
+	 * @see BeanContext#BEAN_converters
+	 */
+	public ContextFactory addConverters(Class<?>...classes) throws LockedException {
+		checkLock();
+		addToProperty(BEAN_converters, classes);
+		return this;
+	}
+
 	/**
 	 * Shortcut for calling <code>putTo(<jsf>BEAN_implCLasses</jsf>, <jf>interfaceClass</jf>, <jf>implClass</jf>)</code>.
 	 *
@@ -0,0 +1,201 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.zip.*;
+
+/**
+ * A pool of {@link Deflater} and {@link Inflater} instances that are reused across streams.
+ * <p>
+ * 	Deflaters and inflaters allocate native memory when created, so creating one per request is expensive.
+ * 	Instances are reset when released, and instances released while the pool is full are ended.
+ * <p>
+ * 	This class is thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class CompressorPool {
+
+	/** The default maximum number of idle deflaters and inflaters kept by a pool. */
+	static final int DEFAULT_MAX_SIZE = 32;
+
+	private static final byte[] GZIP_HEADER = {0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+	private final int level, maxSize;
+	private final boolean nowrap;
+	private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<Deflater>();
+	private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<Inflater>();
+	private final AtomicInteger deflaterCount = new AtomicInteger(), inflaterCount = new AtomicInteger();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level of deflaters (<code>0-9</code>, or <code>-1</code> for the default level).
+	 * @param nowrap If <jk>true</jk>, deflaters and inflaters don't use the ZLIB header and checksum (as in GZIP).
+	 * @param maxSize The maximum number of idle deflaters and inflaters to keep.
+	 */
+	CompressorPool(int level, boolean nowrap, int maxSize) {
+		this.level = level;
+		this.nowrap = nowrap;
+		this.maxSize = maxSize;
+	}
+
+	Deflater getDeflater() {
+		Deflater d = deflaters.poll();
+		if (d == null)
+			return new Deflater(level, nowrap);
+		deflaterCount.decrementAndGet();
+		return d;
+	}
+
+	void release(Deflater d) {
+		if (deflaterCount.incrementAndGet() <= maxSize) {
+			d.reset();
+			deflaters.add(d);
+		} else {
+			deflaterCount.decrementAndGet();
+			d.end();
+		}
+	}
+
+	Inflater getInflater() {
+		Inflater i = inflaters.poll();
+		if (i == null)
+			return new Inflater(nowrap);
+		inflaterCount.decrementAndGet();
+		return i;
+	}
+
+	void release(Inflater i) {
+		if (inflaterCount.incrementAndGet() <= maxSize) {
+			i.reset();
+			inflaters.add(i);
+		} else {
+			inflaterCount.decrementAndGet();
+			i.end();
+		}
+	}
+
+	/**
+	 * Returns the number of idle deflaters in this pool.
+	 */
+	int getIdleDeflaters() {
+		return deflaterCount.get();
+	}
+
+	/**
+	 * Returns the number of idle inflaters in this pool.
+	 */
+	int getIdleInflaters() {
+		return inflaterCount.get();
+	}
+
+	/**
+	 * Creates an output stream that compresses using a pooled deflater.
+	 * The deflater is returned to the pool when the stream is closed.
+	 *
+	 * @param os The stream to write compressed data to.
+	 * @param bufferSize The output buffer size.
+	 * @param gzip If <jk>true</jk>, writes the GZIP header and trailer.
+	 * @return A new output stream.
+	 * @throws IOException If the GZIP header could not be written.
+	 */
+	OutputStream getOutputStream(OutputStream os, int bufferSize, boolean gzip) throws IOException {
+		return new PooledDeflaterOutputStream(os, bufferSize, gzip);
+	}
+
+	/**
+	 * Creates an input stream that decompresses using a pooled inflater.
+	 * The inflater is returned to the pool when the stream is closed.
+	 *
+	 * @param is The stream to read compressed data from.
+	 * @param bufferSize The input buffer size.
+	 * @return A new input stream.
+	 */
+	InputStream getInputStream(InputStream is, int bufferSize) {
+		return new PooledInflaterInputStream(is, bufferSize);
+	}
+
+	private final class PooledDeflaterOutputStream extends DeflaterOutputStream {
+		private final CRC32 crc;
+		private boolean closed;
+
+		private PooledDeflaterOutputStream(OutputStream os, int bufferSize, boolean gzip) throws IOException {
+			super(os, getDeflater(), bufferSize);
+			if (gzip) {
+				crc = new CRC32();
+				out.write(GZIP_HEADER);
+			} else {
+				crc = null;
+			}
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (closed)
+				throw new IOException("Stream closed");
+			super.write(b, off, len);
+			if (crc != null)
+				crc.update(b, off, len);
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			try {
+				finish();
+				if (crc != null) {
+					writeInt((int)crc.getValue());
+					writeInt((int)def.getBytesRead());
+				}
+				out.close();
+			} finally {
+				release(def);
+			}
+		}
+
+		// Writes an integer in little-endian order as required by the GZIP trailer.
+		private void writeInt(int i) throws IOException {
+			out.write(i & 0xFF);
+			out.write((i >> 8) & 0xFF);
+			out.write((i >> 16) & 0xFF);
+			out.write((i >> 24) & 0xFF);
+		}
+	}
+
+	private final class PooledInflaterInputStream extends InflaterInputStream {
+		private boolean closed;
+
+		private PooledInflaterInputStream(InputStream is, int bufferSize) {
+			super(is, getInflater(), bufferSize);
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			try {
+				super.close();
+			} finally {
+				release(inf);
+			}
+		}
+	}
+}
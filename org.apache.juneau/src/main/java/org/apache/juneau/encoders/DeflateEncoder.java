@@ -0,0 +1,112 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ * <p>
+ * 	Uses the ZLIB format (RFC 1950) as required by the HTTP <js>"deflate"</js> coding.
+ * <p>
+ * 	The compression level and buffer size can be changed through the constructor, either directly or by subclassing:
+ * <p class='bcode'>
+ * 	<jk>public class</jk> FastDeflateEncoder <jk>extends</jk> DeflateEncoder {
+ * 		<jk>public</jk> FastDeflateEncoder() {
+ * 			<jk>super</jk>(Deflater.<jsf>BEST_SPEED</jsf>, 16384);
+ * 		}
+ * 	}
+ * </p>
+ * <p>
+ * 	Deflaters and inflaters are pooled and reused across streams, so streams must be closed to return them to the pool.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class DeflateEncoder extends Encoder {
+
+	/** The default buffer size in bytes used for compression and decompression. */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final int level, bufferSize;
+	private final CompressorPool pool;
+
+	/**
+	 * Constructor.
+	 * Uses the default compression level and buffer size.
+	 */
+	public DeflateEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level from <code>0</code> (no compression) to <code>9</code> (best compression),
+	 * 	or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param bufferSize The buffer size in bytes used for compression and decompression.
+	 * @throws IllegalArgumentException If the level or buffer size is invalid.
+	 */
+	public DeflateEncoder(int level, int bufferSize) {
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		this.level = level;
+		this.bufferSize = bufferSize;
+		this.pool = new CompressorPool(level, false, CompressorPool.DEFAULT_MAX_SIZE);
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return pool.getOutputStream(os, bufferSize, false);
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return pool.getInputStream(is, bufferSize);
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+
+	/**
+	 * Returns the compression level.
+	 *
+	 * @return The compression level, or {@link Deflater#DEFAULT_COMPRESSION}.
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the buffer size used for compression and decompression.
+	 *
+	 * @return The buffer size in bytes.
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Returns the pool of deflaters and inflaters used by this encoder.
+	 */
+	CompressorPool getPool() {
+		return pool;
+	}
+}
@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.ArrayUtils.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents the group of {@link Encoder encoders} keyed by codings.
@@ -59,6 +60,14 @@ import org.apache.juneau.*;
  */
 public final class EncoderGroup {
 
+	/** The default maximum number of distinct header values cached by {@link #findMatch(String)}. */
+	public static final int DEFAULT_MATCH_CACHE_SIZE = 100;
+
+	// Maps Accept-Encoding headers to matching codings.
+	// Headers that don't match any codings are mapped to NO_MATCH.
+	private final BoundedCache<String,String> matchCache = new BoundedCache<String,String>(DEFAULT_MATCH_CACHE_SIZE);
+	private static final String NO_MATCH = "";
+
 	private Map<String,EncoderEntry> entryMap = new TreeMap<String,EncoderEntry>(String.CASE_INSENSITIVE_ORDER);
 	private LinkedList<EncoderEntry> tempEntries = new LinkedList<EncoderEntry>();
 	private EncoderEntry[] entries;
@@ -78,6 +87,11 @@ public final class EncoderGroup {
 		if (getEntries().length == 0)
 			return null;
 
+		String key = (acceptEncoding == null ? "" : acceptEncoding);
+		String coding = matchCache.get(key);
+		if (coding != null)
+			return (coding == NO_MATCH ? null : coding);
+
 		MediaRange[] ae = MediaRange.parse(acceptEncoding);
 
 		if (ae.length == 0)
@@ -86,12 +100,29 @@ public final class EncoderGroup {
 		for (MediaRange a : ae)
 			for (EncoderEntry e : getEntries())
 				for (MediaRange a2 : e.encodingRanges)
-					if (a.matches(a2))
-						return a2.getType();
+					if (a.matches(a2)) {
+						coding = a2.getType();
+						matchCache.put(key, coding);
+						return coding;
+					}
 
+		matchCache.put(key, NO_MATCH);
 		return null;
 	}
 
+	/**
+	 * Returns the cache used by {@link #findMatch(String)} to map <code>Accept-Encoding</code> header values to codings.
+	 * <p>
+	 * 	The cache holds at most {@link #DEFAULT_MATCH_CACHE_SIZE} distinct header values by default.
+	 * 	Use {@link BoundedCache#setMaxSize(int)} to change the limit, and {@link BoundedCache#getHits()} and
+	 * 	{@link BoundedCache#getMisses()} to monitor its effectiveness.
+	 *
+	 * @return The match cache.  Never <jk>null</jk>.
+	 */
+	public BoundedCache<String,String> getMatchCache() {
+		return matchCache;
+	}
+
 	/**
 	 * Adds the specified encoders to this group.
 	 *
@@ -125,6 +156,7 @@ public final class EncoderGroup {
 	 */
 	public EncoderGroup append(Encoder...e) {
 		entries = null;
+		matchCache.clear();
 		for (Encoder r : reverse(e)) {
 			EncoderEntry ee = new EncoderEntry(r);
 			tempEntries.addFirst(ee);
@@ -17,25 +17,62 @@ import java.util.zip.*;
 
 /**
  * Encoder for handling <js>"gzip"</js> encoding and decoding.
+ * <p>
+ * 	The compression level and buffer size can be changed through the constructor, either directly or by subclassing:
+ * <p class='bcode'>
+ * 	<jk>public class</jk> FastGzipEncoder <jk>extends</jk> GzipEncoder {
+ * 		<jk>public</jk> FastGzipEncoder() {
+ * 			<jk>super</jk>(Deflater.<jsf>BEST_SPEED</jsf>, 16384);
+ * 		}
+ * 	}
+ * </p>
+ * <p>
+ * 	Deflaters are pooled and reused across output streams, so streams must be closed to return them to the pool.
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
 public class GzipEncoder extends Encoder {
 
+	/** The default buffer size in bytes used for compression and decompression. */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final int level, bufferSize;
+	private final CompressorPool pool;
+
+	/**
+	 * Constructor.
+	 * Uses the default compression level and buffer size.
+	 */
+	public GzipEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level from <code>0</code> (no compression) to <code>9</code> (best compression),
+	 * 	or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param bufferSize The buffer size in bytes used for compression and decompression.
+	 * @throws IllegalArgumentException If the level or buffer size is invalid.
+	 */
+	public GzipEncoder(int level, int bufferSize) {
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		this.level = level;
+		this.bufferSize = bufferSize;
+		this.pool = new CompressorPool(level, true, CompressorPool.DEFAULT_MAX_SIZE);
+	}
+
 	@Override /* Encoder */
 	public OutputStream getOutputStream(OutputStream os) throws IOException {
-		return new GZIPOutputStream(os) {
-			@Override /* OutputStream */
-			public final void close() throws IOException {
-				finish();
-				super.close();
-			}
-		};
+		return pool.getOutputStream(os, bufferSize, true);
 	}
 
 	@Override /* Encoder */
 	public InputStream getInputStream(InputStream is) throws IOException {
-		return new GZIPInputStream(is);
+		return new GZIPInputStream(is, bufferSize);
 	}
 
 	/**
@@ -45,4 +82,29 @@ public class GzipEncoder extends Encoder {
 	public String[] getCodings() {
 		return new String[]{"gzip"};
 	}
+
+	/**
+	 * Returns the compression level.
+	 *
+	 * @return The compression level, or {@link Deflater#DEFAULT_COMPRESSION}.
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the buffer size used for compression and decompression.
+	 *
+	 * @return The buffer size in bytes.
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Returns the pool of deflaters and inflaters used by this encoder.
+	 */
+	CompressorPool getPool() {
+		return pool;
+	}
 }
@@ -72,6 +72,12 @@ public final class HtmlParserSession extends ParserSession {
 		return xmlEventReader;
 	}
 
+	@Override /* ParserSession */
+	protected void reset(Object input) {
+		super.reset(input);
+		xmlEventReader = null;
+	}
+
 	@Override /* ParserSession */
 	public void close() throws ParseException {
 		if (xmlEventReader != null) {
@@ -266,6 +266,9 @@ public class HtmlSerializer extends XmlSerializer {
 				else
 					serializeCollection(session, out, toList(gType.getInnerClass(), o), eType, name, null, pMeta);
 			}
+			else if (gType.isIterator())
+				// Table headers are determined from all the entries, so iterators can't be streamed.
+				serializeCollection(session, out, toList(session.toIterator(o)), eType, name, null, pMeta);
 			else if (session.isUri(gType, pMeta, o)) {
 				String label = session.getAnchorText(pMeta, o);
 				out.oTag(i, "a").attrUri("href", o).append('>');
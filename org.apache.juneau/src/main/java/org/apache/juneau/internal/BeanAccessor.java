@@ -0,0 +1,114 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+import java.lang.reflect.*;
+
+/**
+ * Base class for bean accessor classes generated by {@link BeanAccessorGenerator}.
+ * <p>
+ * 	A generated accessor invokes the constructors, getters, setters, and fields of a single bean class
+ * 	through direct method calls instead of through reflection.
+ * 	Bean properties are identified by their index in the arrays passed to {@link BeanAccessorGenerator#generate(Class, Constructor, Method[], Method[], Field[])}.
+ * <p>
+ * 	Exceptions thrown by the underlying bean methods are wrapped in {@link InvocationTargetException InvocationTargetExceptions}
+ * 	so that callers can handle them the same way as reflective calls.
+ * <p>
+ * 	This class is public only so that generated subclasses residing in other class loaders can extend it.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public abstract class BeanAccessor {
+
+	boolean canInstantiate;
+	boolean[] readable, writable;
+
+	/**
+	 * Constructor.
+	 */
+	protected BeanAccessor() {}
+
+	/**
+	 * Creates a new bean instance using the constructor passed to the generator.
+	 *
+	 * @param args The constructor arguments.  Ignored for no-arg constructors.
+	 * @return A new bean instance.
+	 * @throws InvocationTargetException If the constructor threw an exception.
+	 */
+	public Object newInstance(Object[] args) throws InvocationTargetException {
+		throw new UnsupportedOperationException("Constructor not generated.");
+	}
+
+	/**
+	 * Returns the value of the specified bean property.
+	 *
+	 * @param bean The bean to get the property value from.
+	 * @param index The property index.
+	 * @return The property value.
+	 * @throws InvocationTargetException If the getter threw an exception.
+	 */
+	public Object get(Object bean, int index) throws InvocationTargetException {
+		throw unknownProperty(index);
+	}
+
+	/**
+	 * Sets the value of the specified bean property.
+	 *
+	 * @param bean The bean to set the property value on.
+	 * @param index The property index.
+	 * @param value The new property value.
+	 * @throws InvocationTargetException If the setter threw an exception.
+	 */
+	public void set(Object bean, int index, Object value) throws InvocationTargetException {
+		throw unknownProperty(index);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #newInstance(Object[])} was generated.
+	 *
+	 * @return <jk>true</jk> if {@link #newInstance(Object[])} was generated.
+	 */
+	public boolean canInstantiate() {
+		return canInstantiate;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #get(Object, int)} was generated for the specified property.
+	 *
+	 * @param index The property index.
+	 * @return <jk>true</jk> if {@link #get(Object, int)} can be called for the specified property.
+	 */
+	public boolean isReadable(int index) {
+		return readable[index];
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #set(Object, int, Object)} was generated for the specified property.
+	 *
+	 * @param index The property index.
+	 * @return <jk>true</jk> if {@link #set(Object, int, Object)} can be called for the specified property.
+	 */
+	public boolean isWritable(int index) {
+		return writable[index];
+	}
+
+	/**
+	 * Creates the exception thrown when an accessor method is called for a property that wasn't generated.
+	 *
+	 * @param index The property index.
+	 * @return A new exception.
+	 */
+	protected RuntimeException unknownProperty(int index) {
+		return new UnsupportedOperationException("Accessor not generated for property index " + index);
+	}
+}
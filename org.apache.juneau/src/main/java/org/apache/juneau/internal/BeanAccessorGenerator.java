@@ -0,0 +1,571 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Generates {@link BeanAccessor} subclasses that access bean constructors, getters, setters, and fields
+ * 	through direct method calls.
+ * <p>
+ * 	The generated classes are written as version 49 (Java 5) class files so that no stack map frames need
+ * 	to be computed, and are defined in their own class loader whose parent is the class loader of the bean.
+ * <p>
+ * 	Only public members of public classes can be accessed from a generated class.
+ * 	Constructors, getters, and setters that cannot be generated are reported through {@link BeanAccessor#canInstantiate()},
+ * 	{@link BeanAccessor#isReadable(int)}, and {@link BeanAccessor#isWritable(int)} so that callers can fall back to reflection.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class BeanAccessorGenerator {
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private static final String ACCESSOR = BeanAccessor.class.getName().replace('.', '/');
+	private static final String ITE = "java/lang/reflect/InvocationTargetException";
+
+	// Opcodes
+	private static final int
+		ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11, ILOAD_2 = 0x1c, ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_3 = 0x2d,
+		AALOAD = 0x32, POP = 0x57, POP2 = 0x58, DUP = 0x59, DUP_X1 = 0x5a, SWAP = 0x5f, TABLESWITCH = 0xaa, ARETURN = 0xb0,
+		RETURN = 0xb1, GETFIELD = 0xb4, PUTFIELD = 0xb5, INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8,
+		INVOKEINTERFACE = 0xb9, NEW = 0xbb, ATHROW = 0xbf, CHECKCAST = 0xc0;
+
+	/**
+	 * Generates a bean accessor for the specified bean class.
+	 * <p>
+	 * 	For each property index, the getter takes precedence over the field when reading, and the setter takes
+	 * 	precedence over the field when writing.
+	 * 	If the preferred member is not accessible, the property is not generated at all so that the caller's
+	 * 	reflective fallback uses the same member.
+	 *
+	 * @param c The bean class.
+	 * @param constructor The constructor to use for instantiating beans.  Can be <jk>null</jk>.
+	 * @param getters The property getters.  Elements can be <jk>null</jk>.
+	 * @param setters The property setters.  Elements can be <jk>null</jk>.
+	 * @param fields The property fields.  Elements can be <jk>null</jk>.
+	 * @return A new accessor, or <jk>null</jk> if the bean class is not accessible or class generation failed.
+	 */
+	public static BeanAccessor generate(Class<?> c, Constructor<?> constructor, Method[] getters, Method[] setters, Field[] fields) {
+		if (! isAccessible(c))
+			return null;
+		try {
+			int n = getters.length;
+			boolean[] readable = new boolean[n], writable = new boolean[n];
+			for (int i = 0; i < n; i++) {
+				readable[i] = getters[i] != null ? isAccessible(getters[i]) : (fields[i] != null && isAccessible(fields[i], false));
+				writable[i] = setters[i] != null ? isAccessible(setters[i]) : (fields[i] != null && isAccessible(fields[i], true));
+			}
+			boolean canInstantiate = constructor != null && isAccessible(constructor);
+
+			// Classes can't be defined in the java.* packages.
+			String name = (c.getName().startsWith("java.") ? "juneau." : "") + c.getName() + "$$JuneauAccessor" + COUNTER.incrementAndGet();
+			ClassWriter cw = new ClassWriter(name.replace('.', '/'));
+			cw.addConstructor();
+			if (canInstantiate)
+				cw.addNewInstance(constructor);
+			cw.addGet(c, getters, fields, readable);
+			cw.addSet(c, setters, fields, writable);
+
+			byte[] b = cw.toByteArray();
+			AccessorClassLoader cl = new AccessorClassLoader(c.getClassLoader());
+			BeanAccessor a = (BeanAccessor)cl.define(name, b).newInstance();
+			a.canInstantiate = canInstantiate;
+			a.readable = readable;
+			a.writable = writable;
+			return a;
+		} catch (Throwable e) {
+			// Fall back to reflection.
+			return null;
+		}
+	}
+
+	private static boolean isAccessible(Class<?> c) {
+		if (c.isPrimitive())
+			return true;
+		if (c.isArray())
+			return isAccessible(c.getComponentType());
+		for (Class<?> c2 = c; c2 != null; c2 = c2.getEnclosingClass())
+			if (! Modifier.isPublic(c2.getModifiers()))
+				return false;
+		return true;
+	}
+
+	private static boolean isAccessible(Method m) {
+		int mod = m.getModifiers();
+		if (Modifier.isStatic(mod) || ! Modifier.isPublic(mod))
+			return false;
+		for (Class<?> pt : m.getParameterTypes())
+			if (! isAccessible(pt))
+				return false;
+		return true;
+	}
+
+	private static boolean isAccessible(Field f, boolean write) {
+		int mod = f.getModifiers();
+		if (Modifier.isStatic(mod) || ! Modifier.isPublic(mod))
+			return false;
+		if (write && Modifier.isFinal(mod))
+			return false;
+		return isAccessible(f.getType());
+	}
+
+	private static boolean isAccessible(Constructor<?> c) {
+		Class<?> dc = c.getDeclaringClass();
+		if (Modifier.isAbstract(dc.getModifiers()) || dc.isInterface() || ! isAccessible(dc) || ! Modifier.isPublic(c.getModifiers()))
+			return false;
+		if (dc.isMemberClass() && ! Modifier.isStatic(dc.getModifiers()))
+			return false;
+		for (Class<?> pt : c.getParameterTypes())
+			if (! isAccessible(pt))
+				return false;
+		return true;
+	}
+
+	/*
+	 * Class loader for generated accessors.
+	 * Resolves the BeanAccessor class against this library regardless of what the parent class loader can see.
+	 */
+	private static final class AccessorClassLoader extends ClassLoader {
+
+		AccessorClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override /* ClassLoader */
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (name.equals(BeanAccessor.class.getName()))
+				return BeanAccessor.class;
+			return super.loadClass(name, resolve);
+		}
+
+		Class<?> define(String name, byte[] b) {
+			return defineClass(name, b, 0, b.length);
+		}
+	}
+
+	/*
+	 * Minimal class file writer for generated accessors.
+	 */
+	private static final class ClassWriter {
+
+		private final ByteArrayOutputStream cpBytes = new ByteArrayOutputStream(), methodBytes = new ByteArrayOutputStream();
+		private final DataOutputStream cp = new DataOutputStream(cpBytes), methods = new DataOutputStream(methodBytes);
+		private final Map<String,Integer> cpIndexes = new HashMap<String,Integer>();
+		private final int thisClass, superClass, codeAttr;
+		private int cpCount = 1, methodCount;
+
+		ClassWriter(String name) throws IOException {
+			thisClass = classRef(name);
+			superClass = classRef(ACCESSOR);
+			codeAttr = utf8("Code");
+		}
+
+		byte[] toByteArray() throws IOException {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(baos);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(49);
+			out.writeShort(cpCount);
+			cpBytes.writeTo(out);
+			out.writeShort(0x0001 | 0x0010 | 0x0020);  // ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(0);  // Interfaces
+			out.writeShort(0);  // Fields
+			out.writeShort(methodCount);
+			methodBytes.writeTo(out);
+			out.writeShort(0);  // Attributes
+			out.flush();
+			return baos.toByteArray();
+		}
+
+		//--------------------------------------------------------------------------------
+		// Methods
+		//--------------------------------------------------------------------------------
+
+		void addConstructor() throws IOException {
+			Code c = new Code();
+			c.op(ALOAD_0);
+			c.op(INVOKESPECIAL).u2(methodRef(ACCESSOR, "<init>", "()V", false));
+			c.op(RETURN);
+			addMethod("<init>", "()V", 1, 1, c, -1);
+		}
+
+		void addNewInstance(Constructor<?> con) throws IOException {
+			Class<?>[] pt = con.getParameterTypes();
+			String owner = internalName(con.getDeclaringClass());
+			StringBuilder desc = new StringBuilder("(");
+			Code c = new Code();
+			c.op(NEW).u2(classRef(owner));
+			c.op(DUP);
+			for (int i = 0; i < pt.length; i++) {
+				c.op(ALOAD_1);
+				c.pushInt(i);
+				c.op(AALOAD);
+				castFromObject(c, pt[i]);
+				desc.append(descriptor(pt[i]));
+			}
+			c.op(INVOKESPECIAL).u2(methodRef(owner, "<init>", desc.append(")V").toString(), false));
+			c.op(ARETURN);
+			int end = c.size();
+			addExceptionHandler(c);
+			addMethod("newInstance", "([Ljava/lang/Object;)Ljava/lang/Object;", 4 + pt.length*2, 2, c, end);
+		}
+
+		void addGet(Class<?> bc, Method[] getters, Field[] fields, boolean[] readable) throws IOException {
+			String owner = internalName(bc);
+			Code c = new Code();
+			int[] cases = new int[readable.length];
+			int sw = c.tableSwitch(readable.length), start = c.size();
+			for (int i = 0; i < readable.length; i++) {
+				if (! readable[i])
+					continue;
+				cases[i] = c.size();
+				c.op(ALOAD_1);
+				c.op(CHECKCAST).u2(classRef(owner));
+				Class<?> type;
+				if (getters[i] != null) {
+					Method m = getters[i];
+					type = m.getReturnType();
+					invoke(c, bc, owner, m);
+				} else {
+					Field f = fields[i];
+					type = f.getType();
+					c.op(GETFIELD).u2(fieldRef(owner, f.getName(), descriptor(type)));
+				}
+				box(c, type);
+				c.op(ARETURN);
+			}
+			int end = c.size();
+			if (end > start)
+				addExceptionHandler(c);
+			int dflt = addUnknownProperty(c);
+			c.patchTableSwitch(sw, cases, dflt);
+			addMethod("get", "(Ljava/lang/Object;I)Ljava/lang/Object;", 4, 3, c, end > start ? end : -1, start);
+		}
+
+		void addSet(Class<?> bc, Method[] setters, Field[] fields, boolean[] writable) throws IOException {
+			String owner = internalName(bc);
+			Code c = new Code();
+			int[] cases = new int[writable.length];
+			int sw = c.tableSwitch(writable.length), start = c.size();
+			for (int i = 0; i < writable.length; i++) {
+				if (! writable[i])
+					continue;
+				cases[i] = c.size();
+				c.op(ALOAD_1);
+				c.op(CHECKCAST).u2(classRef(owner));
+				c.op(ALOAD_3);
+				if (setters[i] != null) {
+					Method m = setters[i];
+					castFromObject(c, m.getParameterTypes()[0]);
+					invoke(c, bc, owner, m);
+					Class<?> rt = m.getReturnType();
+					if (rt == long.class || rt == double.class)
+						c.op(POP2);
+					else if (rt != void.class)
+						c.op(POP);
+				} else {
+					Field f = fields[i];
+					castFromObject(c, f.getType());
+					c.op(PUTFIELD).u2(fieldRef(owner, f.getName(), descriptor(f.getType())));
+				}
+				c.op(RETURN);
+			}
+			int end = c.size();
+			if (end > start)
+				addExceptionHandler(c);
+			int dflt = addUnknownProperty(c);
+			c.patchTableSwitch(sw, cases, dflt);
+			addMethod("set", "(Ljava/lang/Object;ILjava/lang/Object;)V", 5, 4, c, end > start ? end : -1, start);
+		}
+
+		private void invoke(Code c, Class<?> bc, String owner, Method m) throws IOException {
+			boolean isInterface = bc.isInterface();
+			StringBuilder desc = new StringBuilder("(");
+			for (Class<?> pt : m.getParameterTypes())
+				desc.append(descriptor(pt));
+			desc.append(')').append(descriptor(m.getReturnType()));
+			int ref = methodRef(owner, m.getName(), desc.toString(), isInterface);
+			if (isInterface) {
+				int slots = 1;
+				for (Class<?> pt : m.getParameterTypes())
+					slots += (pt == long.class || pt == double.class ? 2 : 1);
+				c.op(INVOKEINTERFACE).u2(ref).u1(slots).u1(0);
+			} else {
+				c.op(INVOKEVIRTUAL).u2(ref);
+			}
+		}
+
+		/*
+		 * Wraps any throwable thrown in the preceding code in an InvocationTargetException.
+		 * Stack on entry is [throwable].
+		 */
+		private void addExceptionHandler(Code c) throws IOException {
+			c.op(NEW).u2(classRef(ITE));
+			c.op(DUP_X1);
+			c.op(SWAP);
+			c.op(INVOKESPECIAL).u2(methodRef(ITE, "<init>", "(Ljava/lang/Throwable;)V", false));
+			c.op(ATHROW);
+		}
+
+		private int addUnknownProperty(Code c) throws IOException {
+			int pc = c.size();
+			c.op(ALOAD_0);
+			c.op(ILOAD_2);
+			c.op(INVOKEVIRTUAL).u2(methodRef(ACCESSOR, "unknownProperty", "(I)Ljava/lang/RuntimeException;", false));
+			c.op(ATHROW);
+			return pc;
+		}
+
+		private void addMethod(String name, String desc, int maxStack, int maxLocals, Code c, int handlerPc) throws IOException {
+			addMethod(name, desc, maxStack, maxLocals, c, handlerPc, 0);
+		}
+
+		/*
+		 * handlerPc is the start of the exception handler that covers [startPc,handlerPc), or -1 if there is none.
+		 */
+		private void addMethod(String name, String desc, int maxStack, int maxLocals, Code c, int handlerPc, int startPc) throws IOException {
+			methodCount++;
+			methods.writeShort(0x0001);  // ACC_PUBLIC
+			methods.writeShort(utf8(name));
+			methods.writeShort(utf8(desc));
+			methods.writeShort(1);
+			methods.writeShort(codeAttr);
+			int excCount = handlerPc == -1 ? 0 : 1;
+			methods.writeInt(12 + c.size() + excCount*8);
+			methods.writeShort(maxStack);
+			methods.writeShort(maxLocals);
+			methods.writeInt(c.size());
+			methods.write(c.buf, 0, c.size());
+			methods.writeShort(excCount);
+			if (excCount == 1) {
+				methods.writeShort(startPc);
+				methods.writeShort(handlerPc);
+				methods.writeShort(handlerPc);
+				methods.writeShort(0);  // Any throwable
+			}
+			methods.writeShort(0);  // Attributes
+		}
+
+		//--------------------------------------------------------------------------------
+		// Type conversions
+		//--------------------------------------------------------------------------------
+
+		/*
+		 * Converts the Object on the stack to the specified type.
+		 * Primitive numbers are converted through Number so that widening conversions work like Method.invoke().
+		 */
+		private void castFromObject(Code c, Class<?> type) throws IOException {
+			if (type == Object.class)
+				return;
+			if (type == boolean.class) {
+				c.op(CHECKCAST).u2(classRef("java/lang/Boolean"));
+				c.op(INVOKEVIRTUAL).u2(methodRef("java/lang/Boolean", "booleanValue", "()Z", false));
+			} else if (type == char.class) {
+				c.op(CHECKCAST).u2(classRef("java/lang/Character"));
+				c.op(INVOKEVIRTUAL).u2(methodRef("java/lang/Character", "charValue", "()C", false));
+			} else if (type.isPrimitive()) {
+				c.op(CHECKCAST).u2(classRef("java/lang/Number"));
+				c.op(INVOKEVIRTUAL).u2(methodRef("java/lang/Number", type.getName() + "Value", "()" + descriptor(type), false));
+			} else {
+				c.op(CHECKCAST).u2(classRef(internalName(type)));
+			}
+		}
+
+		/*
+		 * Boxes the primitive on the stack if the specified type is primitive.
+		 */
+		private void box(Code c, Class<?> type) throws IOException {
+			if (! type.isPrimitive())
+				return;
+			String w = internalName(ClassUtils.getWrapperIfPrimitive(type));
+			c.op(INVOKESTATIC).u2(methodRef(w, "valueOf", "(" + descriptor(type) + ")L" + w + ";", false));
+		}
+
+		private static String internalName(Class<?> c) {
+			if (c.isArray())
+				return descriptor(c);
+			return c.getName().replace('.', '/');
+		}
+
+		private static String descriptor(Class<?> c) {
+			if (c.isPrimitive()) {
+				if (c == int.class) return "I";
+				if (c == long.class) return "J";
+				if (c == boolean.class) return "Z";
+				if (c == byte.class) return "B";
+				if (c == char.class) return "C";
+				if (c == short.class) return "S";
+				if (c == float.class) return "F";
+				if (c == double.class) return "D";
+				return "V";
+			}
+			if (c.isArray())
+				return c.getName().replace('.', '/');
+			return "L" + c.getName().replace('.', '/') + ";";
+		}
+
+		//--------------------------------------------------------------------------------
+		// Constant pool
+		//--------------------------------------------------------------------------------
+
+		private int utf8(String s) throws IOException {
+			Integer i = cpIndexes.get("U" + s);
+			if (i == null) {
+				cp.writeByte(1);
+				cp.writeUTF(s);
+				i = cpAdd("U" + s);
+			}
+			return i;
+		}
+
+		private int classRef(String name) throws IOException {
+			Integer i = cpIndexes.get("C" + name);
+			if (i == null) {
+				int n = utf8(name);
+				cp.writeByte(7);
+				cp.writeShort(n);
+				i = cpAdd("C" + name);
+			}
+			return i;
+		}
+
+		private int nameAndType(String name, String desc) throws IOException {
+			String key = "N" + name + ' ' + desc;
+			Integer i = cpIndexes.get(key);
+			if (i == null) {
+				int n = utf8(name), d = utf8(desc);
+				cp.writeByte(12);
+				cp.writeShort(n);
+				cp.writeShort(d);
+				i = cpAdd(key);
+			}
+			return i;
+		}
+
+		private int fieldRef(String owner, String name, String desc) throws IOException {
+			return memberRef(9, owner, name, desc);
+		}
+
+		private int methodRef(String owner, String name, String desc, boolean isInterface) throws IOException {
+			return memberRef(isInterface ? 11 : 10, owner, name, desc);
+		}
+
+		private int memberRef(int tag, String owner, String name, String desc) throws IOException {
+			String key = "M" + tag + owner + ' ' + name + ' ' + desc;
+			Integer i = cpIndexes.get(key);
+			if (i == null) {
+				int c = classRef(owner), nt = nameAndType(name, desc);
+				cp.writeByte(tag);
+				cp.writeShort(c);
+				cp.writeShort(nt);
+				i = cpAdd(key);
+			}
+			return i;
+		}
+
+		private int cpAdd(String key) {
+			int i = cpCount++;
+			if (cpCount > 0xFFFF)
+				throw new IllegalStateException("Constant pool too large");
+			cpIndexes.put(key, i);
+			return i;
+		}
+	}
+
+	/*
+	 * Growable bytecode buffer.
+	 */
+	private static final class Code {
+		byte[] buf = new byte[256];
+		int pos;
+
+		Code op(int b) {
+			return u1(b);
+		}
+
+		Code u1(int b) {
+			if (pos == buf.length)
+				buf = Arrays.copyOf(buf, buf.length*2);
+			buf[pos++] = (byte)b;
+			return this;
+		}
+
+		Code u2(int s) {
+			if (s > 0xFFFF)
+				throw new IllegalStateException("Value too large: " + s);
+			return u1(s >>> 8).u1(s);
+		}
+
+		Code u4(int i) {
+			return u1(i >>> 24).u1(i >>> 16).u1(i >>> 8).u1(i);
+		}
+
+		int size() {
+			return pos;
+		}
+
+		void pushInt(int i) {
+			if (i <= 5)
+				op(ICONST_0 + i);
+			else if (i <= Byte.MAX_VALUE)
+				op(BIPUSH).u1(i);
+			else
+				op(SIPUSH).u2(i);
+		}
+
+		/*
+		 * Writes "iload_2; tableswitch" with placeholder offsets and returns the position of the tableswitch opcode.
+		 */
+		int tableSwitch(int count) {
+			op(ILOAD_2);
+			int sw = pos;
+			op(TABLESWITCH);
+			while (pos % 4 != 0)
+				u1(0);
+			u4(0);                     // default
+			u4(0);                     // low
+			u4(Math.max(count-1, 0));  // high
+			for (int i = 0; i < Math.max(count, 1); i++)
+				u4(0);
+			return sw;
+		}
+
+		/*
+		 * Fills in the offsets of a tableswitch.
+		 * Cases with a position of 0 jump to the default.
+		 */
+		void patchTableSwitch(int sw, int[] cases, int dflt) {
+			int p = sw + 1;
+			while (p % 4 != 0)
+				p++;
+			putInt(p, dflt - sw);
+			p += 12;
+			for (int i = 0; i < Math.max(cases.length, 1); i++, p += 4)
+				putInt(p, (i < cases.length && cases[i] != 0 ? cases[i] : dflt) - sw);
+		}
+
+		private void putInt(int p, int i) {
+			buf[p] = (byte)(i >>> 24);
+			buf[p+1] = (byte)(i >>> 16);
+			buf[p+2] = (byte)(i >>> 8);
+			buf[p+3] = (byte)i;
+		}
+	}
+}
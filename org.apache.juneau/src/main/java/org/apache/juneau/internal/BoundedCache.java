@@ -0,0 +1,162 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A thread-safe cache with a maximum number of entries.
+ * <p>
+ * 	Lookups are a single {@link ConcurrentHashMap} read.
+ * 	When the cache grows beyond its maximum size, the oldest entries are evicted first.
+ * <p>
+ * 	Keeps track of the number of hits and misses so that the effectiveness of the cache can be monitored.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class BoundedCache<K,V> {
+
+	private final ConcurrentHashMap<K,V> map = new ConcurrentHashMap<K,V>();
+	private final Queue<K> keys = new ConcurrentLinkedQueue<K>();
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+	private final AtomicInteger size = new AtomicInteger();
+	private volatile int maxSize;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxSize The maximum number of entries in this cache.
+	 */
+	public BoundedCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the cached value for the specified key.
+	 *
+	 * @param key The key.  Must not be <jk>null</jk>.
+	 * @return The cached value, or <jk>null</jk> if the key is not in this cache.
+	 */
+	public V get(K key) {
+		V v = map.get(key);
+		if (v == null)
+			misses.incrementAndGet();
+		else
+			hits.incrementAndGet();
+		return v;
+	}
+
+	/**
+	 * Adds the specified value to this cache if the key isn't already present.
+	 * <p>
+	 * 	If the cache exceeds its maximum size, the oldest entries are evicted.
+	 *
+	 * @param key The key.  Must not be <jk>null</jk>.
+	 * @param value The value.  Must not be <jk>null</jk>.
+	 * @return The value now associated with the key.  This will be a previously-cached value if one
+	 * 	was added by another thread.
+	 */
+	public V put(K key, V value) {
+		if (maxSize <= 0)
+			return value;
+		V v = map.putIfAbsent(key, value);
+		if (v != null)
+			return v;
+		keys.add(key);
+		if (size.incrementAndGet() > maxSize) {
+			while (size.get() > maxSize) {
+				K k = keys.poll();
+				if (k == null)
+					break;
+				if (map.remove(k) != null)
+					size.decrementAndGet();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 * <p>
+	 * 	The hit and miss counters are not reset.
+	 */
+	public void clear() {
+		keys.clear();
+		map.clear();
+		size.set(0);
+	}
+
+	/**
+	 * Sets the maximum number of entries in this cache.
+	 * <p>
+	 * 	A value of <code>0</code> disables caching.
+	 *
+	 * @param maxSize The new maximum number of entries.
+	 * @return This object (for method chaining).
+	 */
+	public BoundedCache<K,V> setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		clear();
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of entries in this cache.
+	 *
+	 * @return The maximum number of entries in this cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that found a cached value.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that did not find a cached value.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the size and hit/miss counts of this cache.
+	 *
+	 * @return A simple string of the form <js>"size=1,maxSize=100,hits=99,misses=1"</js>.
+	 */
+	@Override /* Object */
+	public String toString() {
+		return "size=" + size() + ",maxSize=" + maxSize + ",hits=" + hits + ",misses=" + misses;
+	}
+}
@@ -0,0 +1,270 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+import javax.xml.bind.*;
+
+/**
+ * Thread-safe utilities for formatting and parsing ISO8601 date-time strings.
+ * <p>
+ * 	Unlike {@link java.text.SimpleDateFormat}, these methods don't hold any state and can be called concurrently.
+ * 	Formatting writes directly to a {@link StringBuilder} without creating intermediate strings or calendars.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class DateUtils {
+
+	private static final long
+		MS_PER_DAY = 86400000L,
+		// Start of the Gregorian calendar in java.util.GregorianCalendar (1582-10-15T00:00:00Z).
+		GREGORIAN_CUTOVER = -12219292800000L,
+		// Start of year 10000.
+		MAX_TIME = 253402300800000L;
+
+	private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+
+	/**
+	 * Appends the specified time as an ISO8601 date-time string (e.g. <js>"2001-07-04T15:30:45-05:00"</js>).
+	 * <p>
+	 * 	Produces the same output as a {@link java.text.SimpleDateFormat} with the pattern
+	 * 	<js>"yyyy-MM-dd'T'HH:mm:ss"</js> (or <js>"yyyy-MM-dd'T'HH:mm:ss.SSS"</js>) followed by the time zone offset,
+	 * 	where a zero offset is rendered as <js>"Z"</js>.
+	 *
+	 * @param sb The buffer to append to.
+	 * @param time The time in milliseconds since the epoch.
+	 * @param tz The time zone to render the time in.
+	 * @param millis Append milliseconds.
+	 * @param zone Append the time zone offset.
+	 * @return The same buffer.
+	 */
+	public static StringBuilder appendISO8601(StringBuilder sb, long time, TimeZone tz, boolean millis, boolean zone) {
+		int offset = tz.getOffset(time);
+		long local = time + offset;
+		if (local < GREGORIAN_CUTOVER || local >= MAX_TIME) {
+			// Let GregorianCalendar deal with the Julian calendar and large years.
+			Calendar c = new GregorianCalendar(tz);
+			c.setTimeInMillis(time);
+			appendDateTime(sb, c.get(Calendar.YEAR), c.get(Calendar.MONTH)+1, c.get(Calendar.DAY_OF_MONTH), c.get(Calendar.HOUR_OF_DAY), c.get(Calendar.MINUTE), c.get(Calendar.SECOND));
+		} else {
+			long days = local / MS_PER_DAY;
+			int ms = (int)(local % MS_PER_DAY);
+			if (ms < 0) {
+				days--;
+				ms += MS_PER_DAY;
+			}
+
+			// Convert days since the epoch to a civil date.
+			long z = days + 719468;
+			long era = (z >= 0 ? z : z - 146096) / 146097;
+			int doe = (int)(z - era * 146097);
+			int yoe = (doe - doe/1460 + doe/36524 - doe/146096) / 365;
+			int doy = doe - (365*yoe + yoe/4 - yoe/100);
+			int mp = (5*doy + 2) / 153;
+			int day = doy - (153*mp + 2)/5 + 1;
+			int month = (mp < 10 ? mp+3 : mp-9);
+			int year = (int)(yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+			int s = ms / 1000;
+			appendDateTime(sb, year, month, day, s / 3600, (s / 60) % 60, s % 60);
+		}
+		if (millis) {
+			int ms = (int)(time % 1000);
+			if (ms < 0)
+				ms += 1000;
+			sb.append('.');
+			append(sb, ms, 3);
+		}
+		if (zone)
+			appendOffset(sb, offset);
+		return sb;
+	}
+
+	/**
+	 * Appends the specified calendar as an ISO8601 date-time string (e.g. <js>"2001-07-04T15:30:45-05:00"</js>).
+	 * <p>
+	 * 	Produces the same output as {@link DatatypeConverter#printDateTime(Calendar)}.
+	 * 	The fields are taken from the calendar itself, and milliseconds are only included when non-zero.
+	 *
+	 * @param sb The buffer to append to.
+	 * @param c The calendar to append.
+	 * @return The same buffer.
+	 */
+	public static StringBuilder appendISO8601(StringBuilder sb, Calendar c) {
+		appendDateTime(sb, c.get(Calendar.YEAR), c.get(Calendar.MONTH)+1, c.get(Calendar.DAY_OF_MONTH), c.get(Calendar.HOUR_OF_DAY), c.get(Calendar.MINUTE), c.get(Calendar.SECOND));
+		int ms = c.get(Calendar.MILLISECOND);
+		if (ms != 0) {
+			sb.append('.');
+			append(sb, ms, 3);
+		}
+		appendOffset(sb, c.getTimeZone().getOffset(c.getTimeInMillis()));
+		return sb;
+	}
+
+	/**
+	 * Parses an ISO8601 date-time string into a calendar.
+	 * <p>
+	 * 	Strings of the form <js>"yyyy-MM-ddTHH:mm:ss[.S*](Z|+hh:mm|-hh:mm)"</js> are parsed directly.
+	 * 	All other strings are passed to {@link DatatypeConverter#parseDateTime(String)}, and the result
+	 * 	is the same in both cases.
+	 *
+	 * @param s The string to parse.
+	 * @return A new calendar in the time zone of the string.
+	 * @throws IllegalArgumentException If the string is not a valid ISO8601 date-time string.
+	 */
+	public static Calendar parseISO8601Calendar(String s) throws IllegalArgumentException {
+		int[] offset = new int[1];
+		long t = parse(s, offset);
+		if (t == Long.MIN_VALUE)
+			return DatatypeConverter.parseDateTime(s);
+		int o = Math.abs(offset[0]), h = o / 60, m = o % 60;
+		StringBuilder id = new StringBuilder(9).append("GMT").append(offset[0] < 0 ? '-' : '+').append(h);
+		if (m != 0) {
+			if (m < 10)
+				id.append('0');
+			id.append(m);
+		}
+		GregorianCalendar c = new GregorianCalendar(TimeZone.getTimeZone(id.toString()));
+		c.setGregorianChange(PURE_GREGORIAN_CHANGE);
+		c.setTimeInMillis(t);
+		return c;
+	}
+
+	/**
+	 * Parses an ISO8601 date-time string into a date.
+	 * <p>
+	 * 	Same as {@link #parseISO8601Calendar(String)}, but avoids creating a calendar for the common case.
+	 *
+	 * @param s The string to parse.
+	 * @return A new date.
+	 * @throws IllegalArgumentException If the string is not a valid ISO8601 date-time string.
+	 */
+	public static Date parseISO8601Date(String s) throws IllegalArgumentException {
+		long t = parse(s, new int[1]);
+		if (t == Long.MIN_VALUE)
+			return DatatypeConverter.parseDateTime(s).getTime();
+		return new Date(t);
+	}
+
+	/*
+	 * Parses strings of the form "yyyy-MM-ddTHH:mm:ss[.S*](Z|+hh:mm|-hh:mm)" using the proleptic Gregorian calendar.
+	 * Returns Long.MIN_VALUE if the string isn't of this form so that the caller can fall back to DatatypeConverter.
+	 */
+	private static long parse(String s, int[] offset) {
+		int len = s.length();
+		if (len < 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':' || s.charAt(16) != ':')
+			return Long.MIN_VALUE;
+		int year = digits(s, 0, 4), month = digits(s, 5, 2), day = digits(s, 8, 2), hour = digits(s, 11, 2), minute = digits(s, 14, 2), second = digits(s, 17, 2);
+		if (year < 1 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+			return Long.MIN_VALUE;
+
+		int i = 19, ms = 0;
+		if (s.charAt(i) == '.') {
+			int start = ++i;
+			while (i < len && isDigit(s.charAt(i))) {
+				if (i - start < 3)
+					ms = ms * 10 + (s.charAt(i) - '0');
+				i++;
+			}
+			if (i == start)
+				return Long.MIN_VALUE;
+			for (int j = i - start; j < 3; j++)
+				ms *= 10;
+		}
+
+		if (i == len - 1 && s.charAt(i) == 'Z') {
+			offset[0] = 0;
+		} else if (i == len - 6 && (s.charAt(i) == '+' || s.charAt(i) == '-') && s.charAt(i+3) == ':') {
+			int oh = digits(s, i+1, 2), om = digits(s, i+4, 2);
+			if (oh < 0 || oh > 14 || om < 0 || om > 59)
+				return Long.MIN_VALUE;
+			offset[0] = (s.charAt(i) == '-' ? -1 : 1) * (oh * 60 + om);
+		} else {
+			return Long.MIN_VALUE;
+		}
+
+		// Convert the civil date to days since the epoch.
+		int y = year - (month <= 2 ? 1 : 0);
+		int era = y / 400;
+		int yoe = y - era * 400;
+		int doy = (153 * (month > 2 ? month-3 : month+9) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe/4 - yoe/100 + doy;
+		long days = era * 146097L + doe - 719468;
+
+		return ((days * 24 + hour) * 60 + minute - offset[0]) * 60000L + second * 1000L + ms;
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if (month == 2)
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	// Returns -1 if the characters aren't all digits.
+	private static int digits(String s, int start, int len) {
+		int n = 0;
+		for (int i = start; i < start + len; i++) {
+			char c = s.charAt(i);
+			if (! isDigit(c))
+				return -1;
+			n = n * 10 + (c - '0');
+		}
+		return n;
+	}
+
+	private static void appendDateTime(StringBuilder sb, int year, int month, int day, int hour, int minute, int second) {
+		append(sb, year, 4);
+		sb.append('-');
+		append(sb, month, 2);
+		sb.append('-');
+		append(sb, day, 2);
+		sb.append('T');
+		append(sb, hour, 2);
+		sb.append(':');
+		append(sb, minute, 2);
+		sb.append(':');
+		append(sb, second, 2);
+	}
+
+	/**
+	 * Appends a time zone offset as <js>"Z"</js> or <js>"+hh:mm"</js>.
+	 *
+	 * @param sb The buffer to append to.
+	 * @param offset The time zone offset in milliseconds (e.g. {@link TimeZone#getOffset(long)}).
+	 * @return The same buffer.
+	 */
+	public static StringBuilder appendOffset(StringBuilder sb, int offset) {
+		if (offset == 0)
+			return sb.append('Z');
+		sb.append(offset < 0 ? '-' : '+');
+		int m = Math.abs(offset) / 60000;
+		append(sb, m / 60, 2);
+		sb.append(':');
+		append(sb, m % 60, 2);
+		return sb;
+	}
+
+	/*
+	 * Appends a non-negative number zero-padded to the specified minimum width.
+	 */
+	private static void append(StringBuilder sb, int n, int width) {
+		for (int p = (width == 4 ? 1000 : width == 3 ? 100 : 10); p > 1 && n < p; p /= 10)
+			sb.append('0');
+		sb.append(n);
+	}
+}
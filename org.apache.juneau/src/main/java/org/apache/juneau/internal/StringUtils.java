@@ -20,8 +20,6 @@ import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.regex.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.parser.*;
 
 /**
@@ -802,7 +800,7 @@ public final class StringUtils {
 			date += ":00:00";
 		else if (date.matches("\\d{4}\\-\\d{2}\\-\\d{2}T\\d{2}\\:\\d{2}"))
 			date += ":00";
-		return DatatypeConverter.parseDateTime(date).getTime();
+		return DateUtils.parseISO8601Date(date);
 	}
 
 	/**
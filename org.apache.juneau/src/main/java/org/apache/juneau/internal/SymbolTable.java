@@ -0,0 +1,86 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+/**
+ * A small cache of canonical strings looked up directly from character buffers.
+ * <p>
+ * 	Used by parsers for map keys and bean property names, which tend to repeat many times within a document.
+ * 	Looking up a name that has been seen before returns the same {@link String} instance without allocating a new one,
+ * 	and since the hash code of the returned string is already computed, subsequent lookups in bean property maps are
+ * 	cheaper too.
+ * <p>
+ * 	The table has a fixed number of slots.  Colliding names simply replace each other, so the table never grows
+ * 	regardless of how many distinct names are encountered.
+ * <p>
+ * 	<b>Warning:</b>  Not thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class SymbolTable {
+
+	private static final int MAX_LENGTH = 64;
+
+	private final String[] symbols;
+	private final int mask;
+
+	/**
+	 * Constructor with 256 slots.
+	 */
+	public SymbolTable() {
+		this(256);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param size The number of slots.  Rounded up to the next power of 2.
+	 */
+	public SymbolTable(int size) {
+		int n = 1;
+		while (n < size)
+			n <<= 1;
+		symbols = new String[n];
+		mask = n - 1;
+	}
+
+	/**
+	 * Returns the canonical string for the specified characters.
+	 *
+	 * @param buff The character buffer.
+	 * @param start The position of the first character.
+	 * @param len The number of characters.
+	 * @return The canonical string, or a new string if it's too long to be cached.
+	 */
+	public String get(char[] buff, int start, int len) {
+		if (len > MAX_LENGTH)
+			return new String(buff, start, len);
+		int h = 0;
+		for (int i = start, end = start + len; i < end; i++)
+			h = 31*h + buff[i];
+		int i = (h ^ (h >>> 16)) & mask;
+		String s = symbols[i];
+		if (s != null && s.length() == len && s.hashCode() == h && matches(s, buff, start))
+			return s;
+		s = new String(buff, start, len);
+		symbols[i] = s;
+		return s;
+	}
+
+	private static boolean matches(String s, char[] buff, int start) {
+		for (int i = 0; i < s.length(); i++)
+			if (s.charAt(i) != buff[start+i])
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,186 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * A {@link Reader} that decodes UTF-8 bytes from an {@link InputStream} or byte array directly into the caller's buffer.
+ * <p>
+ * 	Equivalent to an {@link InputStreamReader} using UTF-8, but without the charset decoder and its intermediate buffers.
+ * 	ASCII bytes are copied straight into the character buffer, which makes it considerably faster for the
+ * 	mostly-ASCII content handled by the parsers.
+ * 	Byte arrays are decoded in place without being copied.
+ * <p>
+ * 	Malformed input is replaced with <js>'\uFFFD'</js> characters, one for each malformed sequence, the same way
+ * 	{@link InputStreamReader} does.
+ * <p>
+ * 	<b>Warning:</b>  Not thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class Utf8Reader extends Reader {
+
+	private static final char REPLACEMENT = '\uFFFD';
+
+	private final InputStream in;    // null when reading from a byte array.
+	private final byte[] buff;
+	private int pos, end;
+	private char pendingLow;         // Low surrogate of a supplementary character that didn't fit in the caller's buffer.
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The input stream containing UTF-8 encoded text.
+	 */
+	public Utf8Reader(InputStream in) {
+		this(in, 8192);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The input stream containing UTF-8 encoded text.
+	 * @param bufferSize The size of the byte buffer.  Must be at least 4.
+	 */
+	public Utf8Reader(InputStream in, int bufferSize) {
+		this.in = in;
+		this.buff = new byte[Math.max(bufferSize, 4)];
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param b The UTF-8 encoded text.
+	 */
+	public Utf8Reader(byte[] b) {
+		this(b, 0, b.length);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param b The UTF-8 encoded text.
+	 * @param off The position of the first byte to read.
+	 * @param len The number of bytes to read.
+	 */
+	public Utf8Reader(byte[] b, int off, int len) {
+		this.in = null;
+		this.buff = b;
+		this.pos = off;
+		this.end = off + len;
+	}
+
+	@Override /* Reader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		int i = off, max = off + len;
+		if (pendingLow != 0) {
+			cbuf[i++] = pendingLow;
+			pendingLow = 0;
+		}
+		byte[] b = buff;
+		while (i < max) {
+			// Don't block for more input if we already have something to return.
+			if (pos == end && (i > off || ! fill(1)))
+				break;
+
+			// ASCII fast path.
+			int p = pos, stop = p + Math.min(max - i, end - p);
+			while (p < stop && b[p] >= 0)
+				cbuf[i++] = (char)b[p++];
+			pos = p;
+			if (i == max || p == end)
+				continue;
+
+			int b0 = b[p] & 0xFF;
+			if (b0 < 0xC2 || b0 > 0xF4) {
+				// Continuation byte without a start byte, or invalid start byte.
+				cbuf[i++] = REPLACEMENT;
+				pos++;
+				continue;
+			}
+			int n = (b0 >= 0xF0 ? 4 : b0 >= 0xE0 ? 3 : 2);
+			if (end - pos < n)
+				fill(n);
+			p = pos;
+			int avail = Math.min(end - p, n);
+
+			// Find the number of valid bytes at the start of the sequence.
+			// The range of the second byte excludes overlong sequences and code points above U+10FFFF.
+			int v = 1;
+			if (avail > 1) {
+				int b1 = b[p+1] & 0xFF;
+				if (b1 >= (b0 == 0xE0 ? 0xA0 : b0 == 0xF0 ? 0x90 : 0x80) && b1 <= (b0 == 0xF4 ? 0x8F : 0xBF)) {
+					v = 2;
+					while (v < avail && (b[p+v] & 0xC0) == 0x80)
+						v++;
+				}
+			}
+			if (v < n) {
+				// Malformed or truncated sequence.  The valid bytes are replaced with a single character.
+				cbuf[i++] = REPLACEMENT;
+				pos += v;
+				continue;
+			}
+
+			int c = b0 & (0x7F >> n);
+			for (int k = 1; k < n; k++)
+				c = (c << 6) | (b[p+k] & 0x3F);
+			pos += n;
+			if (c >= 0xD800 && c <= 0xDFFF) {
+				// Encoded surrogate.
+				cbuf[i++] = REPLACEMENT;
+			} else if (c < 0x10000) {
+				cbuf[i++] = (char)c;
+			} else {
+				c -= 0x10000;
+				cbuf[i++] = (char)(0xD800 + (c >> 10));
+				char low = (char)(0xDC00 + (c & 0x3FF));
+				if (i < max)
+					cbuf[i++] = low;
+				else
+					pendingLow = low;
+			}
+		}
+		return (i == off ? -1 : i - off);
+	}
+
+	@Override /* Reader */
+	public void close() throws IOException {
+		if (in != null)
+			in.close();
+	}
+
+	/*
+	 * Reads from the input stream until at least the specified number of bytes are available in the buffer.
+	 * Returns false if the end of the input is reached first.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (in == null)
+			return false;
+		if (pos > 0) {
+			System.arraycopy(buff, pos, buff, 0, end - pos);
+			end -= pos;
+			pos = 0;
+		}
+		while (end < n) {
+			int x = in.read(buff, end, buff.length - end);
+			if (x == -1)
+				return false;
+			end += x;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,263 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * A {@link Writer} that encodes characters as UTF-8 directly into a byte buffer in front of an {@link OutputStream}.
+ * <p>
+ * 	Equivalent to a {@link BufferedWriter} around an {@link OutputStreamWriter} using UTF-8, but without the
+ * 	intermediate char buffer and charset encoder.
+ * 	ASCII characters are copied straight into the byte buffer, which makes it considerably faster for the
+ * 	mostly-ASCII output produced by the serializers.
+ * <p>
+ * 	The buffer can be reused for multiple output streams through the {@link #setOutputStream(OutputStream)} method.
+ * <p>
+ * 	Unpaired surrogate characters are written as <js>'?'</js>, the same as {@link OutputStreamWriter}.
+ * <p>
+ * 	<b>Warning:</b>  Not thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class Utf8Writer extends Writer {
+
+	private OutputStream out;
+	private final byte[] buff;
+	private int pos;
+	private char highSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The output stream to write to.  Can be <jk>null</jk> if it's set later through {@link #setOutputStream(OutputStream)}.
+	 */
+	public Utf8Writer(OutputStream out) {
+		this(out, 8192);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The output stream to write to.  Can be <jk>null</jk> if it's set later through {@link #setOutputStream(OutputStream)}.
+	 * @param bufferSize The size of the byte buffer.  Must be at least 4.
+	 */
+	public Utf8Writer(OutputStream out, int bufferSize) {
+		this.out = out;
+		this.buff = new byte[Math.max(bufferSize, 4)];
+	}
+
+	/**
+	 * Sets the output stream that this writer writes to, discarding any unflushed output.
+	 *
+	 * @param out The new output stream.  Can be <jk>null</jk> to release the reference to the previous stream.
+	 * @return This object (for method chaining).
+	 */
+	public Utf8Writer setOutputStream(OutputStream out) {
+		this.out = out;
+		this.pos = 0;
+		this.highSurrogate = 0;
+		return this;
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		if (c < 0x80 && highSurrogate == 0) {
+			if (pos == buff.length)
+				flushBuffer();
+			buff[pos++] = (byte)c;
+		} else {
+			writeChar((char)c);
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String s) throws IOException {
+		write(s, 0, s.length());
+	}
+
+	@Override /* Writer */
+	public void write(String s, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			if (highSurrogate == 0) {
+				int n = Math.min(end - off, buff.length - pos), i = 0;
+				for (; i < n; i++) {
+					char c = s.charAt(off + i);
+					if (c >= 0x80)
+						break;
+					buff[pos + i] = (byte)c;
+				}
+				pos += i;
+				off += i;
+				if (off == end)
+					break;
+				if (i == n) {
+					flushBuffer();
+					continue;
+				}
+			}
+			writeChar(s.charAt(off++));
+		}
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			if (highSurrogate == 0) {
+				int n = Math.min(end - off, buff.length - pos), i = 0;
+				for (; i < n; i++) {
+					char c = cbuf[off + i];
+					if (c >= 0x80)
+						break;
+					buff[pos + i] = (byte)c;
+				}
+				pos += i;
+				off += i;
+				if (off == end)
+					break;
+				if (i == n) {
+					flushBuffer();
+					continue;
+				}
+			}
+			writeChar(cbuf[off++]);
+		}
+	}
+
+	/**
+	 * Writes bytes that are already UTF-8 encoded.
+	 *
+	 * @param b The UTF-8 bytes to write.
+	 * @throws IOException If a problem occurred trying to write to the output stream.
+	 */
+	public void writeBytes(byte[] b) throws IOException {
+		endSurrogate();
+		if (b.length > buff.length - pos) {
+			flushBuffer();
+			if (b.length > buff.length) {
+				out.write(b);
+				return;
+			}
+		}
+		System.arraycopy(b, 0, buff, pos, b.length);
+		pos += b.length;
+	}
+
+	/**
+	 * Writes the decimal form of the specified number without creating an intermediate string.
+	 *
+	 * @param l The number to write.
+	 * @throws IOException If a problem occurred trying to write to the output stream.
+	 */
+	public void writeLong(long l) throws IOException {
+		if (l == Long.MIN_VALUE || buff.length < 20) {
+			write(Long.toString(l));
+			return;
+		}
+		endSurrogate();
+		if (buff.length - pos < 20)
+			flushBuffer();
+		if (l < 0) {
+			buff[pos++] = '-';
+			l = -l;
+		}
+		int start = pos;
+		do {
+			buff[pos++] = (byte)('0' + (l % 10));
+			l /= 10;
+		} while (l != 0);
+		for (int i = start, j = pos-1; i < j; i++, j--) {
+			byte b = buff[i];
+			buff[i] = buff[j];
+			buff[j] = b;
+		}
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(CharSequence csq) throws IOException {
+		write(String.valueOf(csq));
+		return this;
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		endSurrogate();
+		flushBuffer();
+		out.close();
+	}
+
+	private void writeChar(char c) throws IOException {
+		if (buff.length - pos < 4)
+			flushBuffer();
+		if (highSurrogate != 0) {
+			char h = highSurrogate;
+			highSurrogate = 0;
+			if (c >= '\uDC00' && c <= '\uDFFF') {
+				int cp = ((h - 0xD800) << 10) + (c - 0xDC00) + 0x10000;
+				buff[pos++] = (byte)(0xF0 | (cp >> 18));
+				buff[pos++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buff[pos++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buff[pos++] = (byte)(0x80 | (cp & 0x3F));
+				return;
+			}
+			buff[pos++] = '?';
+			if (buff.length - pos < 3)
+				flushBuffer();
+		}
+		if (c < 0x80) {
+			buff[pos++] = (byte)c;
+		} else if (c < 0x800) {
+			buff[pos++] = (byte)(0xC0 | (c >> 6));
+			buff[pos++] = (byte)(0x80 | (c & 0x3F));
+		} else if (c >= '\uD800' && c <= '\uDBFF') {
+			highSurrogate = c;
+		} else if (c >= '\uDC00' && c <= '\uDFFF') {
+			buff[pos++] = '?';
+		} else {
+			buff[pos++] = (byte)(0xE0 | (c >> 12));
+			buff[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			buff[pos++] = (byte)(0x80 | (c & 0x3F));
+		}
+	}
+
+	// Writes a pending high surrogate that isn't followed by a low surrogate.
+	private void endSurrogate() throws IOException {
+		if (highSurrogate != 0) {
+			highSurrogate = 0;
+			if (pos == buff.length)
+				flushBuffer();
+			buff[pos++] = '?';
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			out.write(buff, 0, pos);
+			pos = 0;
+		}
+	}
+}
@@ -230,4 +230,9 @@ public class RdfParserSession extends ParserSession {
 			s = s.trim();
 		return s;
 	}
+
+	@Override /* ParserSession */
+	protected boolean isReusable() {
+		return false;  // The RDF model is created in the constructor.
+	}
 }
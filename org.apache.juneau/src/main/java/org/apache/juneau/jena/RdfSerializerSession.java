@@ -226,6 +226,11 @@ public final class RdfSerializerSession extends SerializerSession {
 		return pClass;
 	}
 
+	@Override /* SerializerSession */
+	protected boolean isReusable() {
+		return false;  // The RDF model is created in the constructor.
+	}
+
 	/**
 	 * Returns the RDF model being serialized.
 	 *
@@ -0,0 +1,134 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Iterator over the entries of a top-level JSON array that parses entries one at a time as they're requested.
+ * <p>
+ * 	Created through the {@link JsonParser#parseIterator(Object, Class)} methods.
+ * <p>
+ * 	Only the entry currently being parsed is held in memory, so this class can be used to consume
+ * 	JSON arrays that are too large to parse into a single {@link Collection}.
+ * <p>
+ * 	The underlying parser session (and therefore the input reader or stream) is closed automatically when the end of the
+ * 	array is reached or a parse error occurs.  Otherwise, the {@link #close()} method must be called.
+ * <p>
+ * 	Since the {@link Iterator} methods cannot throw checked exceptions, parse errors are thrown as
+ * 	{@link RuntimeException RuntimeExceptions} whose cause is the {@link ParseException}.
+ * <p>
+ * 	This class is also an {@link Iterable} so that it can be used in <code>for</code> loops, but it can only be iterated once.
+ * <p>
+ * 	<b>Warning:</b>  Not thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ * @param <E> The entry type.
+ */
+public final class JsonArrayIterator<E> implements Iterator<E>, Iterable<E>, Closeable {
+
+	private final JsonParser parser;
+	private final JsonParserSession session;
+	private final ClassMeta<E> elementType;
+	private final ParserReader reader;
+	private boolean isFirst = true, closed;
+	private Boolean hasNext;
+
+	JsonArrayIterator(JsonParser parser, JsonParserSession session, ClassMeta<E> elementType) throws Exception {
+		this.parser = parser;
+		this.session = session;
+		this.elementType = elementType;
+		this.reader = session.getReader();
+		if (reader == null || ! parser.startArray(session, reader))
+			hasNext = false;
+	}
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (hasNext == null) {
+			try {
+				hasNext = parser.nextArrayEntry(session, reader, isFirst);
+			} catch (Exception e) {
+				throw fail(e);
+			}
+		}
+		if (! hasNext)
+			closeQuietly();
+		return hasNext;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		try {
+			E e = parser.parseArrayEntry(session, reader, elementType);
+			isFirst = false;
+			hasNext = null;
+			return e;
+		} catch (Exception e) {
+			throw fail(e);
+		}
+	}
+
+	/**
+	 * Throws an {@link UnsupportedOperationException}.
+	 */
+	@Override /* Iterator */
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override /* Iterable */
+	public Iterator<E> iterator() {
+		return this;
+	}
+
+	/**
+	 * Closes the underlying parser session and input.
+	 * <p>
+	 * 	Can be called multiple times.
+	 *
+	 * @throws IOException If the underlying input could not be closed.
+	 */
+	@Override /* Closeable */
+	public void close() throws IOException {
+		if (! closed) {
+			closed = true;
+			hasNext = false;
+			try {
+				session.close();
+			} catch (ParseException e) {
+				throw new IOException(e.getLocalizedMessage());
+			}
+		}
+	}
+
+	private void closeQuietly() {
+		try {
+			close();
+		} catch (IOException e) {
+			// Ignore.
+		}
+	}
+
+	private RuntimeException fail(Exception e) {
+		ParseException pe = (e instanceof ParseException ? (ParseException)e : new ParseException(session, e));
+		closeQuietly();
+		return new RuntimeException(pe);
+	}
+}
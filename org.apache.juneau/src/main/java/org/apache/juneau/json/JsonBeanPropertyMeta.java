@@ -0,0 +1,57 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.json;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the JSON serializers and parsers.
+ * <p>
+ * 	Holds the encoded forms of the property name so that {@link JsonWriter#attr(JsonBeanPropertyMeta)} doesn't
+ * 	need to scan and escape the name every time the property is serialized.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ * @param <T> The bean class.
+ */
+public class JsonBeanPropertyMeta<T> {
+
+	private final String name;
+
+	// The encoded attribute names, indexed by the JsonWriter attribute mode.
+	// Strings are immutable, so entries can be computed lazily without synchronization.
+	final String[] encodedNames = new String[JsonWriter.ATTR_MODES];
+
+	// The UTF-8 bytes of the encoded attribute names.
+	// Arrays aren't immutable, so they need to be safely published.
+	final AtomicReferenceArray<byte[]> encodedBytes = new AtomicReferenceArray<byte[]>(JsonWriter.ATTR_MODES);
+
+	/**
+	 * Constructor.
+	 *
+	 * @param beanPropertyMeta The metadata of the bean property of this additional metadata.
+	 */
+	public JsonBeanPropertyMeta(BeanPropertyMeta<T> beanPropertyMeta) {
+		this.name = beanPropertyMeta.getName();
+	}
+
+	/**
+	 * Returns the unencoded name of this bean property.
+	 *
+	 * @return The name of this bean property.
+	 */
+	protected String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,361 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Structural index over the raw text of a JSON document, used by lazy parsing.
+ * <p>
+ * 	The input is scanned once to record the positions of the matching end brackets of every JSON object and array.
+ * 	This allows {@link LazyObjectMap} and {@link LazyObjectList} to find the boundaries of their entries without
+ * 	creating any objects for nested values, which are only parsed when they're accessed.
+ * <p>
+ * 	Since the {@link Map} and {@link List} methods cannot throw checked exceptions, parse errors in nested values are
+ * 	thrown as {@link RuntimeException RuntimeExceptions} whose cause is the {@link ParseException}.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class JsonIndex {
+
+	private final JsonParser parser;
+	private final BeanContext beanContext;
+	private final ObjectMap properties;
+	private final boolean strictMode, trimStrings;
+	private final String s;
+	private final int len;
+
+	// Positions of the start brackets (in ascending order) and their matching end brackets.
+	private int[] starts = new int[16], ends = new int[16];
+	private int count;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param parser The parser used to parse values that can't be handled directly by this index.
+	 * @param session The parser session.
+	 * @param s The JSON text.
+	 * @throws ParseException If the input contains unmatched brackets or unterminated strings or comments.
+	 */
+	JsonIndex(JsonParser parser, JsonParserSession session, String s) throws ParseException {
+		this.parser = parser;
+		this.beanContext = session.getBeanContext();
+		this.properties = session.getProperties();
+		this.strictMode = session.isStrictMode();
+		this.trimStrings = session.isTrimStrings();
+		this.s = s;
+		this.len = s.length();
+
+		int[] stack = new int[16];
+		int depth = 0;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\'') {
+				i = skipString(i) - 1;
+			} else if (c == '/') {
+				i = skipComment(i) - 1;
+			} else if (c == '{' || c == '[') {
+				if (count == starts.length) {
+					starts = Arrays.copyOf(starts, count*2);
+					ends = Arrays.copyOf(ends, count*2);
+				}
+				if (depth == stack.length)
+					stack = Arrays.copyOf(stack, depth*2);
+				starts[count] = i;
+				stack[depth++] = count++;
+			} else if (c == '}' || c == ']') {
+				if (depth == 0)
+					throw new ParseException("Unmatched ''{0}'' at position {1}.", c, i);
+				int k = stack[--depth];
+				if (s.charAt(starts[k]) != (c == '}' ? '{' : '['))
+					throw new ParseException("Unmatched ''{0}'' at position {1}.", c, i);
+				ends[k] = i;
+			}
+		}
+		if (depth > 0)
+			throw new ParseException("Could not find end of JSON {0} starting at position {1}.", s.charAt(starts[stack[depth-1]]) == '{' ? "object" : "array", starts[stack[depth-1]]);
+	}
+
+	/**
+	 * Returns the bean context to associate with the lazy maps and lists.
+	 *
+	 * @return The bean context to associate with the lazy maps and lists.
+	 */
+	BeanContext getBeanContext() {
+		return beanContext;
+	}
+
+	/**
+	 * Returns the position of the end bracket of the JSON object or array starting at the specified position.
+	 *
+	 * @param start The position of the <js>'{'</js> or <js>'['</js> character.
+	 * @return The position of the matching <js>'}'</js> or <js>']'</js> character.
+	 */
+	int end(int start) {
+		return ends[find(start)];
+	}
+
+	/**
+	 * Returns the first position at or after the specified position that isn't whitespace or a comment.
+	 *
+	 * @param i The position to start at.
+	 * @return The position of the next significant character, or the length of the input.
+	 * @throws ParseException If comments are found in strict mode.
+	 */
+	int skipSpace(int i) throws ParseException {
+		while (i < len) {
+			char c = s.charAt(i);
+			if (c == '/') {
+				if (strictMode)
+					throw new ParseException("Javascript comment detected at position {0}.", i);
+				i = skipComment(i);
+			} else if (Character.isWhitespace(c)) {
+				i++;
+			} else {
+				break;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Adds the entries of the JSON object starting at the specified position to the specified map.
+	 * <p>
+	 * 	Values are added as placeholders that must be resolved through {@link #resolve(Object)}.
+	 *
+	 * @param m The map to add the entries to.
+	 * @param start The position of the <js>'{'</js> character.
+	 * @throws ParseException If the object is malformed.
+	 */
+	void addEntries(Map<String,Object> m, int start) throws ParseException {
+		int end = end(start);
+		int i = skipSpace(start+1);
+		while (i < end) {
+			int ks = i;
+			char c = s.charAt(i);
+			if (c == '"' || c == '\'') {
+				i = skipString(i);
+			} else {
+				if (strictMode)
+					throw new ParseException("Unquoted attribute detected at position {0}.", i);
+				while (i < end && (c = s.charAt(i)) != ':' && c != '/' && ! Character.isWhitespace(c))
+					i++;
+			}
+			c = s.charAt(ks);
+			String key = (c == '"' || c == '\'' ? (String)parse(ks, i) : s.substring(ks, i));
+			i = skipSpace(i);
+			if (i >= end || s.charAt(i) != ':')
+				throw new ParseException("Could not find '':'' following attribute name on JSON object at position {0}.", ks);
+			int vs = skipSpace(i+1);
+			i = skipValue(vs, end);
+			m.put(key, new Value(vs, i));
+			i = next(i, end);
+		}
+	}
+
+	/**
+	 * Adds the entries of the JSON array starting at the specified position to the specified list.
+	 * <p>
+	 * 	Values are added as placeholders that must be resolved through {@link #resolve(Object)}.
+	 *
+	 * @param l The list to add the entries to.
+	 * @param start The position of the <js>'['</js> character.
+	 * @throws ParseException If the array is malformed.
+	 */
+	void addEntries(List<Object> l, int start) throws ParseException {
+		int end = end(start);
+		int i = skipSpace(start+1);
+		while (i < end) {
+			int vs = i;
+			i = skipValue(vs, end);
+			l.add(new Value(vs, i));
+			i = next(i, end);
+		}
+	}
+
+	/**
+	 * Returns the parsed value if the specified object is a placeholder created by this index.
+	 *
+	 * @param o The value in the map or list.
+	 * @return The parsed value, or the same object if it isn't a placeholder.
+	 */
+	Object resolve(Object o) {
+		if (! (o instanceof Value))
+			return o;
+		Value v = (Value)o;
+		if (v.index != this)
+			return o;
+		try {
+			return parse(v.start, v.end);
+		} catch (ParseException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified object is a placeholder created by this index.
+	 *
+	 * @param o The value in the map or list.
+	 * @return <jk>true</jk> if the specified object is a placeholder created by this index.
+	 */
+	boolean isUnresolved(Object o) {
+		return o instanceof Value && ((Value)o).index == this;
+	}
+
+	/*
+	 * Parses the value between the specified positions.
+	 * Objects and arrays become lazy maps and lists, simple strings and literals are handled directly,
+	 * and everything else is handed off to the parser.
+	 */
+	private Object parse(int start, int end) throws ParseException {
+		if (start == end) {
+			if (strictMode)
+				throw new ParseException("Missing value detected at position {0}.", start);
+			return null;
+		}
+		char c = s.charAt(start);
+		if (c == '{') {
+			LazyObjectMap m = new LazyObjectMap(this, start);
+			return (m.containsKey("_class") ? m.cast() : m);
+		}
+		if (c == '[')
+			return new LazyObjectList(this, start);
+		if (c == '"' || c == '\'') {
+			if (isSimpleString(start, end)) {
+				String v = s.substring(start+1, end-1);
+				return (trimStrings ? v.trim() : v);
+			}
+		} else if (c == 'n' && s.startsWith("null", start) && end-start == 4) {
+			return null;
+		} else if (c == 't' && s.startsWith("true", start) && end-start == 4) {
+			return Boolean.TRUE;
+		} else if (c == 'f' && s.startsWith("false", start) && end-start == 5) {
+			return Boolean.FALSE;
+		} else if (! strictMode && (c >= '0' && c <= '9' || c == '-')) {
+			try {
+				return StringUtils.parseNumber(s.substring(start, end), null);
+			} catch (NumberFormatException e) {
+				// Malformed number.  Let the parser report the error.
+			}
+		}
+		JsonParserSession session = parser.createSession(s.substring(start, end), properties, null, null);
+		return parser.parse(session, beanContext.object());
+	}
+
+	/*
+	 * Returns true if the specified positions enclose a single quoted string without escape sequences.
+	 */
+	private boolean isSimpleString(int start, int end) {
+		char q = s.charAt(start);
+		if (end - start < 2 || s.charAt(end-1) != q)
+			return false;
+		for (int i = start+1; i < end-1; i++) {
+			char c = s.charAt(i);
+			if (c == q || c == '\\')
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Returns the position immediately after the value starting at the specified position.
+	 */
+	private int skipValue(int i, int limit) throws ParseException {
+		if (i >= limit)
+			return i;
+		char c = s.charAt(i);
+		if (c == '{' || c == '[')
+			return end(i) + 1;
+		if (c == '"' || c == '\'') {
+			i = skipString(i);
+			// Concatenated strings (e.g. "foo" + 'bar').
+			int j = skipSpace(i);
+			if (j < limit && s.charAt(j) == '+')
+				return skipValue(skipSpace(j+1), limit);
+			return i;
+		}
+		while (i < limit && (c = s.charAt(i)) != ',' && c != '}' && c != ']' && c != '/' && ! Character.isWhitespace(c))
+			i++;
+		return i;
+	}
+
+	/*
+	 * Moves past the ',' following an entry.
+	 */
+	private int next(int i, int end) throws ParseException {
+		i = skipSpace(i);
+		if (i < end) {
+			if (s.charAt(i) != ',')
+				throw new ParseException("Expected '','' at position {0}.", i);
+			i = skipSpace(i+1);
+		}
+		return i;
+	}
+
+	/*
+	 * Returns the position immediately after the end quote of the string starting at the specified position.
+	 */
+	private int skipString(int i) throws ParseException {
+		char q = s.charAt(i);
+		for (int j = i+1; j < len; j++) {
+			char c = s.charAt(j);
+			if (c == '\\')
+				j++;
+			else if (c == q)
+				return j+1;
+		}
+		throw new ParseException("Could not find expected end character ''{0}''.", q);
+	}
+
+	/*
+	 * Returns the position immediately after the comment starting at the specified position.
+	 */
+	private int skipComment(int i) throws ParseException {
+		char c = (i+1 < len ? s.charAt(i+1) : 0);
+		if (c == '*') {
+			int j = s.indexOf("*/", i+2);
+			if (j != -1)
+				return j+2;
+		} else if (c == '/') {
+			int j = s.indexOf('\n', i+2);
+			return (j == -1 ? len : j+1);
+		}
+		throw new ParseException("Open ended comment.");
+	}
+
+	private int find(int start) {
+		return Arrays.binarySearch(starts, 0, count, start);
+	}
+
+	/*
+	 * Placeholder for a value that hasn't been parsed yet.
+	 */
+	private final class Value {
+		final int start, end;
+		final JsonIndex index = JsonIndex.this;
+
+		Value(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return s.substring(start, end);
+		}
+	}
+}
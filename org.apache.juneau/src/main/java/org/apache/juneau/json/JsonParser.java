@@ -319,7 +319,7 @@ public final class JsonParser extends ReaderParser {
 	private String parseFieldName(JsonParserSession session, ParserReader r) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(session, r);
+			return parseString(session, r, session.getSymbolTable());
 		if (session.isStrictMode())
 			throw new ParseException(session, "Unquoted attribute detected.");
 		r.mark();
@@ -328,7 +328,7 @@ public final class JsonParser extends ReaderParser {
 			c = r.read();
 			if (c == ':' || Character.isWhitespace(c) || c == '/') {
 				r.unread();
-				String s = r.getMarked().intern();
+				String s = r.getMarked(0, 0, session.getSymbolTable());
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -511,6 +511,14 @@ public final class JsonParser extends ReaderParser {
 	 * will automatically concatenate the strings and return the result.
 	 */
 	private String parseString(JsonParserSession session, ParserReader r) throws Exception  {
+		return parseString(session, r, null);
+	}
+
+	/*
+	 * Same as parseString(JsonParserSession, ParserReader), but returns canonical strings from the specified
+	 * symbol table.  Used for field names.
+	 */
+	private String parseString(JsonParserSession session, ParserReader r, SymbolTable symbols) throws Exception  {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && session.isStrictMode()) {
@@ -549,16 +557,16 @@ public final class JsonParser extends ReaderParser {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = r.getMarked(1, -1, symbols);
 						break;
 					}
 				} else {
 					if (c == ',' || c == '}' || Character.isWhitespace(c)) {
-						s = r.getMarked(0, -1);
+						s = r.getMarked(0, -1, symbols);
 						r.unread();
 						break;
 					} else if (c == -1) {
-						s = r.getMarked(0, 0);
+						s = r.getMarked(0, 0, symbols);
 						break;
 					}
 				}
@@ -722,6 +730,109 @@ public final class JsonParser extends ReaderParser {
 	}
 
 
+	/*
+	 * Moves the reader past the opening '[' of a top-level JSON array being streamed by a JsonArrayIterator.
+	 * Returns false if the input is empty.
+	 */
+	boolean startArray(JsonParserSession session, ParserReader r) throws Exception {
+		skipCommentsAndSpace(session, r);
+		int c = r.read();
+		if (c == -1)
+			return false;
+		if (c != '[')
+			throw new ParseException(session, "Expected '[' at beginning of JSON array.");
+		return true;
+	}
+
+	/*
+	 * Moves the reader to the start of the next entry in a JSON array being streamed by a JsonArrayIterator.
+	 * Returns false if the end of the array was reached.
+	 */
+	boolean nextArrayEntry(JsonParserSession session, ParserReader r, boolean isFirst) throws Exception {
+		skipCommentsAndSpace(session, r);
+		int c = r.read();
+		if (c == ']') {
+			validateEnd(session, r);
+			return false;
+		}
+		if (! isFirst) {
+			if (c != ',')
+				throw new ParseException(session, "Expected ',' or ']'.");
+			skipCommentsAndSpace(session, r);
+			c = r.read();
+		}
+		if (c == -1)
+			throw new ParseException(session, "Expected one of the following characters: {,[,',\",LITERAL.");
+		r.unread();
+		return true;
+	}
+
+	/*
+	 * Parses a single entry in a JSON array being streamed by a JsonArrayIterator.
+	 */
+	<E> E parseArrayEntry(JsonParserSession session, ParserReader r, ClassMeta<E> elementType) throws Exception {
+		return parseAnything(session, elementType, r, session.getOuter());
+	}
+
+	/**
+	 * Parses the entries of a top-level JSON array one at a time.
+	 * <p>
+	 * 	Unlike {@link #parse(Object, Class)}, the array is never materialized in memory.
+	 * 	Entries are parsed lazily as the returned iterator is advanced, so only one entry needs to fit in memory at a time.
+	 * 	This makes it possible to process arbitrarily large JSON arrays, such as the output of bulk exports.
+	 *
+	 * <dl>
+	 * 	<dt>Example:</dt>
+	 * 	<dd>
+	 * 		<p class='bcode'>
+	 * 	JsonArrayIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(reader, MyBean.<jk>class</jk>);
+	 * 	<jk>try</jk> {
+	 * 		<jk>for</jk> (MyBean b : i)
+	 * 			process(b);
+	 * 	} <jk>finally</jk> {
+	 * 		i.close();
+	 * 	}
+	 * 		</p>
+	 * 	</dd>
+	 * </dl>
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the entries in the array.
+	 * 	If <jk>null</jk> or <code>Object.<jk>class</jk></code>, entry type is based on what's being parsed.
+	 * @return An iterator over the parsed array entries.
+	 * 	The iterator must be closed if it is not read to the end.
+	 * @throws ParseException If the input is not the start of a JSON array.
+	 */
+	public <E> JsonArrayIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		return parseIterator(input, elementType == null ? null : getBeanContext().getClassMeta(elementType));
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Class)} except the element type is specified as a {@link ClassMeta}.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the entries in the array.
+	 * 	If <jk>null</jk>, entry type is based on what's being parsed.
+	 * @return An iterator over the parsed array entries.
+	 * @throws ParseException If the input is not the start of a JSON array.
+	 */
+	public <E> JsonArrayIterator<E> parseIterator(Object input, ClassMeta<E> elementType) throws ParseException {
+		JsonParserSession s = createSession(input, null, null, null);
+		try {
+			return new JsonArrayIterator<E>(this, s, s.getBeanContext().normalizeClassMeta(elementType));
+		} catch (ParseException e) {
+			s.close();
+			throw e;
+		} catch (Exception e) {
+			ParseException e2 = new ParseException(s, e);
+			s.close();
+			throw e2;
+		}
+	}
+
+
 	//--------------------------------------------------------------------------------
 	// Overridden methods
 	//--------------------------------------------------------------------------------
@@ -735,6 +846,11 @@ public final class JsonParser extends ReaderParser {
 	protected <T> T doParse(ParserSession session, ClassMeta<T> type) throws Exception {
 		JsonParserSession s = (JsonParserSession)session;
 		type = s.getBeanContext().normalizeClassMeta(type);
+		if (s.isLazyParsing() && (type.getInnerClass() == ObjectMap.class || type.getInnerClass() == ObjectList.class)) {
+			Object o = parseLazy(s, type);
+			if (o != null)
+				return (T)o;
+		}
 		ParserReader r = s.getReader();
 		if (r == null)
 			return null;
@@ -743,6 +859,34 @@ public final class JsonParser extends ReaderParser {
 		return o;
 	}
 
+	/*
+	 * Creates a lazy ObjectMap or ObjectList over the input text.
+	 * Returns null if the input isn't a JSON object or array matching the type, in which case the input should be
+	 * parsed normally through the session reader.
+	 */
+	private Object parseLazy(JsonParserSession session, ClassMeta<?> type) throws Exception {
+		String s = session.getInputAsString();
+		if (s == null)
+			return null;
+		JsonIndex index = new JsonIndex(this, session, s);
+		int i = index.skipSpace(0);
+		if (i == s.length())
+			return null;
+		char c = s.charAt(i);
+		Object o = null;
+		if (c == '{' && type.getInnerClass() == ObjectMap.class)
+			o = new LazyObjectMap(index, i);
+		else if (c == '[' && type.getInnerClass() == ObjectList.class)
+			o = new LazyObjectList(index, i);
+		else
+			return null;
+		// var x = {...}; expressions can end with a semicolon.
+		i = index.skipSpace(index.end(i)+1);
+		if (i < s.length() && s.charAt(i) != ';')
+			throw new ParseException(session, "Remainder after parse: ''{0}''.", s.charAt(i));
+		return o;
+	}
+
 	@Override /* ReaderParser */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserSession session, Map<K,V> m, Type keyType, Type valueType) throws Exception {
 		JsonParserSession s = (JsonParserSession)session;
@@ -50,7 +50,29 @@ public final class JsonParserContext extends ParserContext {
 	 */
 	public static final String JSON_strictMode = "JsonParser.strictMode";
 
-	final boolean strictMode;
+	/**
+	 * Lazy parsing ({@link Boolean}, default=<jk>false</jk>).
+	 * <p>
+	 * When enabled, parsing input to an {@link ObjectMap} or {@link ObjectList} produces a map or list that's backed by the
+	 * 	raw JSON text.  The input is indexed once to find the boundaries of the nested objects and arrays, but nested
+	 * 	values are only parsed when they're accessed through methods such as {@link ObjectMap#get(Object)},
+	 * 	{@link ObjectMap#getString(String)}, {@link ObjectMap#getObjectMap(String)}, or {@link ObjectMap#getAt(Class,String)}.
+	 * <p>
+	 * Useful when only a few values are read from large documents, such as when REST methods take <code>ObjectMap</code>
+	 * 	content or when calling <code>RestCall.getResponse(ObjectMap.<jk>class</jk>)</code>.
+	 * <p>
+	 * Notes:
+	 * <ul class='spaced-list'>
+	 * 	<li>The entire input is read into memory.
+	 * 	<li>Syntax errors in nested values are only detected when the values are accessed, and are thrown as
+	 * 		{@link RuntimeException RuntimeExceptions} whose cause is a {@link ParseException}.
+	 * 	<li>Methods that expose all the values of a map or list (e.g. <code>entrySet()</code> or <code>toArray()</code>)
+	 * 		parse all the remaining values.
+	 * </ul>
+	 */
+	public static final String JSON_lazyParsing = "JsonParser.lazyParsing";
+
+	final boolean strictMode, lazyParsing;
 
 	/**
 	 * Constructor.
@@ -62,5 +84,6 @@ public final class JsonParserContext extends ParserContext {
 	public JsonParserContext(ContextFactory cf) {
 		super(cf);
 		this.strictMode = cf.getProperty(JSON_strictMode, boolean.class, false);
+		this.lazyParsing = cf.getProperty(JSON_lazyParsing, boolean.class, false);
 	}
 }
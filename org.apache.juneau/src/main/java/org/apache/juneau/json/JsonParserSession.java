@@ -19,6 +19,7 @@ import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -30,8 +31,9 @@ import org.apache.juneau.parser.*;
  */
 public final class JsonParserSession extends ParserSession {
 
-	private final boolean strictMode;
+	private final boolean strictMode, lazyParsing;
 	private ParserReader reader;
+	private String inputString;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -56,8 +58,10 @@ public final class JsonParserSession extends ParserSession {
 		super(ctx, beanContext, input, op, javaMethod, outer);
 		if (op == null || op.isEmpty()) {
 			strictMode = ctx.strictMode;
+			lazyParsing = ctx.lazyParsing;
 		} else {
 			strictMode = op.getBoolean(JSON_strictMode, ctx.strictMode);
+			lazyParsing = op.getBoolean(JSON_lazyParsing, ctx.lazyParsing);
 		}
 	}
 
@@ -70,6 +74,30 @@ public final class JsonParserSession extends ParserSession {
 		return strictMode;
 	}
 
+	/**
+	 * Returns the {@link JsonParserContext#JSON_lazyParsing} setting value for this session.
+	 *
+	 * @return The {@link JsonParserContext#JSON_lazyParsing} setting value for this session.
+	 */
+	public final boolean isLazyParsing() {
+		return lazyParsing;
+	}
+
+	/*
+	 * Reads the entire input into a string.
+	 * The reader returned by getReader() afterwards reads from the same string.
+	 */
+	String getInputAsString() throws Exception {
+		if (inputString == null) {
+			Object input = getInput();
+			if (input == null)
+				return null;
+			inputString = (input instanceof CharSequence ? input.toString() : IOUtils.read(super.getReader()));
+			reader = new ParserReader(inputString);
+		}
+		return inputString;
+	}
+
 	@Override /* ParserSession */
 	public ParserReader getReader() throws Exception {
 		if (reader == null) {
@@ -84,6 +112,13 @@ public final class JsonParserSession extends ParserSession {
 		return reader;
 	}
 
+	@Override /* ParserSession */
+	protected void reset(Object input) {
+		super.reset(input);
+		reader = null;
+		inputString = null;
+	}
+
 	@Override /* ParserSession */
 	public Map<String,Object> getLastLocation() {
 		Map<String,Object> m = super.getLastLocation();
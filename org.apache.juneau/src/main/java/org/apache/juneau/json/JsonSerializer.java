@@ -14,8 +14,10 @@ package org.apache.juneau.json;
 
 import static org.apache.juneau.json.JsonSerializerContext.*;
 
+import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -233,6 +235,8 @@ public class JsonSerializer extends WriterSerializer {
 			else
 				serializeCollection(session, out, toList(gType.getInnerClass(), o), eType);
 		}
+		else if (gType.isIterator())
+			serializeIterator(session, out, session.toIterator(o), eType, true);
 		else
 			out.stringValue(session.toString(o));
 
@@ -327,7 +331,7 @@ public class JsonSerializer extends WriterSerializer {
 			if (addComma)
 				out.append(',').s();
 
-			out.cr(depth).attr(key).append(':').s();
+			out.cr(depth).attr(pMeta.getJsonMeta()).append(':').s();
 
 			serializeAnything(session, out, value, pMeta.getClassMeta(), key, pMeta);
 
@@ -340,14 +344,62 @@ public class JsonSerializer extends WriterSerializer {
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonSerializerSession session, JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
-
 		c = session.sort(c);
+		Executor executor = session.getParallelExecutor(c.size());
+		if (executor != null)
+			return serializeParallel(session, out, (c instanceof RandomAccess ? (List)c : new ArrayList(c)), type, executor);
+		return serializeIterator(session, out, c.iterator(), type, false);
+	}
+
+	/*
+	 * Serializes the entries of a large top-level collection in chunks on the specified executor.
+	 * The output is identical to serializeIterator().
+	 */
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeParallel(final JsonSerializerSession session, final JsonWriter out, final List l, ClassMeta<?> type, Executor executor) throws Exception {
+
+		final ClassMeta<?> elementType = type.getElementType();
+		final int depth = session.getIndent(), size = l.size();
+
+		out.append('[');
+		new ParallelChunks<String>() {
+			@Override /* ParallelChunks */
+			protected String serialize(int start, int end) throws Exception {
+				StringWriter sw = new StringWriter();
+				JsonSerializerSession s = createSession(sw, session.getProperties(), session.getJavaMethod());
+				try {
+					s.indent = depth;
+					JsonWriter w = s.getWriter();
+					for (int i = start; i < end; i++) {
+						w.cr(depth);
+						serializeAnything(s, w, l.get(i), elementType, "<iterator>", null);
+						if (i < size-1)
+							w.append(',').s();
+					}
+				} finally {
+					s.close();
+				}
+				return sw.toString();
+			}
+			@Override /* ParallelChunks */
+			protected void write(String chunk) throws Exception {
+				out.append(chunk);
+			}
+		}.run(executor, size, session.getParallelChunkSize());
+		out.cr(depth-1).append(']');
+		return out;
+	}
+
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeIterator(JsonSerializerSession session, JsonWriter out, Iterator i, ClassMeta<?> type, boolean isStreamed) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
 
 		out.append('[');
 		int depth = session.getIndent();
+		int count = 0;
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		while (i.hasNext()) {
 
 			Object value = i.next();
 
@@ -357,6 +409,9 @@ public class JsonSerializer extends WriterSerializer {
 
 			if (i.hasNext())
 				out.append(',').s();
+
+			if (isStreamed)
+				session.flushStreamed(out, ++count);
 		}
 		out.cr(depth-1).append(']');
 		return out;
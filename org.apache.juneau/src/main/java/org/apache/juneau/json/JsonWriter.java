@@ -51,6 +51,15 @@ public final class JsonWriter extends SerializerWriter {
 
 	private final AsciiSet ec;
 
+	// The number of distinct attribute modes (see attrMode).
+	static final int ATTR_MODES = 16;
+
+	// Index of the encoded property names for these settings in JsonBeanPropertyMeta, or -1 if they can't be cached.
+	private final int attrMode;
+
+	// The underlying writer if it encodes directly to UTF-8 bytes.
+	private final Utf8Writer utf8;
+
 	/**
 	 * Constructor.
 	 * @param out The writer being wrapped.
@@ -68,6 +77,11 @@ public final class JsonWriter extends SerializerWriter {
 		this.laxMode = laxMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		if (quoteChar == '"' || quoteChar == '\'')
+			this.attrMode = (laxMode ? 1 : 0) | (trimStrings ? 2 : 0) | (escapeSolidus ? 4 : 0) | (quoteChar == '"' ? 8 : 0);
+		else
+			this.attrMode = -1;
+		this.utf8 = (out instanceof Utf8Writer ? (Utf8Writer)out : null);
 	}
 
 	/**
@@ -175,6 +189,40 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the name of the specified bean property as a JSON attribute name.
+	 * <p>
+	 * 	Same as <code>attr(m.getName())</code>, except the encoded name is computed once per property and
+	 * 	writer settings and cached on the property metadata.
+	 * 	When writing directly to UTF-8 bytes, the UTF-8 bytes of the encoded name are cached as well.
+	 *
+	 * @param m The JSON metadata of the bean property being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter attr(JsonBeanPropertyMeta<?> m) throws IOException {
+		if (attrMode == -1)
+			return attr(m.getName());
+		String s = m.encodedNames[attrMode];
+		if (s == null) {
+			StringBuilderWriter w = new StringBuilderWriter();
+			new JsonWriter(w, false, false, escapeSolidus, quoteChar, laxMode, trimStrings, null, null).attr(m.getName());
+			s = w.toString();
+			m.encodedNames[attrMode] = s;
+		}
+		if (utf8 != null) {
+			byte[] b = m.encodedBytes.get(attrMode);
+			if (b == null) {
+				b = s.getBytes(IOUtils.UTF8);
+				m.encodedBytes.set(attrMode, b);
+			}
+			utf8.writeBytes(b);
+		} else {
+			out.append(s);
+		}
+		return this;
+	}
+
 	//--------------------------------------------------------------------------------
 	// Overridden methods
 	//--------------------------------------------------------------------------------
@@ -235,7 +283,10 @@ public final class JsonWriter extends SerializerWriter {
 
 	@Override /* SerializerWriter */
 	public JsonWriter append(Object text) throws IOException {
-		super.append(text);
+		if (utf8 != null && (text instanceof Integer || text instanceof Long || text instanceof Short || text instanceof Byte))
+			utf8.writeLong(((Number)text).longValue());
+		else
+			super.append(text);
 		return this;
 	}
 
@@ -0,0 +1,288 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * An {@link ObjectList} whose entries are parsed from the raw JSON text the first time they're accessed.
+ * <p>
+ * 	Created by {@link JsonParser} when the {@link JsonParserContext#JSON_lazyParsing} setting is enabled.
+ * <p>
+ * 	The boundaries of the entries are found when the list is created, but the entries are kept as positions in the
+ * 	JSON text until they're retrieved through {@link #get(int)} or an iterator.
+ * 	Methods that search or copy the entries (e.g. {@link #indexOf(Object)}, {@link #toArray()} and {@link #clone()})
+ * 	parse all remaining entries first, so copies made through them (e.g. <code><jk>new</jk> ArrayList(list)</code>)
+ * 	never contain unparsed entries.
+ * <p>
+ * 	The methods added to {@link Collection} in Java 8 that don't go through an iterator (e.g. <code>spliterator()</code>
+ * 	and <code>stream()</code>) can't be overridden at this source level and read the entries directly, so they should
+ * 	only be used after one of the methods above has been called.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class LazyObjectList extends ObjectList {
+	private static final long serialVersionUID = 1L;
+
+	private final transient JsonIndex index;
+	private boolean resolved;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param index The index over the JSON text.
+	 * @param start The position of the <js>'['</js> character of the JSON array.
+	 * @throws ParseException If the JSON array is malformed.
+	 */
+	LazyObjectList(JsonIndex index, int start) throws ParseException {
+		super(index.getBeanContext());
+		this.index = index;
+		index.addEntries(this, start);
+	}
+
+	@Override /* List */
+	public Object get(int location) {
+		Object o = super.get(location);
+		if (! resolved && index.isUnresolved(o)) {
+			o = index.resolve(o);
+			super.set(location, o);
+		}
+		return o;
+	}
+
+	@Override /* List */
+	public Object set(int location, Object o) {
+		resolve(location);
+		return super.set(location, o);
+	}
+
+	@Override /* List */
+	public Object remove(int location) {
+		resolve(location);
+		return super.remove(location);
+	}
+
+	@Override /* List */
+	public ListIterator<Object> listIterator(int location) {
+		final ListIterator<Object> i = super.listIterator(location);
+		if (resolved)
+			return i;
+		return new ListIterator<Object>() {
+
+			@Override /* ListIterator */
+			public boolean hasNext() {
+				return i.hasNext();
+			}
+
+			@Override /* ListIterator */
+			public Object next() {
+				return resolve(i.next());
+			}
+
+			@Override /* ListIterator */
+			public boolean hasPrevious() {
+				return i.hasPrevious();
+			}
+
+			@Override /* ListIterator */
+			public Object previous() {
+				return resolve(i.previous());
+			}
+
+			@Override /* ListIterator */
+			public int nextIndex() {
+				return i.nextIndex();
+			}
+
+			@Override /* ListIterator */
+			public int previousIndex() {
+				return i.previousIndex();
+			}
+
+			@Override /* ListIterator */
+			public void remove() {
+				i.remove();
+			}
+
+			@Override /* ListIterator */
+			public void set(Object o) {
+				i.set(o);
+			}
+
+			@Override /* ListIterator */
+			public void add(Object o) {
+				i.add(o);
+			}
+
+			private Object resolve(Object o) {
+				if (index.isUnresolved(o)) {
+					o = index.resolve(o);
+					i.set(o);
+				}
+				return o;
+			}
+		};
+	}
+
+	@Override /* Deque */
+	public Iterator<Object> descendingIterator() {
+		resolveAll();
+		return super.descendingIterator();
+	}
+
+	@Override /* List */
+	public Object[] toArray() {
+		resolveAll();
+		return super.toArray();
+	}
+
+	@Override /* List */
+	public <T> T[] toArray(T[] a) {
+		resolveAll();
+		return super.toArray(a);
+	}
+
+	@Override /* List */
+	public int indexOf(Object o) {
+		resolveAll();
+		return super.indexOf(o);
+	}
+
+	@Override /* List */
+	public int lastIndexOf(Object o) {
+		resolveAll();
+		return super.lastIndexOf(o);
+	}
+
+	@Override /* List */
+	public boolean remove(Object o) {
+		resolveAll();
+		return super.remove(o);
+	}
+
+	@Override /* Deque */
+	public boolean removeFirstOccurrence(Object o) {
+		resolveAll();
+		return super.removeFirstOccurrence(o);
+	}
+
+	@Override /* Deque */
+	public boolean removeLastOccurrence(Object o) {
+		resolveAll();
+		return super.removeLastOccurrence(o);
+	}
+
+	@Override /* Deque */
+	public Object getFirst() {
+		resolve(0);
+		return super.getFirst();
+	}
+
+	@Override /* Deque */
+	public Object getLast() {
+		resolve(size()-1);
+		return super.getLast();
+	}
+
+	@Override /* Deque */
+	public Object peek() {
+		resolve(0);
+		return super.peek();
+	}
+
+	@Override /* Deque */
+	public Object peekFirst() {
+		resolve(0);
+		return super.peekFirst();
+	}
+
+	@Override /* Deque */
+	public Object peekLast() {
+		resolve(size()-1);
+		return super.peekLast();
+	}
+
+	@Override /* Deque */
+	public Object element() {
+		resolve(0);
+		return super.element();
+	}
+
+	@Override /* Deque */
+	public Object poll() {
+		resolve(0);
+		return super.poll();
+	}
+
+	@Override /* Deque */
+	public Object pollFirst() {
+		resolve(0);
+		return super.pollFirst();
+	}
+
+	@Override /* Deque */
+	public Object pollLast() {
+		resolve(size()-1);
+		return super.pollLast();
+	}
+
+	@Override /* Deque */
+	public Object pop() {
+		resolve(0);
+		return super.pop();
+	}
+
+	@Override /* Deque */
+	public Object remove() {
+		resolve(0);
+		return super.remove();
+	}
+
+	@Override /* Deque */
+	public Object removeFirst() {
+		resolve(0);
+		return super.removeFirst();
+	}
+
+	@Override /* Deque */
+	public Object removeLast() {
+		resolve(size()-1);
+		return super.removeLast();
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		resolveAll();
+		return super.clone();
+	}
+
+	private void resolve(int location) {
+		if (location >= 0 && location < size())
+			get(location);
+	}
+
+	private void resolveAll() {
+		if (! resolved) {
+			for (Iterator<Object> i = listIterator(0); i.hasNext();)
+				i.next();
+			resolved = true;
+		}
+	}
+
+	private Object writeReplace() {
+		return new ObjectList((Collection<?>)this);
+	}
+}
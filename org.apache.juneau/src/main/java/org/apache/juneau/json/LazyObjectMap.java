@@ -0,0 +1,163 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * An {@link ObjectMap} whose values are parsed from the raw JSON text the first time they're accessed.
+ * <p>
+ * 	Created by {@link JsonParser} when the {@link JsonParserContext#JSON_lazyParsing} setting is enabled.
+ * <p>
+ * 	The keys are found when the map is created, but the values are kept as positions in the JSON text until they're
+ * 	retrieved through {@link #get(Object)} (and therefore any of the <code>getX()</code> and {@link #getAt(Class,String)} methods).
+ * 	Methods that expose all the values (e.g. {@link #entrySet()}, {@link #values()} and {@link #clone()}) parse all
+ * 	remaining values first, so copies made through them (e.g. <code><jk>new</jk> HashMap(map)</code>) never contain
+ * 	unparsed values.
+ * <p>
+ * 	The methods added to {@link Map} in Java 8 that don't take functional parameters (<code>getOrDefault()</code>,
+ * 	<code>putIfAbsent()</code>, <code>replace()</code> and <code>remove(key,value)</code>) are defined here without
+ * 	<ja>@Override</ja> so that they also go through {@link #get(Object)} on Java 8.
+ * 	The ones that take functional parameters (e.g. <code>forEach()</code> and <code>compute()</code>) can't be
+ * 	overridden at this source level and read the values directly, so they should only be used after one of the methods
+ * 	above has been called.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class LazyObjectMap extends ObjectMap {
+	private static final long serialVersionUID = 1L;
+
+	private final transient JsonIndex index;
+	private boolean resolved;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param index The index over the JSON text.
+	 * @param start The position of the <js>'{'</js> character of the JSON object.
+	 * @throws ParseException If the JSON object is malformed.
+	 */
+	LazyObjectMap(JsonIndex index, int start) throws ParseException {
+		super(index.getBeanContext());
+		this.index = index;
+		index.addEntries(this, start);
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		Object o = super.get(key);
+		if (! resolved && index.isUnresolved(o)) {
+			o = index.resolve(o);
+			super.put((String)key, o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		if (! resolved)
+			get(key);
+		return super.put(key, value);
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		if (! resolved)
+			get(key);
+		return super.remove(key);
+	}
+
+	/* Map (Java 8) */
+	public Object getOrDefault(Object key, Object defaultValue) {
+		Object o = get(key);
+		return (o != null || containsKey(key)) ? o : defaultValue;
+	}
+
+	/* Map (Java 8) */
+	public Object putIfAbsent(String key, Object value) {
+		Object o = get(key);
+		if (o == null)
+			o = super.put(key, value);
+		return o;
+	}
+
+	/* Map (Java 8) */
+	public Object replace(String key, Object value) {
+		if (containsKey(key))
+			return put(key, value);
+		return null;
+	}
+
+	/* Map (Java 8) */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		Object o = get(key);
+		if (containsKey(key) && isEqual(o, oldValue)) {
+			super.put(key, newValue);
+			return true;
+		}
+		return false;
+	}
+
+	/* Map (Java 8) */
+	public boolean remove(Object key, Object value) {
+		Object o = get(key);
+		if (containsKey(key) && isEqual(o, value)) {
+			super.remove(key);
+			return true;
+		}
+		return false;
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		resolveAll();
+		return super.entrySet();
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		resolveAll();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		resolveAll();
+		return super.clone();
+	}
+
+	private void resolveAll() {
+		if (! resolved) {
+			for (String key : keySet())
+				get(key);
+			resolved = true;
+		}
+	}
+
+	private static boolean isEqual(Object o1, Object o2) {
+		return o1 == null ? o2 == null : o1.equals(o2);
+	}
+
+	private Object writeReplace() {
+		return new ObjectMap(this);
+	}
+}
@@ -20,18 +20,25 @@ import org.apache.juneau.internal.*;
 /**
  * Specialized input stream for parsing MessagePack streams.
  * <p>
+ * 	Reads from the underlying stream in blocks into an internal buffer, and decodes values directly from the buffer.
+ * 	Note that this means bytes past the end of the MessagePack object may be consumed from the underlying stream.
+ * <p>
  * 	<b>Note:  This class is not intended for external use.</b>
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
 public final class MsgPackInputStream extends InputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private final InputStream is;
+	private final byte[] buff = new byte[BUFFER_SIZE];
+	private int bpos, blen;   // Current position in the buffer, and number of valid bytes in the buffer.
+	private int start;        // Position in the stream of the first byte in the buffer.
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
 	private int extType;
-	int pos = 0;
 
 	// Data type quick-lookup table.
 	private static final DataType[] TYPES = new DataType[] {
@@ -63,10 +70,39 @@ public final class MsgPackInputStream extends InputStream {
 
 	@Override /* InputStream */
 	public int read() throws IOException {
-		int i = is.read();
-		if (i > 0)
-			pos++;
-		return i;
+		if (bpos == blen && ! fill(1))
+			return -1;
+		return buff[bpos++] & 0xFF;
+	}
+
+	/**
+	 * Makes sure at least the specified number of bytes (up to the buffer size) are available in the buffer.
+	 * Unread bytes are moved to the start of the buffer before reading more bytes from the underlying stream.
+	 *
+	 * @return <jk>false</jk> if the end of the stream was reached first.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (bpos > 0) {
+			System.arraycopy(buff, bpos, buff, 0, blen - bpos);
+			start += bpos;
+			blen -= bpos;
+			bpos = 0;
+		}
+		while (blen < n) {
+			int i = is.read(buff, blen, buff.length - blen);
+			if (i == -1)
+				return false;
+			blen += i;
+		}
+		return true;
+	}
+
+	/**
+	 * Same as {@link #fill(int)}, but throws an exception if the end of the stream is reached.
+	 */
+	private void require(int n) throws IOException {
+		if (blen - bpos < n && ! fill(n))
+			throw new IOException("Unexpected end of file found at position " + getPosition());
 	}
 
 	/**
@@ -76,7 +112,7 @@ public final class MsgPackInputStream extends InputStream {
 	DataType readDataType() throws IOException {
 		int i = read();
 		if (i == -1)
-			throw new IOException("Unexpected end of file found at position " + pos);
+			throw new IOException("Unexpected end of file found at position " + getPosition());
 		currentDataType = TYPES[i];
 		switch (currentDataType) {
 			case NULL:
@@ -331,7 +367,7 @@ public final class MsgPackInputStream extends InputStream {
 						length = readUInt2();
 				else if (i == EXT32)
 					length = readUInt4();
-				extType = is.read();
+				extType = read();
 
 				break;
 			}
@@ -393,15 +429,33 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), IOUtils.UTF8);
+		int len = (int)length;
+		if (len > BUFFER_SIZE)
+			return new String(readBinary(), IOUtils.UTF8);
+		require(len);
+		String s = new String(buff, bpos, len, IOUtils.UTF8);
+		bpos += len;
+		return s;
 	}
 	
 	/**
 	 * Read a binary field from the stream.
 	 */
 	byte[] readBinary() throws IOException {
-		byte[] b = new byte[(int)length];
-		is.read(b);
+		int len = (int)length;
+		byte[] b = new byte[len];
+		int n = Math.min(len, blen - bpos);
+		System.arraycopy(buff, bpos, b, 0, n);
+		bpos += n;
+
+		// Read the remainder directly into the array.
+		while (n < len) {
+			int i = is.read(b, n, len - n);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + getPosition());
+			n += i;
+			start += i;
+		}
 		return b;
 	}
 
@@ -412,11 +466,14 @@ public final class MsgPackInputStream extends InputStream {
 		if (length == 0)
 			return lastByte;
 		if (length == 1)
-			return is.read();
+			return readUInt1();
 		if (length == 2)
-			return (is.read() << 8) | is.read();
-		int i = is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read();
-		return i;
+			return readUInt2();
+		require(4);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 4;
+		return ((b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
 	}
 
 	/**
@@ -439,8 +496,13 @@ public final class MsgPackInputStream extends InputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
-		return l;
+		require(8);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 8;
+		long h = ((b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
+		long l = ((b[p+4] & 0xFF) << 24) | ((b[p+5] & 0xFF) << 16) | ((b[p+6] & 0xFF) << 8) | (b[p+7] & 0xFF);
+		return (h << 32) | (l & 0xFFFFFFFFL);
 	}
 
 	/**
@@ -455,28 +517,35 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read one byte from the stream.
 	 */
 	private int readUInt1() throws IOException {
-		return is.read();
+		require(1);
+		return buff[bpos++] & 0xFF;
 	}
 
 	/**
 	 * Read two bytes from the stream.
 	 */
 	private int readUInt2() throws IOException {
-		return (is.read() << 8) | is.read();
+		require(2);
+		int i = ((buff[bpos] & 0xFF) << 8) | (buff[bpos+1] & 0xFF);
+		bpos += 2;
+		return i;
 	}
 
 	/**
 	 * Read four bytes from the stream.
 	 */
 	private long readUInt4() throws IOException {
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
-		return l;
+		require(4);
+		byte[] b = buff;
+		int p = bpos;
+		bpos += 4;
+		return (((long)(b[p] & 0xFF)) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
 	}
 
 	/**
 	 * Return the current read position in the stream (i.e. number of bytes we've read so far).
 	 */
 	int getPosition() {
-		return pos;
+		return start + bpos;
 	}
 }
@@ -21,13 +21,20 @@ import java.util.concurrent.atomic.*;
 /**
  * Specialized output stream for serializing MessagePack streams.
  * <p>
+ * 	Values are encoded into an internal buffer that's written to the underlying stream when full.
+ * 	{@link #flush()} must be called to write any remaining bytes.
+ * <p>
  * 	<b>Note:  This class is not intended for external use.</b>
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private final OutputStream os;
+	private final byte[] buff = new byte[BUFFER_SIZE];
+	private int count;
 
 	/**
 	 * Constructor.
@@ -39,22 +46,58 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		append1(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > BUFFER_SIZE - count) {
+			flushBuffer();
+			if (len > BUFFER_SIZE) {
+				os.write(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, buff, count, len);
+		count += len;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	/**
+	 * Writes the contents of the buffer to the underlying stream.
+	 */
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			os.write(buff, 0, count);
+			count = 0;
+		}
+	}
+
+	/**
+	 * Makes sure the buffer has room for the specified number of bytes.
+	 */
+	private void ensure(int n) throws IOException {
+		if (count + n > BUFFER_SIZE)
+			flushBuffer();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
-		return this;
+		return append1(b);
 	}
 
 	/**
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -62,7 +105,9 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		if (count == BUFFER_SIZE)
+			flushBuffer();
+		buff[count++] = (byte)i;
 		return this;
 	}
 
@@ -70,21 +115,31 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensure(2);
+		byte[] b = buff;
+		b[count++] = (byte)(i>>8);
+		b[count++] = (byte)i;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensure(4);
+		byte[] b = buff;
+		b[count++] = (byte)(i>>24);
+		b[count++] = (byte)(i>>16);
+		b[count++] = (byte)(i>>8);
+		b[count++] = (byte)i;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		return append4((int)(l>>32)).append4((int)l);
 	}
 
 	/**
@@ -212,14 +267,69 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		int len = utf8Length(cs);
+		if (len < 32)
+			append1(0xA0 + len);
+		else if (len < (1<<8))
+			append1(STR8).append1(len);
+		else if (len < (1<<16))
+			append1(STR16).append2(len);
+		else
+			append1(STR32).append4(len);
+
+		// Encode the characters directly into the buffer.
+		// Unpaired surrogates are replaced with '?' the same as String.getBytes("UTF-8").
+		byte[] b = buff;
+		for (int i = 0, l = cs.length(); i < l; i++) {
+			if (count > BUFFER_SIZE - 4)
+				flushBuffer();
+			char c = cs.charAt(i);
+			if (c < 0x80) {
+				b[count++] = (byte)c;
+			} else if (c < 0x800) {
+				b[count++] = (byte)(0xC0 | (c >> 6));
+				b[count++] = (byte)(0x80 | (c & 0x3F));
+			} else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+				if (Character.isHighSurrogate(c) && i+1 < l && Character.isLowSurrogate(cs.charAt(i+1))) {
+					int cp = Character.toCodePoint(c, cs.charAt(++i));
+					b[count++] = (byte)(0xF0 | (cp >> 18));
+					b[count++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+					b[count++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+					b[count++] = (byte)(0x80 | (cp & 0x3F));
+				} else {
+					b[count++] = '?';
+				}
+			} else {
+				b[count++] = (byte)(0xE0 | (c >> 12));
+				b[count++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				b[count++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the number of bytes in the UTF-8 encoding of the specified characters.
+	 */
+	private static int utf8Length(CharSequence cs) {
+		int len = 0;
+		for (int i = 0, l = cs.length(); i < l; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80)
+				len++;
+			else if (c < 0x800)
+				len += 2;
+			else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+				if (Character.isHighSurrogate(c) && i+1 < l && Character.isLowSurrogate(cs.charAt(i+1))) {
+					len += 4;
+					i++;
+				} else {
+					len++;
+				}
+			} else
+				len += 3;
+		}
+		return len;
 	}
 
 	/**
@@ -60,6 +60,12 @@ public final class MsgPackParserSession extends ParserSession {
 		return inputStream;
 	}
 
+	@Override /* ParserSession */
+	protected void reset(Object input) {
+		super.reset(input);
+		inputStream = null;
+	}
+
 	@Override /* ParserSession */
 	public Map<String,Object> getLastLocation() {
 		Map<String,Object> m = super.getLastLocation();
@@ -12,8 +12,10 @@
  ***************************************************************************************************************************/
 package org.apache.juneau.msgpack;
 
+import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -118,7 +120,11 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 				serializeCollectionMap(session, out, toList(gType.getInnerClass(), o), gType);
 			else
 				serializeCollection(session, out, toList(gType.getInnerClass(), o), eType);
-		} else
+		}
+		else if (gType.isIterator())
+			// MessagePack arrays are prefixed with their length, so iterators can't be streamed.
+			serializeCollection(session, out, toList(session.toIterator(o)), eType);
+		else
 			out.appendString(session.toString(o));
 
 		if (! isRecursion)
@@ -201,16 +207,44 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private void serializeCollection(MsgPackSerializerSession session, MsgPackOutputStream out, Collection c, ClassMeta<?> type) throws Exception {
+	private void serializeCollection(final MsgPackSerializerSession session, final MsgPackOutputStream out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
-		List<Object> l = new ArrayList<Object>(c.size());
+		final ClassMeta<?> elementType = type.getElementType();
+		final List<Object> l = new ArrayList<Object>(c.size());
 
 		c = session.sort(c);
 		l.addAll(c);
 
 		out.startArray(l.size());
 
+		Executor executor = session.getParallelExecutor(l.size());
+		if (executor != null) {
+			// Serialize large top-level collections in chunks.
+			final int depth = session.getIndent();
+			new ParallelChunks<byte[]>() {
+				@Override /* ParallelChunks */
+				protected byte[] serialize(int start, int end) throws Exception {
+					ByteArrayOutputStream baos = new ByteArrayOutputStream();
+					MsgPackSerializerSession s = createSession(baos, session.getProperties(), session.getJavaMethod());
+					try {
+						s.indent = depth;
+						MsgPackOutputStream out2 = s.getOutputStream();
+						for (int i = start; i < end; i++)
+							serializeAnything(s, out2, l.get(i), elementType, "<iterator>", null);
+						out2.flush();
+					} finally {
+						s.close();
+					}
+					return baos.toByteArray();
+				}
+				@Override /* ParallelChunks */
+				protected void write(byte[] chunk) throws Exception {
+					out.write(chunk);
+				}
+			}.run(executor, l.size(), session.getParallelChunkSize());
+			return;
+		}
+
 		for (Object o : l)
 			serializeAnything(session, out, o, elementType, "<iterator>", null);
 	}
@@ -228,7 +262,9 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 	@Override /* Serializer */
 	protected void doSerialize(SerializerSession session, Object o) throws Exception {
 		MsgPackSerializerSession s = (MsgPackSerializerSession)session;
-		serializeAnything(s, s.getOutputStream(), o, null, "root", null);
+		MsgPackOutputStream out = s.getOutputStream();
+		serializeAnything(s, out, o, null, "root", null);
+		out.flush();
 	}
 
 	@Override /* CoreApi */
@@ -142,6 +142,7 @@ public abstract class Parser extends CoreApi {
 	private final List<ParserListener> listeners = new LinkedList<ParserListener>();
 	private final String[] mediaTypes;
 	private final MediaRange[] mediaRanges;
+	private ThreadLocal<ParserSession> sessionCache;   // Reusable sessions when PARSER_reuseSessions is enabled.
 
 	// Hidden constructor to force subclass from InputStreamParser or ReaderParser.
 	Parser() {
@@ -207,7 +208,7 @@ public abstract class Parser extends CoreApi {
 		} catch (Exception e) {
 			throw new ParseException(session, e);
 		} finally {
-			session.close();
+			close(session);
 		}
 	}
 
@@ -383,14 +384,43 @@ public abstract class Parser extends CoreApi {
 	 * Create a basic session object without overriding properties or specifying <code>javaMethod</code>.
 	 * <p>
 	 * Equivalent to calling <code>createSession(<jk>null</jk>, <jk>null</jk>)</code>.
+	 * <p>
+	 * If {@link ParserContext#PARSER_reuseSessions} is enabled on a locked parser, the session previously
+	 * 	used by the current thread is reset and returned instead of creating a new one.
 	 *
 	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
 	 * @return The new context.
 	 */
 	protected final ParserSession createSession(Object input) {
+		if (sessionCache != null) {
+			ParserSession s = sessionCache.get();
+			if (s != null) {
+				// Not available to nested calls on this thread until it's closed.
+				sessionCache.set(null);
+				s.reset(input);
+				return s;
+			}
+			s = createSession(input, null, null, null);
+			s.isCached = s.isReusable();
+			return s;
+		}
 		return createSession(input, null, null, null);
 	}
 
+	/*
+	 * Closes the specified session and returns it to the session cache if it came from there.
+	 */
+	private void close(ParserSession session) throws ParseException {
+		try {
+			session.close();
+		} finally {
+			if (session.isCached && sessionCache != null) {
+				session.reset(null);
+				sessionCache.set(session);
+			}
+		}
+	}
+
 	//--------------------------------------------------------------------------------
 	// Optional methods
 	//--------------------------------------------------------------------------------
@@ -424,7 +454,7 @@ public abstract class Parser extends CoreApi {
 		} catch (Exception e) {
 			throw new ParseException(session, e);
 		} finally {
-			session.close();
+			close(session);
 		}
 	}
 
@@ -469,7 +499,7 @@ public abstract class Parser extends CoreApi {
 		} catch (Exception e) {
 			throw new ParseException(session, e);
 		} finally {
-			session.close();
+			close(session);
 		}
 	}
 
@@ -517,7 +547,7 @@ public abstract class Parser extends CoreApi {
 		} catch (Exception e) {
 			throw new ParseException(session, e);
 		} finally {
-			session.close();
+			close(session);
 		}
 	}
 
@@ -717,12 +747,14 @@ public abstract class Parser extends CoreApi {
 	@Override /* Lockable */
 	public Parser lock() {
 		super.lock();
+		sessionCache = (getContext(ParserContext.class).reuseSessions ? new ThreadLocal<ParserSession>() : null);
 		return this;
 	}
 
 	@Override /* Lockable */
 	public Parser clone() throws CloneNotSupportedException {
 		Parser c = (Parser)super.clone();
+		c.sessionCache = null;
 		return c;
 	}
 }
@@ -39,8 +39,20 @@ public class ParserContext extends Context {
 	 */
 	public static final String PARSER_trimStrings = "Parser.trimStrings";
 
+	/**
+	 * Reuse parser sessions ({@link Boolean}, default=<jk>false</jk>).
+	 * <p>
+	 * If <jk>true</jk>, locked parsers keep one {@link ParserSession} per thread and reuse it for calls that
+	 * 	don't specify override properties (e.g. {@link Parser#parse(Object, Class)}), instead of allocating a new
+	 * 	session on every call.
+	 * <p>
+	 * Sessions are held in a {@link ThreadLocal}, so this setting should only be enabled on parsers that are
+	 * 	used repeatedly from long-lived threads.
+	 */
+	public static final String PARSER_reuseSessions = "Parser.reuseSessions";
+
 
-	final boolean debug, trimStrings;
+	final boolean debug, trimStrings, reuseSessions;
 
 	/**
 	 * Constructor.
@@ -53,5 +65,6 @@ public class ParserContext extends Context {
 		super(cf);
 		this.debug = cf.getProperty(PARSER_debug, boolean.class, false);
 		this.trimStrings = cf.getProperty(PARSER_trimStrings, boolean.class, false);
+		this.reuseSessions = cf.getProperty(PARSER_reuseSessions, boolean.class, false);
 	}
 }
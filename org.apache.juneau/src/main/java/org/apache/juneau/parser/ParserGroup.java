@@ -19,6 +19,7 @@ import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -71,11 +72,16 @@ import org.apache.juneau.*;
  */
 public final class ParserGroup extends Lockable {
 
+	/** The default maximum number of distinct header values cached by {@link #findMatch(String)}. */
+	public static final int DEFAULT_MATCH_CACHE_SIZE = 100;
+
 	// Maps media-types to parsers.
 	private final Map<String,Parser> parserMap = new ConcurrentHashMap<String,Parser>();
 
 	// Maps Content-Type headers to matching media types.
-	private final Map<String,String> mediaTypeMappings = new ConcurrentHashMap<String,String>();
+	// Headers that don't match any media types are mapped to NO_MATCH.
+	private final BoundedCache<String,String> matchCache = new BoundedCache<String,String>(DEFAULT_MATCH_CACHE_SIZE);
+	private static final String NO_MATCH = "";
 
 	private final CopyOnWriteArrayList<Parser> parsers = new CopyOnWriteArrayList<Parser>();
 
@@ -96,7 +102,7 @@ public final class ParserGroup extends Lockable {
 		try {
 			for (Class<? extends Parser> c : reverse(p)) {
 				parserMap.clear();
-				mediaTypeMappings.clear();
+				matchCache.clear();
 				try {
 					append(c);
 				} catch (NoClassDefFoundError e) {
@@ -122,7 +128,7 @@ public final class ParserGroup extends Lockable {
 		wl.lock();
 		try {
 			parserMap.clear();
-			mediaTypeMappings.clear();
+			matchCache.clear();
 			parsers.add(0, p.newInstance());
 		} catch (NoClassDefFoundError e) {
 			// Ignore if dependent library not found (e.g. Jena).
@@ -160,12 +166,13 @@ public final class ParserGroup extends Lockable {
 	 * 	or <jk>null</jk> if no media types matched.
 	 */
 	public String findMatch(String contentTypeHeader) {
+		String key = (contentTypeHeader == null ? "" : contentTypeHeader);
+		String mt = matchCache.get(key);
+		if (mt != null)
+			return (mt == NO_MATCH ? null : mt);
+
 		rl.lock();
 		try {
-			String mt = mediaTypeMappings.get(contentTypeHeader);
-			if (mt != null)
-				return mt;
-
 			MediaRange[] mr = MediaRange.parse(contentTypeHeader);
 			if (mr.length == 0)
 				mr = MediaRange.parse("*/*");
@@ -175,19 +182,33 @@ public final class ParserGroup extends Lockable {
 					for (MediaRange a2 : p.getMediaRanges()) {
 						if (a.matches(a2)) {
 							mt = a2.getMediaType();
-							mediaTypeMappings.put(contentTypeHeader, mt);
+							matchCache.put(key, mt);
 							parserMap.put(mt, p);
 							return mt;
 						}
 					}
 				}
 			}
+			matchCache.put(key, NO_MATCH);
 			return null;
 		} finally {
 			rl.unlock();
 		}
 	}
 
+	/**
+	 * Returns the cache used by {@link #findMatch(String)} to map <code>Content-Type</code> header values to media types.
+	 * <p>
+	 * 	The cache holds at most {@link #DEFAULT_MATCH_CACHE_SIZE} distinct header values by default.
+	 * 	Use {@link BoundedCache#setMaxSize(int)} to change the limit, and {@link BoundedCache#getHits()} and
+	 * 	{@link BoundedCache#getMisses()} to monitor its effectiveness.
+	 *
+	 * @return The match cache.  Never <jk>null</jk>.
+	 */
+	public BoundedCache<String,String> getMatchCache() {
+		return matchCache;
+	}
+
 	/**
 	 * Returns the media types that all parsers in this group can handle
 	 * <p>
@@ -286,6 +286,20 @@ public class ParserReader extends Reader {
 	 * @return The contents of the reusable character buffer as a string.
 	 */
 	public final String getMarked(int offsetStart, int offsetEnd) {
+		return getMarked(offsetStart, offsetEnd, null);
+	}
+
+	/**
+	 * Same as {@link #getMarked(int, int)} except returns canonical strings from the specified symbol table.
+	 * <p>
+	 * Used for map keys and bean property names so that repeated names don't result in new strings.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param symbols The symbol table to look up the string in.  Can be <jk>null</jk>.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(int offsetStart, int offsetEnd, SymbolTable symbols) {
 		int offset = 0;
 
 		// Holes are \u00FF 'delete' characters that we need to get rid of now.
@@ -300,7 +314,7 @@ public class ParserReader extends Reader {
 			holesExist = false;
 		}
 		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart - offset;
-		String s = new String(buff, start, len);
+		String s = (symbols == null ? new String(buff, start, len) : symbols.get(buff, start, len));
 		iMark = -1;
 		return s;
 	}
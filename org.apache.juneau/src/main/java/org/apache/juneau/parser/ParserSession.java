@@ -24,7 +24,9 @@ import org.apache.juneau.internal.*;
 /**
  * Session object that lives for the duration of a single use of {@link Parser}.
  * <p>
- * This class is NOT thread safe.  It is meant to be discarded after one-time use.
+ * This class is NOT thread safe.  It is meant to be discarded after one-time use, unless
+ * 	{@link ParserContext#PARSER_reuseSessions} is enabled, in which case it's reset by {@link #reset(Object)}
+ * 	and reused by the same thread.
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
@@ -40,11 +42,13 @@ public class ParserSession extends Session {
 	private final ObjectMap properties;
 	private final Method javaMethod;
 	private final Object outer;
-	private final Object input;
+	private Object input;
 	private InputStream inputStream;
 	private Reader reader, noCloseReader;
 	private BeanPropertyMeta<?> currentProperty;
 	private ClassMeta<?> currentClass;
+	private SymbolTable symbolTable;
+	boolean isCached;                                // If 'true', returned to the parser's session cache when closed.
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -59,6 +63,7 @@ public class ParserSession extends Session {
 	 * 		<li>{@link Reader}
 	 * 		<li>{@link CharSequence}
 	 * 		<li>{@link InputStream} containing UTF-8 encoded text.
+	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text.
 	 * 		<li>{@link File} containing system encoded text.
 	 * 	</ul>
 	 * 	<br>For byte-based parsers, this can be any of the following types:
@@ -117,6 +122,8 @@ public class ParserSession extends Session {
 	/**
 	 * Wraps the specified input object inside a reader.
 	 * Subclasses can override this method to implement their own readers.
+	 * <p>
+	 * 	UTF-8 encoded input streams and byte arrays are decoded using a {@link Utf8Reader}.
 	 *
 	 * @return The input object wrapped in a Reader, or <jk>null</jk> if the object is null.
 	 * @throws Exception If object could not be converted to a reader.
@@ -133,7 +140,12 @@ public class ParserSession extends Session {
 		}
 		if (input instanceof InputStream) {
 			if (noCloseReader == null)
-				noCloseReader = new InputStreamReader((InputStream)input, IOUtils.UTF8);
+				noCloseReader = new Utf8Reader((InputStream)input);
+			return noCloseReader;
+		}
+		if (input instanceof byte[]) {
+			if (noCloseReader == null)
+				noCloseReader = new Utf8Reader((byte[])input);
 			return noCloseReader;
 		}
 		if (input instanceof File) {
@@ -198,6 +210,19 @@ public class ParserSession extends Session {
 		return outer;
 	}
 
+	/**
+	 * Returns the symbol table used for looking up map keys and bean property names.
+	 * <p>
+	 * 	The symbol table is kept when this session is reset so that names are shared between documents.
+	 *
+	 * @return The symbol table for this session.  Never <jk>null</jk>.
+	 */
+	public final SymbolTable getSymbolTable() {
+		if (symbolTable == null)
+			symbolTable = new SymbolTable();
+		return symbolTable;
+	}
+
 	/**
 	 * Sets the current bean property being parsed for proper error messages.
 	 * @param currentProperty The current property being parsed.
@@ -302,6 +327,38 @@ public class ParserSession extends Session {
 		closed = true;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this session can be reused by calling {@link #reset(Object)}.
+	 * <p>
+	 * 	Subclasses that create resources tied to a single use in their constructor should override this method to return <jk>false</jk>.
+	 *
+	 * @return <jk>true</jk> if this session can be reused.
+	 */
+	protected boolean isReusable() {
+		return true;
+	}
+
+	/**
+	 * Resets the state of this session so that it can be used again to parse the specified input.
+	 * <p>
+	 * 	Only called when {@link ParserContext#PARSER_reuseSessions} is enabled.
+	 * 	Subclasses that keep readers or other state between calls should override this method and call
+	 * 	<code><jk>super</jk>.reset(input)</code>.
+	 *
+	 * @param input The new input object, or <jk>null</jk> to release the references to the previous input.
+	 * 	A session released with <jk>null</jk> stays closed until it's reset again with a new input.
+	 */
+	protected void reset(Object input) {
+		this.input = input;
+		this.closed = (input == null);
+		this.inputStream = null;
+		this.reader = null;
+		this.noCloseReader = null;
+		this.currentProperty = null;
+		this.currentClass = null;
+		warnings.clear();
+	}
+
 	@Override /* Object */
 	protected void finalize() throws Throwable {
 		if (! closed)
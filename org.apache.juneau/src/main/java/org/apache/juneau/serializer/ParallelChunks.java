@@ -0,0 +1,127 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.serializer;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Serializes ranges of a collection concurrently and writes the results in order.
+ * <p>
+ * 	Used by serializers to serialize the entries of large collections in parallel when
+ * 	{@link SerializerContext#SERIALIZER_parallelThreshold} is enabled.
+ * 	Each chunk is serialized on an executor thread into a separate buffer using its own session, and the chunks are
+ * 	written to the output in their original order on the calling thread.
+ * <p>
+ * 	At most two chunks per available processor are pending at any time, so memory usage stays bounded regardless of
+ * 	the size of the collection.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ * @param <T> The type of a serialized chunk (e.g. <code>String</code> or <code><jk>byte</jk>[]</code>).
+ */
+public abstract class ParallelChunks<T> {
+
+	private static Executor defaultExecutor;
+
+	/**
+	 * Serializes the entries between the specified indexes.
+	 * <p>
+	 * 	Called on an executor thread.
+	 *
+	 * @param start The index of the first entry.
+	 * @param end The index after the last entry.
+	 * @return The serialized chunk.
+	 * @throws Exception If the entries could not be serialized.
+	 */
+	protected abstract T serialize(int start, int end) throws Exception;
+
+	/**
+	 * Writes a serialized chunk to the output.
+	 * <p>
+	 * 	Called on the calling thread in the same order as the chunks.
+	 *
+	 * @param chunk The serialized chunk.
+	 * @throws Exception If the chunk could not be written.
+	 */
+	protected abstract void write(T chunk) throws Exception;
+
+	/**
+	 * Serializes all the entries in chunks and writes them to the output.
+	 *
+	 * @param executor The executor to serialize the chunks on.
+	 * @param size The number of entries.
+	 * @param chunkSize The number of entries in each chunk.
+	 * @throws Exception If any of the chunks could not be serialized or written.
+	 */
+	public final void run(Executor executor, int size, int chunkSize) throws Exception {
+		chunkSize = Math.max(chunkSize, 1);
+		int maxPending = Runtime.getRuntime().availableProcessors() * 2;
+		LinkedList<FutureTask<T>> pending = new LinkedList<FutureTask<T>>();
+		try {
+			int next = 0;
+			while (next < size || ! pending.isEmpty()) {
+				while (next < size && pending.size() < maxPending) {
+					final int start = next, end = (int)Math.min(size, (long)next + chunkSize);
+					FutureTask<T> f = new FutureTask<T>(new Callable<T>() {
+						@Override /* Callable */
+						public T call() throws Exception {
+							return serialize(start, end);
+						}
+					});
+					executor.execute(f);
+					pending.add(f);
+					next = end;
+				}
+				write(get(pending.removeFirst()));
+			}
+		} finally {
+			for (FutureTask<T> f : pending)
+				f.cancel(true);
+		}
+	}
+
+	private T get(FutureTask<T> f) throws Exception {
+		try {
+			return f.get();
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof Exception)
+				throw (Exception)t;
+			if (t instanceof Error)
+				throw (Error)t;
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the shared executor used when {@link SerializerContext#SERIALIZER_parallelExecutor} is not specified.
+	 *
+	 * @return A fixed pool of daemon threads with one thread per available processor.
+	 */
+	static synchronized Executor getDefaultExecutor() {
+		if (defaultExecutor == null) {
+			defaultExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override /* ThreadFactory */
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "juneau-serializer-" + count.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return defaultExecutor;
+	}
+}
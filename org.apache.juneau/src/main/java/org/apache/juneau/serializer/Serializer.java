@@ -52,6 +52,7 @@ public abstract class Serializer extends CoreApi {
 	private final String[] mediaTypes;
 	private final MediaRange[] mediaRanges;
 	private final String contentType;
+	private ThreadLocal<SerializerSession> sessionCache;   // Reusable sessions when SERIALIZER_reuseSessions is enabled.
 
 	// Hidden constructors to force subclass from OuputStreamSerializer or WriterSerializer.
 	Serializer() {
@@ -130,7 +131,14 @@ public abstract class Serializer extends CoreApi {
 		} catch (Exception e) {
 			throw new SerializeException(session, e);
 		} finally {
-			session.close();
+			try {
+				session.close();
+			} finally {
+				if (session.isCached && sessionCache != null) {
+					session.reset(null);
+					sessionCache.set(session);
+				}
+			}
 		}
 	}
 
@@ -191,6 +199,9 @@ public abstract class Serializer extends CoreApi {
 	 * Create a basic session object without overriding properties or specifying <code>javaMethod</code>.
 	 * <p>
 	 * Equivalent to calling <code>createSession(<jk>null</jk>, <jk>null</jk>)</code>.
+	 * <p>
+	 * If {@link SerializerContext#SERIALIZER_reuseSessions} is enabled on a locked serializer, the session previously
+	 * 	used by the current thread is reset and returned instead of creating a new one.
 	 *
 	 * @param output The output object.
 	 * 	<br>Character-based serializers can handle the following output class types:
@@ -207,6 +218,18 @@ public abstract class Serializer extends CoreApi {
 	 * @return The new session.
 	 */
 	protected SerializerSession createSession(Object output) {
+		if (sessionCache != null) {
+			SerializerSession s = sessionCache.get();
+			if (s != null) {
+				// Not available to nested calls on this thread until it's closed.
+				sessionCache.set(null);
+				s.reset(output);
+				return s;
+			}
+			s = createSession(output, null, null);
+			s.isCached = s.isReusable();
+			return s;
+		}
 		return createSession(output, null, null);
 	}
 
@@ -235,6 +258,22 @@ public abstract class Serializer extends CoreApi {
 		return Arrays.asList((Object[])array);
 	}
 
+	/**
+	 * Reads the remaining entries of the specified iterator into a list.
+	 * <p>
+	 * 	Used by serializers that need to know the number of entries or look at all the entries
+	 * 	before writing them, and therefore cannot stream {@link Iterator} values.
+	 *
+	 * @param i The iterator being read.
+	 * @return The entries as a list.
+	 */
+	protected final List<Object> toList(Iterator<?> i) {
+		List<Object> list = new ArrayList<Object>();
+		while (i.hasNext())
+			list.add(i.next());
+		return list;
+	}
+
 	/**
 	 * Returns the media types handled based on the value of the {@link Produces} annotation on the serializer class.
 	 * <p>
@@ -324,12 +363,14 @@ public abstract class Serializer extends CoreApi {
 	@Override /* CoreApi */
 	public Serializer lock() {
 		super.lock();
+		sessionCache = (getContext(SerializerContext.class).reuseSessions ? new ThreadLocal<SerializerSession>() : null);
 		return this;
 	}
 
 	@Override /* CoreApi */
 	public Serializer clone() throws CloneNotSupportedException {
 		Serializer c = (Serializer)super.clone();
+		c.sessionCache = null;
 		return c;
 	}
 }
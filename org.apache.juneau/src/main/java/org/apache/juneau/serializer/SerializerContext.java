@@ -12,6 +12,9 @@
  ***************************************************************************************************************************/
 package org.apache.juneau.serializer;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 
@@ -227,8 +230,62 @@ public class SerializerContext extends Context {
 	 */
 	public static final String SERIALIZER_absolutePathUriBase = "Serializer.absolutePathUriBase";
 
+	/**
+	 * Flush interval for streamed entries ({@link Integer}, default=<code>100</code>).
+	 * <p>
+	 * {@link Iterator} and {@link Enumeration} values are serialized one entry at a time as they're read instead of being
+	 * 	collected into a list first.
+	 * The output is flushed after this many entries have been written so that the client starts receiving
+	 * 	content before the entire result set has been read.
+	 * <p>
+	 * A value of <code>0</code> disables flushing.
+	 */
+	public static final String SERIALIZER_streamFlushInterval = "Serializer.streamFlushInterval";
+
+	/**
+	 * Reuse serializer sessions ({@link Boolean}, default=<jk>false</jk>).
+	 * <p>
+	 * If <jk>true</jk>, locked serializers keep one {@link SerializerSession} per thread and reuse it for calls that
+	 * 	don't specify override properties (e.g. {@link Serializer#serialize(Object)}), instead of allocating a new
+	 * 	session, stack, and warnings list on every call.
+	 * <p>
+	 * Sessions are held in a {@link ThreadLocal}, so this setting should only be enabled on serializers that are
+	 * 	used repeatedly from long-lived threads.
+	 */
+	public static final String SERIALIZER_reuseSessions = "Serializer.reuseSessions";
+
+	/**
+	 * Minimum size of top-level collections serialized in parallel ({@link Integer}, default=<code>0</code>).
+	 * <p>
+	 * If greater than <code>0</code>, top-level collections and arrays with at least this many entries are split into
+	 * 	chunks of {@link #SERIALIZER_parallelChunkSize} entries.
+	 * The chunks are serialized concurrently into separate buffers using the {@link #SERIALIZER_parallelExecutor}
+	 * 	executor, and then written to the output in their original order.
+	 * <p>
+	 * Currently supported by the JSON and MessagePack serializers.
+	 * Ignored if {@link #SERIALIZER_detectRecursions} or {@link #SERIALIZER_debug} is enabled.
+	 * <p>
+	 * A value of <code>0</code> disables parallel serialization.
+	 */
+	public static final String SERIALIZER_parallelThreshold = "Serializer.parallelThreshold";
+
+	/**
+	 * Number of entries in each chunk of a collection serialized in parallel ({@link Integer}, default=<code>1000</code>).
+	 * <p>
+	 * See {@link #SERIALIZER_parallelThreshold}.
+	 */
+	public static final String SERIALIZER_parallelChunkSize = "Serializer.parallelChunkSize";
+
+	/**
+	 * Executor used to serialize collections in parallel ({@link Executor}, default=<jk>null</jk>).
+	 * <p>
+	 * See {@link #SERIALIZER_parallelThreshold}.
+	 * If <jk>null</jk>, a shared pool of daemon threads is used with one thread per available processor.
+	 */
+	public static final String SERIALIZER_parallelExecutor = "Serializer.parallelExecutor";
+
 
-	final int maxDepth, initialDepth;
+	final int maxDepth, initialDepth, streamFlushInterval, parallelThreshold, parallelChunkSize;
 	final boolean
 		debug,
 		detectRecursions,
@@ -240,9 +297,11 @@ public class SerializerContext extends Context {
 		trimEmptyMaps,
 		trimStrings,
 		sortCollections,
-		sortMaps;
+		sortMaps,
+		reuseSessions;
 	final char quoteChar;
 	final String relativeUriBase, absolutePathUriBase;
+	final Executor parallelExecutor;
 
 	/**
 	 * Constructor.
@@ -269,6 +328,11 @@ public class SerializerContext extends Context {
 		quoteChar = cf.getProperty(SERIALIZER_quoteChar, String.class, "\"").charAt(0);
 		relativeUriBase = resolveRelativeUriBase(cf.getProperty(SERIALIZER_relativeUriBase, String.class, ""));
 		absolutePathUriBase = resolveAbsolutePathUriBase(cf.getProperty(SERIALIZER_absolutePathUriBase, String.class, ""));
+		streamFlushInterval = cf.getProperty(SERIALIZER_streamFlushInterval, int.class, 100);
+		reuseSessions = cf.getProperty(SERIALIZER_reuseSessions, boolean.class, false);
+		parallelThreshold = cf.getProperty(SERIALIZER_parallelThreshold, int.class, 0);
+		parallelChunkSize = cf.getProperty(SERIALIZER_parallelChunkSize, int.class, 1000);
+		parallelExecutor = cf.getProperty(SERIALIZER_parallelExecutor, Executor.class, null);
 	}
 
 	private String resolveRelativeUriBase(String s) {
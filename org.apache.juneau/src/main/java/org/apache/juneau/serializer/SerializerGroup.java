@@ -19,6 +19,7 @@ import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -72,11 +73,16 @@ import org.apache.juneau.*;
  */
 public final class SerializerGroup extends Lockable {
 
+	/** The default maximum number of distinct header values cached by {@link #findMatch(String)}. */
+	public static final int DEFAULT_MATCH_CACHE_SIZE = 100;
+
 	// Maps media-types to serializers.
 	private final Map<String,Serializer> serializerMap = new ConcurrentHashMap<String,Serializer>();
 
 	// Maps Accept headers to matching media types.
-	private final Map<String,String> mediaTypeMappings = new ConcurrentHashMap<String,String>();
+	// Headers that don't match any media types are mapped to NO_MATCH.
+	private final BoundedCache<String,String> matchCache = new BoundedCache<String,String>(DEFAULT_MATCH_CACHE_SIZE);
+	private static final String NO_MATCH = "";
 
 	private final CopyOnWriteArrayList<Serializer> serializers = new CopyOnWriteArrayList<Serializer>();
 
@@ -96,7 +102,7 @@ public final class SerializerGroup extends Lockable {
 		wl.lock();
 		try {
 			serializerMap.clear();
-			mediaTypeMappings.clear();
+			matchCache.clear();
 			for (Class<? extends Serializer> ss : reverse(s)) {
 				try {
 					append(ss);
@@ -123,7 +129,7 @@ public final class SerializerGroup extends Lockable {
 		wl.lock();
 		try {
 			serializerMap.clear();
-			mediaTypeMappings.clear();
+			matchCache.clear();
 			serializers.add(0, c.newInstance());
 		} catch (NoClassDefFoundError e) {
 			// Ignore if dependent library not found (e.g. Jena).
@@ -183,12 +189,13 @@ public final class SerializerGroup extends Lockable {
 	 * 	or <jk>null</jk> if no media types matched.
 	 */
 	public String findMatch(String acceptHeader) {
+		String key = (acceptHeader == null ? "" : acceptHeader);
+		String mt = matchCache.get(key);
+		if (mt != null)
+			return (mt == NO_MATCH ? null : mt);
+
 		rl.lock();
 		try {
-			String mt = mediaTypeMappings.get(acceptHeader);
-			if (mt != null)
-				return mt;
-
 			MediaRange[] mr = MediaRange.parse(acceptHeader);
 			if (mr.length == 0)
 				mr = MediaRange.parse("*/*");
@@ -198,19 +205,33 @@ public final class SerializerGroup extends Lockable {
 					for (MediaRange a2 : s.getMediaRanges()) {
 						if (a.matches(a2)) {
 							mt = a2.getMediaType();
-							mediaTypeMappings.put(acceptHeader, mt);
+							matchCache.put(key, mt);
 							serializerMap.put(mt, s);
 							return mt;
 						}
 					}
 				}
 			}
+			matchCache.put(key, NO_MATCH);
 			return null;
 		} finally {
 			rl.unlock();
 		}
 	}
 
+	/**
+	 * Returns the cache used by {@link #findMatch(String)} to map <code>Accept</code> header values to media types.
+	 * <p>
+	 * 	The cache holds at most {@link #DEFAULT_MATCH_CACHE_SIZE} distinct header values by default.
+	 * 	Use {@link BoundedCache#setMaxSize(int)} to change the limit, and {@link BoundedCache#getHits()} and
+	 * 	{@link BoundedCache#getMisses()} to monitor its effectiveness.
+	 *
+	 * @return The match cache.  Never <jk>null</jk>.
+	 */
+	public BoundedCache<String,String> getMatchCache() {
+		return matchCache;
+	}
+
 	/**
 	 * Returns the media types that all parsers in this group can handle
 	 * <p>
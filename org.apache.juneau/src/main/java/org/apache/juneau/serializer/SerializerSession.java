@@ -19,6 +19,7 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -35,7 +36,9 @@ import org.apache.juneau.transform.*;
  * 	<li>Allowing serializer properties to be overridden on method calls.
  * </ul>
  * <p>
- * This class is NOT thread safe.  It is meant to be discarded after one-time use.
+ * This class is NOT thread safe.  It is meant to be discarded after one-time use, unless
+ * 	{@link SerializerContext#SERIALIZER_reuseSessions} is enabled, in which case it's reset by {@link #reset(Object)}
+ * 	and reused by the same thread.
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
@@ -43,7 +46,7 @@ public class SerializerSession extends Session {
 
 	private static JuneauLogger logger = JuneauLogger.getLogger(SerializerSession.class);
 
-	private final int maxDepth, initialDepth;
+	private final int maxDepth, initialDepth, streamFlushInterval, parallelThreshold, parallelChunkSize;
 	private final boolean
 		debug,
 		detectRecursions,
@@ -58,6 +61,7 @@ public class SerializerSession extends Session {
 		sortMaps;
 	private final char quoteChar;
 	private final String relativeUriBase, absolutePathUriBase;
+	private final Executor parallelExecutor;
 
 	private final ObjectMap overrideProperties;
 
@@ -66,16 +70,21 @@ public class SerializerSession extends Session {
 
 	private boolean closed;
 	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<StackElement>();  // Contains the current objects in the current branch of the model.
+	private Object[] stackObjects;                                                  // The current objects in the current branch of the model, bottom first.
+	private String[] stackNames;                                                    // The attribute names of the objects in stackObjects.
+	private ClassMeta<?>[] stackTypes;                                              // The class types of the objects in stackObjects.
+	private int stackSize;                                                          // The number of entries in the stack arrays.
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
 	private final List<String> warnings = new LinkedList<String>();                 // Any warnings encountered.
 	private final BeanContext beanContext;                                          // The bean context being used for this session.
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
-	private final Object output;
+	private Object output;
 	private OutputStream outputStream;
 	private Writer writer, flushOnlyWriter;
+	private Utf8Writer utf8Writer;                                                  // Kept between resets so that its buffer is reused.
 	private BeanPropertyMeta<?> currentProperty;
 	private ClassMeta<?> currentClass;
+	boolean isCached;                                                               // If 'true', returned to the serializer's session cache when closed.
 
 
 	/**
@@ -109,6 +118,10 @@ public class SerializerSession extends Session {
 			overrideProperties = new ObjectMap();
 			maxDepth = ctx.maxDepth;
 			initialDepth = ctx.initialDepth;
+			streamFlushInterval = ctx.streamFlushInterval;
+			parallelThreshold = ctx.parallelThreshold;
+			parallelChunkSize = ctx.parallelChunkSize;
+			parallelExecutor = ctx.parallelExecutor;
 			debug = ctx.debug;
 			detectRecursions = ctx.detectRecursions;
 			ignoreRecursions = ctx.ignoreRecursions;
@@ -127,6 +140,10 @@ public class SerializerSession extends Session {
 			overrideProperties = op;
 			maxDepth = op.getInt(SERIALIZER_maxDepth, ctx.maxDepth);
 			initialDepth = op.getInt(SERIALIZER_initialDepth, ctx.initialDepth);
+			streamFlushInterval = op.getInt(SERIALIZER_streamFlushInterval, ctx.streamFlushInterval);
+			parallelThreshold = op.getInt(SERIALIZER_parallelThreshold, ctx.parallelThreshold);
+			parallelChunkSize = op.getInt(SERIALIZER_parallelChunkSize, ctx.parallelChunkSize);
+			parallelExecutor = op.get(Executor.class, SERIALIZER_parallelExecutor, ctx.parallelExecutor);
 			debug = op.getBoolean(SERIALIZER_debug, ctx.debug);
 			detectRecursions = op.getBoolean(SERIALIZER_detectRecursions, ctx.detectRecursions);
 			ignoreRecursions = op.getBoolean(SERIALIZER_ignoreRecursions, ctx.ignoreRecursions);
@@ -146,6 +163,9 @@ public class SerializerSession extends Session {
 		this.indent = initialDepth;
 		if (detectRecursions || debug) {
 			set = new IdentityHashMap<Object,Object>();
+			stackObjects = new Object[16];
+			stackNames = new String[16];
+			stackTypes = new ClassMeta<?>[16];
 		} else {
 			set = Collections.emptyMap();
 		}
@@ -186,6 +206,8 @@ public class SerializerSession extends Session {
 	 * <ul>
 	 * 	<li>{@link Writer}
 	 * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
+	 * 		The characters are encoded directly into a byte buffer using a {@link Utf8Writer}, which is flushed when
+	 * 		this session is closed.
 	 * 	<li>{@link File} - Output will be written as system-default encoded stream.
 	 * </ul>
 	 *
@@ -198,8 +220,11 @@ public class SerializerSession extends Session {
 		if (output instanceof Writer)
 			return (Writer)output;
 		if (output instanceof OutputStream) {
-			if (flushOnlyWriter == null)
-				flushOnlyWriter = new OutputStreamWriter((OutputStream)output, IOUtils.UTF8);
+			if (flushOnlyWriter == null) {
+				if (utf8Writer == null)
+					utf8Writer = new Utf8Writer(null);
+				flushOnlyWriter = utf8Writer.setOutputStream((OutputStream)output);
+			}
 			return flushOnlyWriter;
 		}
 		if (output instanceof File) {
@@ -283,6 +308,32 @@ public class SerializerSession extends Session {
 		return initialDepth;
 	}
 
+	/**
+	 * Returns the {@link SerializerContext#SERIALIZER_parallelChunkSize} setting value for this session.
+	 *
+	 * @return The {@link SerializerContext#SERIALIZER_parallelChunkSize} setting value for this session.
+	 */
+	public final int getParallelChunkSize() {
+		return parallelChunkSize;
+	}
+
+	/**
+	 * Returns the executor to use for serializing the entries of the current collection in parallel chunks.
+	 * <p>
+	 * 	Only top-level collections with at least {@link SerializerContext#SERIALIZER_parallelThreshold} entries are
+	 * 	serialized in parallel.  Must be called after the collection has been pushed on the stack using
+	 * 	{@link #push(String, Object, ClassMeta)}.
+	 *
+	 * @param size The number of entries in the collection.
+	 * @return The executor, or <jk>null</jk> if the collection should be serialized sequentially.
+	 * @see ParallelChunks
+	 */
+	public final Executor getParallelExecutor(int size) {
+		if (parallelThreshold <= 0 || size < parallelThreshold || indent != initialDepth + 1 || detectRecursions || debug)
+			return null;
+		return (parallelExecutor == null ? ParallelChunks.getDefaultExecutor() : parallelExecutor);
+	}
+
 	/**
 	 * Returns the {@link SerializerContext#SERIALIZER_debug} setting value for this session.
 	 *
@@ -429,12 +480,12 @@ public class SerializerSession extends Session {
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
 		if (detectRecursions || debug) {
-			if (stack.size() > maxDepth)
+			if (stackSize > maxDepth)
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			addToStack(attrName, o, cm);
 			if (debug)
 				logger.info(getStack(false));
 			set.put(o, o);
@@ -460,20 +511,37 @@ public class SerializerSession extends Session {
 		if (ignoreRecursions && ! debug)
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		addToStack(attrName, o, cm);
 		throw new SerializeException("Recursion occurred, stack={0}", getStack(true));
 	}
 
+	private void addToStack(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackSize == stackObjects.length) {
+			int l = stackSize * 2;
+			stackObjects = Arrays.copyOf(stackObjects, l);
+			stackNames = Arrays.copyOf(stackNames, l);
+			stackTypes = Arrays.copyOf(stackTypes, l);
+		}
+		stackObjects[stackSize] = o;
+		stackNames[stackSize] = attrName;
+		stackTypes[stackSize] = cm;
+		stackSize++;
+	}
+
 	/**
 	 * Pop an object off the stack.
 	 */
 	public void pop() {
 		indent--;
 		if ((detectRecursions || debug) && ! isBottom)  {
-			Object o = stack.removeLast().o;
+			stackSize--;
+			Object o = stackObjects[stackSize];
+			stackObjects[stackSize] = null;
+			stackNames[stackSize] = null;
+			stackTypes[stackSize] = null;
 			Object o2 = set.remove(o);
 			if (o2 == null)
-				addWarning("Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.", o.getClass().getName(), stack);
+				addWarning("Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.", o.getClass().getName(), getStack(false));
 		}
 		isBottom = false;
 	}
@@ -611,6 +679,59 @@ public class SerializerSession extends Session {
 		return c;
 	}
 
+	/**
+	 * Returns an iterator over the entries of the specified {@link Iterator} or {@link Enumeration}.
+	 * <p>
+	 * 	If {@link SerializerSession#isSortCollections()} returns <jk>true</jk>, the entries are read into a sorted
+	 * 	collection first.  Otherwise, entries are read lazily from the underlying object.
+	 *
+	 * @param o The iterator or enumeration.
+	 * @return An iterator over the entries.
+	 */
+	@SuppressWarnings("unchecked")
+	public final Iterator<Object> toIterator(Object o) {
+		Iterator<Object> i;
+		if (o instanceof Enumeration) {
+			final Enumeration<Object> e = (Enumeration<Object>)o;
+			i = new Iterator<Object>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return e.hasMoreElements();
+				}
+				@Override /* Iterator */
+				public Object next() {
+					return e.nextElement();
+				}
+				@Override /* Iterator */
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		} else {
+			i = (Iterator<Object>)o;
+		}
+		if (sortCollections && i.hasNext()) {
+			List<Object> l = new ArrayList<Object>();
+			while (i.hasNext())
+				l.add(i.next());
+			return sort(l).iterator();
+		}
+		return i;
+	}
+
+	/**
+	 * Flushes the specified output after every {@link SerializerContext#SERIALIZER_streamFlushInterval} entries
+	 * 	written from a streamed {@link Iterator} or {@link Enumeration}.
+	 *
+	 * @param out The output being written to.
+	 * @param count The number of entries written so far.
+	 * @throws IOException If a problem occurred trying to flush the output.
+	 */
+	public final void flushStreamed(Flushable out, int count) throws IOException {
+		if (streamFlushInterval > 0 && count % streamFlushInterval == 0)
+			out.flush();
+	}
+
 	/**
 	 * Converts a String to an absolute URI based on the {@link SerializerContext#SERIALIZER_absolutePathUriBase} and
 	 * 	{@link SerializerContext#SERIALIZER_relativeUriBase} settings on this context.
@@ -679,52 +800,86 @@ public class SerializerSession extends Session {
 		closed = true;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this session can be reused by calling {@link #reset(Object)}.
+	 * <p>
+	 * 	Subclasses that create resources tied to a single use in their constructor should override this method to return <jk>false</jk>.
+	 *
+	 * @return <jk>true</jk> if this session can be reused.
+	 */
+	protected boolean isReusable() {
+		return true;
+	}
+
+	/**
+	 * Resets the state of this session so that it can be used again to serialize to the specified output.
+	 * <p>
+	 * 	Only called when {@link SerializerContext#SERIALIZER_reuseSessions} is enabled.
+	 * 	Subclasses that keep state between calls should override this method and call <code><jk>super</jk>.reset(output)</code>.
+	 *
+	 * @param output The new output object, or <jk>null</jk> to release the references to the previous output.
+	 * 	A session released with <jk>null</jk> stays closed until it's reset again with a new output.
+	 */
+	protected void reset(Object output) {
+		this.output = output;
+		this.indent = initialDepth;
+		this.closed = (output == null);
+		this.isBottom = false;
+		this.outputStream = null;
+		this.writer = null;
+		this.flushOnlyWriter = null;
+		if (utf8Writer != null)
+			utf8Writer.setOutputStream(null);
+		this.currentProperty = null;
+		this.currentClass = null;
+		clearStack();
+		set.clear();
+		warnings.clear();
+	}
+
 	@Override /* Object */
 	protected void finalize() throws Throwable {
 		if (! closed)
 			throw new RuntimeException("SerializerSession was not closed.");
 	}
 
-	private static class StackElement {
-		private int depth;
-		private String name;
-		private Object o;
-		private ClassMeta<?> aType;
-
-		private StackElement(int depth, String name, Object o, ClassMeta<?> aType) {
-			this.depth = depth;
-			this.name = name;
-			this.o = o;
-			this.aType = aType;
-		}
-
-		private String toString(boolean simple) {
-			StringBuilder sb = new StringBuilder().append('[').append(depth).append(']');
-			sb.append(StringUtils.isEmpty(name) ? "<noname>" : name).append(':');
-			sb.append(aType.toString(simple));
-			if (aType != aType.getTransformedClassMeta())
-				sb.append('/').append(aType.getTransformedClassMeta().toString(simple));
-			return sb.toString();
+	private void clearStack() {
+		if (stackSize > 0) {
+			Arrays.fill(stackObjects, 0, stackSize, null);
+			Arrays.fill(stackNames, 0, stackSize, null);
+			Arrays.fill(stackTypes, 0, stackSize, null);
+			stackSize = 0;
 		}
 	}
 
 	private String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (int depth = 0; depth < stackSize; depth++) {
 			if (full) {
 				sb.append("\n\t");
-				for (int i = 1; i < e.depth; i++)
+				for (int i = 1; i < depth; i++)
 					sb.append("  ");
-				if (e.depth > 0)
+				if (depth > 0)
 					sb.append("->");
-				sb.append(e.toString(false));
+				appendStackElement(sb, depth, false);
 			} else {
-				sb.append(" > ").append(e.toString(true));
+				sb.append(" > ");
+				appendStackElement(sb, depth, true);
 			}
 		}
 		return sb.toString();
 	}
 
+	private void appendStackElement(StringBuilder sb, int depth, boolean simple) {
+		String name = stackNames[depth];
+		ClassMeta<?> aType = stackTypes[depth];
+		sb.append('[').append(depth).append(']');
+		sb.append(StringUtils.isEmpty(name) ? "<noname>" : name).append(':');
+		sb.append(aType.toString(simple));
+		if (aType != aType.getTransformedClassMeta())
+			sb.append('/').append(aType.getTransformedClassMeta().toString(simple));
+	}
+
 	/**
 	 * Returns information used to determine at what location in the parse a failure occurred.
 	 *
@@ -736,8 +891,8 @@ public class SerializerSession extends Session {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0)
+			m.put("stack", getStack(false));
 		return m;
 	}
 }
@@ -0,0 +1,133 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.transform;
+
+import java.lang.reflect.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Used to convert objects of one type to another in {@link BeanContext#convertToType(Object, ClassMeta)}.
+ *
+ *
+ * <h6 class='topic'>Description</h6>
+ * <p>
+ * 	<code>PojoConverters</code> take precedence over the built-in conversions performed by the bean context.
+ * 	They're used whenever a value whose class is the source class (or a subclass of it) needs to be converted to
+ * 	exactly the target class
+ * 	(or to the primitive type of a wrapper target class such as <code>Integer</code>), such as in {@link ObjectMap#get(Class, String)}, when setting bean properties through
+ * 	{@link BeanMap#put(String, Object)}, and when converting parsed values.
+ * <p>
+ * 	Converters MUST declare a public no-arg constructor so that the bean context can instantiate them, and must be thread-safe.
+ * <p>
+ * 	<code>PojoConverters</code> are associated with bean contexts through the {@link BeanContext#BEAN_converters} property.
+ *
+ *
+ * <h6 class='topic'>Example</h6>
+ * <p class='bcode'>
+ * 	<jc>// Converts strings of the form "x,y" to Point objects.</jc>
+ * 	<jk>public class</jk> PointConverter <jk>extends</jk> PojoConverter&lt;String,Point&gt; {
+ * 		<ja>@Override</ja>
+ * 		<jk>public</jk> Point convert(String value, ClassMeta&lt;?&gt; type, BeanContext beanContext) {
+ * 			String[] s = value.split(<js>","</js>);
+ * 			<jk>return new</jk> Point(Integer.parseInt(s[0]), Integer.parseInt(s[1]));
+ * 		}
+ * 	}
+ *
+ * 	BeanContext bc = ContextFactory.<jsm>create</jsm>().addConverters(PointConverter.<jk>class</jk>).getBeanContext();
+ * 	Point p = bc.convertToType(<js>"1,2"</js>, Point.<jk>class</jk>);
+ * </p>
+ *
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ * @param <S> The source class.
+ * @param <T> The target class.
+ */
+public abstract class PojoConverter<S,T> {
+
+	private final Class<S> sourceClass;
+	private final Class<T> targetClass;
+
+	/**
+	 * Constructor that determines the source and target classes through reflection.
+	 */
+	@SuppressWarnings("unchecked")
+	protected PojoConverter() {
+		Class<?> c = this.getClass();
+		while (c.getSuperclass() != PojoConverter.class)
+			c = c.getSuperclass();
+		Type t = c.getGenericSuperclass();
+		if (! (t instanceof ParameterizedType))
+			throw new RuntimeException("Could not determine the source and target classes of converter " + getClass().getName());
+		Type[] pta = ((ParameterizedType)t).getActualTypeArguments();
+		this.sourceClass = (Class<S>)toClass(pta[0]);
+		this.targetClass = (Class<T>)toClass(pta[1]);
+	}
+
+	/**
+	 * Constructor for converters whose source and target classes are specified explicitly.
+	 *
+	 * @param sourceClass The source class.
+	 * @param targetClass The target class.
+	 */
+	protected PojoConverter(Class<S> sourceClass, Class<T> targetClass) {
+		this.sourceClass = sourceClass;
+		this.targetClass = targetClass;
+	}
+
+	private static Class<?> toClass(Type t) {
+		if (t instanceof Class)
+			return (Class<?>)t;
+		if (t instanceof ParameterizedType)
+			return (Class<?>)((ParameterizedType)t).getRawType();
+		if (t instanceof GenericArrayType)
+			return Array.newInstance(toClass(((GenericArrayType)t).getGenericComponentType()), 0).getClass();
+		throw new RuntimeException("Unsupported parameter type: " + t);
+	}
+
+	/**
+	 * Converts the specified value.
+	 *
+	 * @param value The value to convert.  Never <jk>null</jk>.
+	 * @param type The class type to convert the value to.
+	 * 	The inner class is always the target class of this converter.
+	 * @param beanContext The bean context performing the conversion.
+	 * @return The converted value.
+	 * @throws Exception If the value could not be converted.
+	 * 	The exception is wrapped in an {@link InvalidDataConversionException}.
+	 */
+	public abstract T convert(S value, ClassMeta<?> type, BeanContext beanContext) throws Exception;
+
+	/**
+	 * Returns the class of the values this converter converts from.
+	 *
+	 * @return The source class.
+	 */
+	public Class<S> getSourceClass() {
+		return sourceClass;
+	}
+
+	/**
+	 * Returns the class of the values this converter converts to.
+	 *
+	 * @return The target class.
+	 */
+	public Class<T> getTargetClass() {
+		return targetClass;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return getClass().getSimpleName() + '<' + sourceClass.getSimpleName() + ',' + targetClass.getSimpleName() + '>';
+	}
+}
@@ -15,8 +15,6 @@ package org.apache.juneau.transforms;
 import java.text.*;
 import java.util.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.ParseException;
@@ -24,6 +22,10 @@ import org.apache.juneau.transform.*;
 
 /**
  * Transforms {@link Calendar Calendars} to {@link String Strings}.
+ * <p>
+ * 	Transforms are thread-safe and can be shared across threads.
+ * 	The ISO8601 transforms use a hand-written formatter, and all other transforms use a separate
+ * 	copy of the {@link DateFormat} on each thread.
  *
  *
  * <h6 class='topic'>Behavior-specific subclasses</h6>
@@ -101,7 +103,7 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o), hint);
+				return convert(DateUtils.parseISO8601Calendar(o), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -109,7 +111,7 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 
 		@Override /* PojoTransform */
 		public String transform(Calendar o) {
-			return DatatypeConverter.printDateTime(o);
+			return DateUtils.appendISO8601(new StringBuilder(29), o).toString();
 		}
 	}
 
@@ -128,7 +130,7 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o), hint);
+				return convert(DateUtils.parseISO8601Calendar(o), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -137,11 +139,10 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 		@Override /* PojoTransform */
 		public String transform(Calendar o) {
 			if (o.getTimeZone().getRawOffset() != 0) {
-				Calendar c = Calendar.getInstance(GMT);
-				c.setTime(o.getTime());
-				o = c;
+				long t = o.getTimeInMillis();
+				return DateUtils.appendISO8601(new StringBuilder(24), t, GMT, t % 1000 != 0, true).toString();
 			}
-			return DatatypeConverter.printDateTime(o);
+			return DateUtils.appendISO8601(new StringBuilder(29), o).toString();
 		}
 	}
 
@@ -198,7 +199,15 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 	}
 
 	/** The formatter to convert dates to Strings. */
-	private DateFormat format;
+	private final DateFormat format;
+
+	// DateFormats aren't thread-safe, so each thread uses its own copy of the format.
+	private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+		@Override /* ThreadLocal */
+		protected DateFormat initialValue() {
+			return (DateFormat)format.clone();
+		}
+	};
 
 	private TimeZone timeZone;
 
@@ -207,7 +216,9 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 	 * <p>
 	 * 	This constructor is used when <code>transform()</code> and <code>normalize()</code> are overridden by subclasses.
 	 */
-	public CalendarTransform() {}
+	public CalendarTransform() {
+		this.format = null;
+	}
 
 	/**
 	 * Construct a transform using the specified date format string that will be
@@ -250,11 +261,11 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 	 */
 	@Override /* PojoTransform */
 	public String transform(Calendar o) {
-		DateFormat df = format;
+		DateFormat df = formats.get();
 		TimeZone tz1 = o.getTimeZone();
-		TimeZone tz2 = format.getTimeZone();
+		TimeZone tz2 = df.getTimeZone();
 		if (timeZone == null && ! tz1.equals(tz2)) {
-			df = (DateFormat)format.clone();
+			df = (DateFormat)df.clone();
 			df.setTimeZone(tz1);
 		}
 		return df.format(o.getTime());
@@ -268,7 +279,7 @@ public class CalendarTransform extends PojoTransform<Calendar,String> {
 		try {
 			if (StringUtils.isEmpty(o))
 				return null;
-			return convert(format.parse(o), hint);
+			return convert(formats.get().parse(o), hint);
 		} catch (Exception e) {
 			throw new ParseException(e);
 		}
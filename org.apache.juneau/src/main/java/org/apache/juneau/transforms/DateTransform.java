@@ -15,8 +15,6 @@ package org.apache.juneau.transforms;
 import java.text.*;
 import java.util.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.ParseException;
@@ -24,6 +22,13 @@ import org.apache.juneau.transform.*;
 
 /**
  * Transforms {@link Date Dates} to {@link String Strings}.
+ * <p>
+ * 	Transforms are thread-safe and can be shared across threads.
+ * 	The ISO8601 transforms use a hand-written formatter, and all other transforms use a separate
+ * 	copy of the {@link DateFormat} on each thread.
+ * <p>
+ * 	Use {@link DateLongTransform} to transform dates to milliseconds since the epoch, or
+ * 	{@link #DateTransform(String)} to transform dates using a custom {@link SimpleDateFormat} pattern.
  *
  *
  * <h6 class='topic'>Behavior-specific subclasses</h6>
@@ -93,11 +98,11 @@ public class DateTransform extends PojoTransform<Date,String> {
 	 * </dl>
 	 */
 	public static class ISO8601DT extends DateTransform {
-		private SimpleDateFormat tzFormat = new SimpleDateFormat("Z");
+		private final boolean builtIn, millis;
 
 		/** Constructor */
 		public ISO8601DT() {
-			this("yyyy-MM-dd'T'HH:mm:ss");
+			this(ISO8601);
 		}
 
 		/**
@@ -107,6 +112,8 @@ public class DateTransform extends PojoTransform<Date,String> {
 		 */
 		protected ISO8601DT(String pattern) {
 			super(pattern);
+			millis = pattern.equals(ISO8601_MS);
+			builtIn = millis || pattern.equals(ISO8601);
 		}
 
 		@Override /* PojoTransform */
@@ -114,7 +121,7 @@ public class DateTransform extends PojoTransform<Date,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o).getTime(), hint);
+				return convert(DateUtils.parseISO8601Date(o), hint);
 			} catch (ParseException e) {
 				throw e;
 			} catch (Exception e) {
@@ -124,11 +131,10 @@ public class DateTransform extends PojoTransform<Date,String> {
 
 		@Override /* PojoTransform */
 		public String transform(Date o) {
-			String s = super.transform(o);
-			String tz = tzFormat.format(o);
-			if (tz.equals("+0000"))
-				return s + "Z";
-			return s + tz.substring(0,3) + ':' + tz.substring(3);
+			TimeZone tz = getTimeZone();
+			if (builtIn)
+				return DateUtils.appendISO8601(new StringBuilder(29), o.getTime(), tz, millis, true).toString();
+			return DateUtils.appendOffset(new StringBuilder(super.transform(o)), tz.getOffset(o.getTime())).toString();
 		}
 	}
 
@@ -141,7 +147,7 @@ public class DateTransform extends PojoTransform<Date,String> {
 
 		/** Constructor */
 		public ISO8601DTP() {
-			super("yyyy-MM-dd'T'HH:mm:ss.SSS");
+			super(ISO8601_MS);
 		}
 	}
 
@@ -154,7 +160,12 @@ public class DateTransform extends PojoTransform<Date,String> {
 
 		/** Constructor */
 		public ISO8601DTPNZ() {
-			super("yyyy-MM-dd'T'HH:mm:ss.SSS");
+			super(ISO8601_MS);
+		}
+
+		@Override /* PojoTransform */
+		public String transform(Date o) {
+			return DateUtils.appendISO8601(new StringBuilder(23), o.getTime(), getTimeZone(), true, false).toString();
 		}
 	}
 
@@ -164,10 +175,11 @@ public class DateTransform extends PojoTransform<Date,String> {
 	 * Example output:  <js>"2001-07-04T15:30:45Z"</js>
 	 */
 	public static class ISO8601DTZ extends DateTransform {
+		private final boolean builtIn;
 
 		/** Constructor */
 		public ISO8601DTZ() {
-			this("yyyy-MM-dd'T'HH:mm:ss'Z'");
+			this(ISO8601_GMT);
 		}
 
 		/**
@@ -177,6 +189,7 @@ public class DateTransform extends PojoTransform<Date,String> {
 		 */
 		protected ISO8601DTZ(String pattern) {
 			super(pattern, "GMT");
+			builtIn = pattern.equals(ISO8601_GMT);
 		}
 
 		@Override /* PojoTransform */
@@ -184,13 +197,20 @@ public class DateTransform extends PojoTransform<Date,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o).getTime(), hint);
+				return convert(DateUtils.parseISO8601Date(o), hint);
 			} catch (ParseException e) {
 				throw e;
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
 		}
+
+		@Override /* PojoTransform */
+		public String transform(Date o) {
+			if (builtIn)
+				return DateUtils.appendISO8601(new StringBuilder(20), o.getTime(), GMT, false, true).toString();
+			return super.transform(o);
+		}
 	}
 
 	/**
@@ -202,7 +222,7 @@ public class DateTransform extends PojoTransform<Date,String> {
 
 		/** Constructor */
 		public ISO8601DTZP() {
-			super("yyyy-MM-dd'T'HH:mm:ss.SSS");
+			super(ISO8601_MS);
 		}
 	}
 
@@ -288,8 +308,23 @@ public class DateTransform extends PojoTransform<Date,String> {
 		}
 	}
 
+	private static final String
+		ISO8601 = "yyyy-MM-dd'T'HH:mm:ss",
+		ISO8601_MS = "yyyy-MM-dd'T'HH:mm:ss.SSS",
+		ISO8601_GMT = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
 	/** The formatter to convert dates to Strings. */
-	private DateFormat format;
+	private final DateFormat format;
+
+	// DateFormats aren't thread-safe, so each thread uses its own copy of the format.
+	private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+		@Override /* ThreadLocal */
+		protected DateFormat initialValue() {
+			return (DateFormat)format.clone();
+		}
+	};
 
 	/**
 	 * Construct a transform using the specified date format string that will be
@@ -331,7 +366,7 @@ public class DateTransform extends PojoTransform<Date,String> {
 	 */
 	@Override /* PojoTransform */
 	public String transform(Date o) {
-		return format.format(o);
+		return formats.get().format(o);
 	}
 
 	/**
@@ -342,7 +377,7 @@ public class DateTransform extends PojoTransform<Date,String> {
 		try {
 			if (StringUtils.isEmpty(o))
 				return null;
-			Date d = format.parse(o);
+			Date d = formats.get().parse(o);
 			return convert(d, hint);
 		} catch (ParseException e) {
 			throw e;
@@ -351,6 +386,15 @@ public class DateTransform extends PojoTransform<Date,String> {
 		}
 	}
 
+	/**
+	 * Returns the time zone of the date format of this transform.
+	 *
+	 * @return The time zone of the date format of this transform.
+	 */
+	protected TimeZone getTimeZone() {
+		return format.getTimeZone();
+	}
+
 	private static Date convert(Date in, ClassMeta<?> hint) throws Exception {
 		if (in == null)
 			return null;
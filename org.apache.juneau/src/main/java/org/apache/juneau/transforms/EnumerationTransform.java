@@ -20,6 +20,9 @@ import org.apache.juneau.transform.*;
  * Transforms {@link Enumeration Enumerations} to {@code List<Object>} objects.
  * <p>
  * 	This is a one-way transform, since {@code Enumerations} cannot be reconstituted.
+ * <p>
+ * 	Note that serializers handle {@code Enumerations} natively by streaming their entries directly to the output.
+ * 	This transform is only needed if the entries must be collected into a list before serialization.
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
@@ -516,7 +516,7 @@ public class UonParser extends ReaderParser {
 					if (c == AMP || c == EQ || c == -1) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, session.getSymbolTable());
 						return (s.equals("\u0000") ? null : s);
 					}
 				}
@@ -533,7 +533,7 @@ public class UonParser extends ReaderParser {
 					if (c == '=' || c == -1) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, session.getSymbolTable());
 						return (s.equals("\u0000") ? null : session.trim(s));
 					}
 				}
@@ -117,6 +117,12 @@ public class UonParserSession extends ParserSession {
 		return reader;
 	}
 
+	@Override /* ParserSession */
+	protected void reset(Object input) {
+		super.reset(input);
+		reader = null;
+	}
+
 	@Override /* ParserSession */
 	public Map<String,Object> getLastLocation() {
 		Map<String,Object> m = super.getLastLocation();
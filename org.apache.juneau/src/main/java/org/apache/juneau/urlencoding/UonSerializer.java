@@ -311,6 +311,8 @@ public class UonSerializer extends WriterSerializer {
 			else
 				serializeCollection(session, out, toList(gType.getInnerClass(), o), eType);
 		}
+		else if (gType.isIterator())
+			serializeIterator(session, out, session.toIterator(o), eType, true);
 		else {
 			out.appendObject(o, quoteEmptyStrings, false, isTop);
 		}
@@ -421,23 +423,35 @@ public class UonSerializer extends WriterSerializer {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeCollection(UonSerializerSession session, UonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
-
 		c = session.sort(c);
+		return serializeIterator(session, out, c.iterator(), type, false);
+	}
+
+	@SuppressWarnings({ "rawtypes" })
+	private SerializerWriter serializeIterator(UonSerializerSession session, UonWriter out, Iterator i, ClassMeta<?> type, boolean isStreamed) throws Exception {
+
+		ClassMeta<?> elementType = type.getElementType();
 
 		out.startFlag('a');
 
 		int depth = session.getIndent();
-		boolean quoteEmptyString = (c.size() == 1 || session.isUseWhitespace());
+		int count = 0;
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		while (i.hasNext()) {
+			Object value = i.next();
+			boolean hasNext = i.hasNext();
+			// Empty strings must be quoted when they're the only entry so they're not confused with an empty array.
+			boolean quoteEmptyString = ((count == 0 && ! hasNext) || session.isUseWhitespace());
 			out.cr(depth);
-			serializeAnything(session, out, i.next(), elementType, "<iterator>", null, quoteEmptyString, false);
-			if (i.hasNext())
+			serializeAnything(session, out, value, elementType, "<iterator>", null, quoteEmptyString, false);
+			if (hasNext)
 				out.append(',');
+			count++;
+			if (isStreamed)
+				session.flushStreamed(out, count);
 		}
 
-		if (c.size() > 0)
+		if (count > 0)
 			out.cr(depth-1);
 		out.append(')');
 
@@ -262,6 +262,8 @@ public class UrlEncodingSerializer extends UonSerializer {
 			serializeBeanMap(session, out, bc.forBean(o), addClassAttr);
 		} else if (gType.isCollection()) {
 			serializeMap(session, out, getCollectionMap((Collection)o), bc.getMapClassMeta(Map.class, Integer.class, gType.getElementType()));
+		} else if (gType.isIterator()) {
+			serializeMap(session, out, getCollectionMap(toList(session.toIterator(o))), bc.getMapClassMeta(Map.class, Integer.class, Object.class));
 		} else {
 			// All other types can't be serialized as key/value pairs, so we create a
 			// mock key/value pair with a "_value" key.
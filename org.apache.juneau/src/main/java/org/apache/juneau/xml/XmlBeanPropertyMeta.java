@@ -29,6 +29,7 @@ public class XmlBeanPropertyMeta<T> {
 	private XmlFormat xmlFormat = XmlFormat.NORMAL;
 	private XmlContentHandler<T> xmlContentHandler = null;
 	private String childName;
+	private final String encodedName;
 	private final BeanPropertyMeta<T> beanPropertyMeta;
 
 	/**
@@ -51,6 +52,8 @@ public class XmlBeanPropertyMeta<T> {
 
 		if (beanPropertyMeta.isBeanUri() && xmlFormat != XmlFormat.ELEMENT)
 			xmlFormat = XmlFormat.ATTR;
+
+		encodedName = XmlUtils.encodeElementName(beanPropertyMeta.getName());
 	}
 
 	/**
@@ -103,6 +106,17 @@ public class XmlBeanPropertyMeta<T> {
 		return childName;
 	}
 
+	/**
+	 * Returns the name of this bean property encoded as an XML element name.
+	 * <p>
+	 * 	Computed once so that the serializer doesn't need to encode the name every time the property is serialized.
+	 *
+	 * @return The encoded element name.  Never <jk>null</jk>.
+	 */
+	protected String getEncodedName() {
+		return encodedName;
+	}
+
 	/**
 	 * Returns the bean property metadata that this metadata belongs to.
 	 *
@@ -139,6 +139,12 @@ public final class XmlParserSession extends ParserSession {
 		return xmlStreamReader;
 	}
 
+	@Override /* ParserSession */
+	protected void reset(Object input) {
+		super.reset(input);
+		xmlStreamReader = null;
+	}
+
 	/**
 	 * Decodes and trims the specified string.
 	 *
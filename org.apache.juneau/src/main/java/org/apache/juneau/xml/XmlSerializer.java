@@ -365,7 +365,7 @@ public class XmlSerializer extends WriterSerializer {
 			isCollapsed = gType.getXmlMeta().getFormat() == XmlFormat.COLLAPSED;
 			ts = "object";
 		}
-		else if (gType.isCollection() || gType.isArray()) {
+		else if (gType.isCollection() || gType.isArray() || gType.isIterator()) {
 			isCollapsed = (format == COLLAPSED && ! addNamespaceUris);
 			ts = "array";
 		}
@@ -400,10 +400,16 @@ public class XmlSerializer extends WriterSerializer {
 		}
 
 		// Do we need a carriage return after the start tag?
-		boolean cr = o != null && (gType.isMap() || gType.isCollection() || gType.isArray() || gType.isBean() || gType.hasToObjectMapMethod());
+		boolean cr = o != null && (gType.isMap() || gType.isCollection() || gType.isArray() || gType.isIterator() || gType.isBean() || gType.hasToObjectMapMethod());
 
 		String en = (elementName == null ? ts : elementName);
 		boolean encodeEn = elementName != null;
+
+		// Bean property names are encoded once in the property metadata.
+		if (pMeta != null && elementName != null && elementName.equals(pMeta.getName())) {
+			en = pMeta.getXmlMeta().getEncodedName();
+			encodeEn = false;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String xsi = null, dns = null, elementNs = null;
 		if (session.isEnableNamespaces()) {
@@ -479,6 +485,13 @@ public class XmlSerializer extends WriterSerializer {
 				if (isCollapsed)
 					session.indent++;
 			}
+			else if (gType.isIterator()) {
+				if (isCollapsed)
+					session.indent--;
+				serializeIterator(session, out, session.toIterator(o), gType, pMeta, true);
+				if (isCollapsed)
+					session.indent++;
+			}
 			else
 				out.encodeText(session.toString(o));
 		}
@@ -604,8 +617,15 @@ public class XmlSerializer extends WriterSerializer {
 	private XmlWriter serializeCollection(XmlSerializerSession session, XmlWriter out, Collection c, ClassMeta<?> type, BeanPropertyMeta<?> ppMeta) throws Exception {
 
 		c = session.sort(c);
+		return serializeIterator(session, out, c.iterator(), type, ppMeta, false);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private XmlWriter serializeIterator(XmlSerializerSession session, XmlWriter out, Iterator i, ClassMeta<?> type, BeanPropertyMeta<?> ppMeta, boolean isStreamed) throws Exception {
 
 		ClassMeta<?> elementType = type.getElementType();
+		if (elementType == null)
+			elementType = object();
 
 		String eName = null;
 		Namespace eNs = null;
@@ -625,9 +645,12 @@ public class XmlSerializer extends WriterSerializer {
 			eNs = elementType.getXmlMeta().getNamespace();
 		}
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		int count = 0;
+		while (i.hasNext()) {
 			Object value = i.next();
 			serializeAnything(session, out, value, elementType, eName, eNs, false, NORMAL, null);
+			if (isStreamed)
+				session.flushStreamed(out, ++count);
 		}
 		return out;
 	}
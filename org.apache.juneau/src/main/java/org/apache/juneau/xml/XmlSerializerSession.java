@@ -47,6 +47,10 @@ public class XmlSerializerSession extends SerializerSession {
 
 	private Namespace[] namespaces = new Namespace[0];
 
+	// The namespaces at the end of the constructor, restored by reset().
+	private final Namespace initialDefaultNamespace;
+	private final Namespace[] initialNamespaces;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -81,6 +85,8 @@ public class XmlSerializerSession extends SerializerSession {
 			xsiNamespace = (op.containsKey(XML_xsiNamespace) ? parseNamespace(op.get(XML_xsiNamespace)) : ctx.xsiNamespace);
 			xsNamespace = (op.containsKey(XML_xsNamespace) ? parseNamespace(op.get(XML_xsNamespace)) : ctx.xsNamespace);
 		}
+		initialDefaultNamespace = defaultNamespace;
+		initialNamespaces = namespaces;
 	}
 
 	private Namespace findDefaultNamespace(String s) {
@@ -205,4 +211,11 @@ public class XmlSerializerSession extends SerializerSession {
 			return (XmlWriter)output;
 		return new XmlWriter(super.getWriter(), isUseIndentation(), isTrimStrings(), getQuoteChar(), getRelativeUriBase(), getAbsolutePathUriBase(), isEnableNamespaces(), getDefaultNamespace());
 	}
+
+	@Override /* SerializerSession */
+	protected void reset(Object output) {
+		super.reset(output);
+		defaultNamespace = initialDefaultNamespace;
+		namespaces = initialNamespaces;
+	}
 }
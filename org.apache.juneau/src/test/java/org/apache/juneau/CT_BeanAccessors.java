@@ -0,0 +1,206 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau;
+
+import static org.apache.juneau.BeanContext.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+@SuppressWarnings({"unchecked","rawtypes"})
+public class CT_BeanAccessors {
+
+	BeanContext bc = ContextFactory.create().setProperty(BEAN_useGeneratedAccessors, true).getBeanContext();
+
+	//====================================================================================================
+	// Getters, setters, and fields of all primitive and object types.
+	//====================================================================================================
+	@Test
+	public void testGettersSettersAndFields() throws Exception {
+		BeanMeta<A> bm = bc.getBeanMeta(A.class);
+		assertNotNull(bm.accessor);
+		assertTrue(bm.accessor.canInstantiate());
+
+		BeanMap<A> m = bc.newBeanMap(A.class);
+		m.put("i1", 1);
+		m.put("l1", 2);
+		m.put("d1", 3);
+		m.put("b1", true);
+		m.put("c1", 'x');
+		m.put("s1", "foo");
+		m.put("f1", 4);
+		m.put("f2", "bar");
+		m.put("list", new ObjectList("[1,2,3]"));
+		m.put("array", new ObjectList("['a','b']"));
+
+		A a = m.getBean();
+		assertEquals(1, a.getI1());
+		assertEquals(2l, a.getL1());
+		assertEquals(3d, a.getD1(), 0.1);
+		assertTrue(a.isB1());
+		assertEquals('x', a.getC1());
+		assertEquals("foo", a.getS1());
+		assertEquals(4, a.f1);
+		assertEquals("bar", a.f2);
+		assertEquals("[1,2,3]", a.getList().toString());
+		assertEquals("a", a.getArray()[0]);
+
+		JsonSerializer s = new JsonSerializer.Simple().setProperty(BEAN_useGeneratedAccessors, true).setProperty(BEAN_sortProperties, true);
+		assertEquals("{array:['a','b'],b1:true,c1:'x',d1:3.0,f1:4,f2:'bar',i1:1,l1:2,list:[1,2,3],s1:'foo'}", s.serialize(a));
+
+		// Setting primitives to null gives default values, same as reflection.
+		m.put("i1", null);
+		assertEquals(0, a.getI1());
+	}
+
+	public static class A {
+		public int f1;
+		public String f2;
+		private int i1;
+		private long l1;
+		private double d1;
+		private boolean b1;
+		private char c1;
+		private String s1;
+		private List<Integer> list;
+		private String[] array;
+
+		public int getI1() { return i1; }
+		public void setI1(int i1) { this.i1 = i1; }
+		public long getL1() { return l1; }
+		public void setL1(long l1) { this.l1 = l1; }
+		public double getD1() { return d1; }
+		public A setD1(double d1) { this.d1 = d1; return this; }
+		public boolean isB1() { return b1; }
+		public void setB1(boolean b1) { this.b1 = b1; }
+		public char getC1() { return c1; }
+		public void setC1(char c1) { this.c1 = c1; }
+		public String getS1() { return s1; }
+		public void setS1(String s1) { this.s1 = s1; }
+		public List<Integer> getList() { return list; }
+		public void setList(List<Integer> list) { this.list = list; }
+		public String[] getArray() { return array; }
+		public void setArray(String[] array) { this.array = array; }
+	}
+
+	//====================================================================================================
+	// Exceptions thrown by getters and setters are wrapped the same as with reflection.
+	//====================================================================================================
+	@Test
+	public void testExceptions() throws Exception {
+		BeanMap<B> m = bc.newBeanMap(B.class);
+		try {
+			m.get("f1");
+			fail("Exception expected");
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getLocalizedMessage().endsWith("Exception occurred while getting property 'f1'"));
+			assertEquals("getter", e.getCause().getCause().getMessage());
+		}
+		try {
+			m.put("f1", "x");
+			fail("Exception expected");
+		} catch (BeanRuntimeException e) {
+			assertEquals("setter", e.getCause().getCause().getMessage());
+		}
+
+		BeanContext bc2 = ContextFactory.create().setProperty(BEAN_useGeneratedAccessors, true).setProperty(BEAN_ignoreInvocationExceptionsOnGetters, true).getBeanContext();
+		assertNull(bc2.newBeanMap(B.class).get("f1"));
+	}
+
+	public static class B {
+		public String getF1() { throw new RuntimeException("getter"); }
+		public void setF1(String f1) { throw new RuntimeException("setter"); }
+	}
+
+	//====================================================================================================
+	// @BeanConstructor beans.
+	//====================================================================================================
+	@Test
+	public void testBeanConstructor() throws Exception {
+		BeanMap<C> m = bc.newBeanMap(C.class);
+		m.put("f1", 1);
+		m.put("f2", "foo");
+		C c = m.getBean();
+		assertEquals(1, c.getF1());
+		assertEquals("foo", c.getF2());
+		assertTrue(bc.getBeanMeta(C.class).accessor.canInstantiate());
+	}
+
+	public static class C {
+		private final int f1;
+		private final String f2;
+
+		@BeanConstructor(properties={"f1","f2"})
+		public C(int f1, String f2) {
+			this.f1 = f1;
+			this.f2 = f2;
+		}
+
+		public int getF1() { return f1; }
+		public String getF2() { return f2; }
+	}
+
+	//====================================================================================================
+	// Non-public members fall back to reflection.
+	//====================================================================================================
+	@Test
+	public void testReflectionFallback() throws Exception {
+		ContextFactory cf = ContextFactory.create()
+			.setProperty(BEAN_useGeneratedAccessors, true)
+			.setProperty(BEAN_beanClassVisibility, Visibility.DEFAULT)
+			.setProperty(BEAN_beanFieldVisibility, Visibility.DEFAULT)
+			.setProperty(BEAN_methodVisibility, Visibility.DEFAULT)
+			.setProperty(BEAN_beanConstructorVisibility, Visibility.DEFAULT);
+		BeanContext bc2 = cf.getBeanContext();
+
+		// Non-public class.
+		assertNull(bc2.getBeanMeta(D1.class).accessor);
+		BeanMap<D1> m1 = bc2.newBeanMap(D1.class);
+		m1.put("f1", 1);
+		assertEquals(1, m1.get("f1"));
+
+		// Public class with non-public members.
+		BeanMeta<D2> bm = bc2.getBeanMeta(D2.class);
+		assertNotNull(bm.accessor);
+		BeanMap<D2> m2 = bc2.newBeanMap(D2.class);
+		m2.put("f1", 1);
+		m2.put("f2", 2);
+		assertEquals("{f1:1,f2:2}", JsonSerializer.DEFAULT_LAX.toString(m2));
+	}
+
+	static class D1 {
+		public int f1;
+		public D1() {}
+	}
+
+	public static class D2 {
+		public int f1;
+		protected int f2;
+	}
+
+	//====================================================================================================
+	// Beans with the same settings share generated accessors through the ClassMeta cache.
+	//====================================================================================================
+	@Test
+	public void testSettingIsPartOfCacheKey() throws Exception {
+		assertNull(BeanContext.DEFAULT.getBeanMeta(A.class).accessor);
+		assertFalse(BeanContext.DEFAULT.hasSameCache(bc));
+		Map m = new HashMap();
+		m.put("f1", 1);
+		assertEquals(1, bc.convertToType(m, A.class).f1);
+	}
+}
@@ -15,6 +15,7 @@ package org.apache.juneau;
 import static org.junit.Assert.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.transform.*;
 import org.junit.*;
@@ -41,6 +42,95 @@ public class CT_ClassMeta {
 		assertEquals(String.class, t.getValueType().getInnerClass());
 	}
 
+	//====================================================================================================
+	// Array and parameterized types are interned.
+	//====================================================================================================
+	public Map<String,List<Integer>> fa2;
+	public Map<String,List<Integer>> fa3;
+
+	@Test
+	public void testInterning() throws Exception {
+		BeanContext bc = ContextFactory.create().setProperty(BeanContext.BEAN_classMetaCacheSize, 100).getBeanContext();
+		ClassMeta t1 = bc.getClassMeta(this.getClass().getField("fa2").getGenericType());
+		ClassMeta t2 = bc.getClassMeta(this.getClass().getField("fa3").getGenericType());
+		assertSame(t1, t2);
+		assertSame(t1.getValueType(), bc.getCollectionClassMeta(List.class, Integer.class));
+		assertSame(t1, bc.getMapClassMeta(Map.class, bc.getClassMeta(String.class), t1.getValueType()));
+		assertNotSame(t1, bc.getMapClassMeta(HashMap.class, bc.getClassMeta(String.class), t1.getValueType()));
+		assertSame(bc.getClassMeta(String[].class), bc.getClassMeta(String[].class));
+		assertSame(bc.getClassMeta(String[][].class).getElementType(), bc.getClassMeta(String[].class));
+		assertTrue(bc.getClassMetaCache().getHits() > 0);
+
+		// Shared by contexts with the same settings.
+		BeanContext bc2 = ContextFactory.create().setProperty(BeanContext.BEAN_classMetaCacheSize, 100).getBeanContext();
+		assertSame(bc.getClassMetaCache(), bc2.getClassMetaCache());
+		assertSame(t1, bc2.getClassMeta(this.getClass().getField("fa2").getGenericType()));
+
+		// Cache disabled.
+		bc = ContextFactory.create().setProperty(BeanContext.BEAN_classMetaCacheSize, 0).getBeanContext();
+		assertNotSame(bc.getClassMeta(String[].class), bc.getClassMeta(String[].class));
+		assertEquals(0, bc.getClassMetaCache().size());
+
+		// Bounded.
+		bc = ContextFactory.create().setProperty(BeanContext.BEAN_classMetaCacheSize, 2).getBeanContext();
+		bc.getClassMeta(String[].class);
+		bc.getClassMeta(Integer[].class);
+		bc.getClassMeta(Long[].class);
+		assertEquals(2, bc.getClassMetaCache().size());
+	}
+
+	//====================================================================================================
+	// Concurrent creation of ClassMetas with reference loops.
+	//====================================================================================================
+	@Test
+	public void testConcurrentCreation() throws Exception {
+		for (int round = 0; round < 20; round++) {
+			final BeanContext bc = ContextFactory.create().setProperty(BeanContext.BEAN_classMetaCacheSize, 5000 + round).getBeanContext();
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+			List<Thread> threads = new ArrayList<Thread>();
+			for (int i = 0; i < 8; i++) {
+				final Class<?> c = (i % 2 == 0 ? LoopA.class : LoopB.class);
+				Thread t = new Thread() {
+					@Override /* Thread */
+					public void run() {
+						try {
+							start.await();
+							bc.getClassMeta(c);
+						} catch (Throwable e) {
+							errors.add(e);
+						}
+					}
+				};
+				t.start();
+				threads.add(t);
+			}
+			start.countDown();
+			for (Thread t : threads)
+				t.join(10000);
+			for (Thread t : threads)
+				assertFalse("Deadlock", t.isAlive());
+			assertTrue(errors.toString(), errors.isEmpty());
+
+			ClassMeta a = bc.getClassMeta(LoopA.class), b = bc.getClassMeta(LoopB.class);
+			assertTrue(a.isBean());
+			assertTrue(b.isBean());
+			assertSame(b, a.getBeanMeta().getPropertyMeta("b").getClassMeta());
+			assertSame(a, b.getBeanMeta().getPropertyMeta("a").getClassMeta());
+			assertSame(a, a.getBeanMeta().getPropertyMeta("a").getClassMeta());
+		}
+	}
+
+	public static class LoopA {
+		public LoopA a;
+		public LoopB b;
+	}
+
+	public static class LoopB {
+		public LoopA a;
+		public LoopB b;
+	}
+
 	//====================================================================================================
 	// String field
 	//====================================================================================================
@@ -16,6 +16,7 @@ import static org.junit.Assert.*;
 
 import java.util.*;
 
+import org.apache.juneau.transform.*;
 import org.apache.juneau.transforms.*;
 import org.junit.*;
 
@@ -142,4 +143,100 @@ public class CT_DataConversionTest {
 		s = bc.convertToType(c, String.class);
 		assertEquals("Jan 12, 2001", s);
 	}
+
+	//====================================================================================================
+	// Repeated conversions use cached converters and give the same results.
+	//====================================================================================================
+	@Test
+	public void testCachedConverters() throws Exception {
+		BeanContext bc = ContextFactory.create().getBeanContext();
+		for (int i = 0; i < 2; i++) {
+			assertEquals(Integer.valueOf(123), bc.convertToType("123", Integer.class));
+			assertEquals(Integer.valueOf(123), bc.convertToType("123", int.class));
+			assertEquals(Integer.valueOf(1), bc.convertToType(true, int.class));
+			assertEquals(Integer.valueOf(0), bc.convertToType("", int.class));
+			assertNull(bc.convertToType("", Integer.class));
+			assertEquals(Long.valueOf(123), bc.convertToType(123, long.class));
+			assertEquals(Double.valueOf(1.5), bc.convertToType(1.5f, Double.class));
+			assertEquals(Byte.valueOf((byte)1), bc.convertToType(257, Byte.class));
+			assertEquals(Boolean.TRUE, bc.convertToType(2, boolean.class));
+			assertEquals(Boolean.FALSE, bc.convertToType("", boolean.class));
+			assertEquals(Boolean.TRUE, bc.convertToType("true", Boolean.class));
+			assertEquals("123", bc.convertToType(123, String.class));
+			assertEquals("[1,2]", bc.convertToType(new int[]{1,2}, String.class));
+			assertEquals("{a:1}", bc.convertToType(new ObjectMap("{a:1}"), String.class));
+			assertEquals("[1,2]", bc.convertToType(new ObjectList("[1,2]"), List.class).toString());
+			try {
+				bc.convertToType("foo", Integer.class);
+				fail("Exception expected");
+			} catch (InvalidDataConversionException e) {}
+		}
+	}
+
+	//====================================================================================================
+	// User-defined converters.
+	//====================================================================================================
+	@Test
+	public void testPojoConverters() throws Exception {
+		BeanContext bc = ContextFactory.create().addConverters(PointConverter.class, BadConverter.class, BracketConverter.class).getBeanContext();
+		for (int i = 0; i < 2; i++) {
+			Point p = bc.convertToType("1,2", Point.class);
+			assertEquals(1, p.x);
+			assertEquals(2, p.y);
+
+			// Subclasses of the source class also use the converter.
+			p = bc.convertToType(new StringBuilder("3,4"), Point.class);
+			assertEquals(3, p.x);
+
+			// Converters take precedence over built-in conversions.
+			assertEquals(Integer.valueOf(-1), bc.convertToType("xyz", Integer.class));
+
+			// Converters to wrapper classes are also used for primitive types.
+			assertEquals(Integer.valueOf(-1), bc.convertToType("5", int.class));
+
+			// Converters take precedence over identity conversions.
+			assertEquals("[foo]", bc.convertToType("foo", CharSequence.class).toString());
+
+			// Exceptions are wrapped.
+			try {
+				bc.convertToType("1", Point.class);
+				fail("Exception expected");
+			} catch (InvalidDataConversionException e) {
+				assertTrue(e.getCause() instanceof ArrayIndexOutOfBoundsException);
+			}
+		}
+
+		// Converters are only used by the contexts they're registered on, even with class metas from other contexts.
+		assertEquals(Integer.valueOf(-1), bc.convertToType("5", BeanContext.DEFAULT.getClassMeta(Integer.class)));
+		assertEquals(Integer.valueOf(5), BeanContext.DEFAULT.convertToType("5", Integer.class));
+	}
+
+	public static class Point {
+		public int x, y;
+	}
+
+	public static class PointConverter extends PojoConverter<CharSequence,Point> {
+		@Override /* PojoConverter */
+		public Point convert(CharSequence value, ClassMeta<?> type, BeanContext beanContext) {
+			String[] s = value.toString().split(",");
+			Point p = new Point();
+			p.x = Integer.parseInt(s[0]);
+			p.y = Integer.parseInt(s[1]);
+			return p;
+		}
+	}
+
+	public static class BracketConverter extends PojoConverter<String,CharSequence> {
+		@Override /* PojoConverter */
+		public CharSequence convert(String value, ClassMeta<?> type, BeanContext beanContext) {
+			return new StringBuilder("[").append(value).append(']');
+		}
+	}
+
+	public static class BadConverter extends PojoConverter<String,Integer> {
+		@Override /* PojoConverter */
+		public Integer convert(String value, ClassMeta<?> type, BeanContext beanContext) {
+			return -1;
+		}
+	}
 }
@@ -0,0 +1,135 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau;
+
+import static org.apache.juneau.serializer.SerializerContext.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+public class CT_IteratorSerialization {
+
+	//====================================================================================================
+	// Iterators and enumerations are serialized the same as the equivalent lists.
+	//====================================================================================================
+	@Test
+	public void testSameAsLists() throws Exception {
+		List<Object> l1 = new ArrayList<Object>(Arrays.asList("a", 1, null, new A(), Arrays.asList("b")));
+		List<Object> l2 = Arrays.asList((Object)"");
+		List<Object> l3 = Collections.emptyList();
+
+		Serializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_LAX_READABLE,
+			UonSerializer.DEFAULT,
+			UonSerializer.DEFAULT_READABLE,
+			UrlEncodingSerializer.DEFAULT,
+			XmlSerializer.DEFAULT_SQ,
+			XmlSerializer.DEFAULT_SQ_READABLE,
+			HtmlSerializer.DEFAULT,
+			MsgPackSerializer.DEFAULT,
+		};
+
+		for (Serializer s : serializers) {
+			for (List<Object> l : Arrays.asList(l1, l2, l3)) {
+				String expected = serialize(s, l);
+				assertEquals(s.getClass().getSimpleName(), expected, serialize(s, l.iterator()));
+				assertEquals(s.getClass().getSimpleName(), expected, serialize(s, new Vector<Object>(l).elements()));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Iterators on bean properties.
+	//====================================================================================================
+	@Test
+	public void testBeanProperty() throws Exception {
+		B b = new B();
+		b.f1 = Arrays.asList(1, 2).iterator();
+		assertEquals("{f1:[1,2]}", JsonSerializer.DEFAULT_LAX.serialize(b));
+	}
+
+	//====================================================================================================
+	// Entries are read lazily and output is flushed periodically.
+	//====================================================================================================
+	@Test
+	public void testFlushing() throws Exception {
+		final FlushCountingWriter w = new FlushCountingWriter();
+		final List<String> writtenBeforeNext = new ArrayList<String>();
+		Iterator<Integer> i = new Iterator<Integer>() {
+			int n = 0;
+			@Override
+			public boolean hasNext() {
+				return n < 4;
+			}
+			@Override
+			public Integer next() {
+				writtenBeforeNext.add(w.toString());
+				return n++;
+			}
+			@Override
+			public void remove() {}
+		};
+
+		JsonSerializer s = new JsonSerializer.Simple().setProperty(SERIALIZER_streamFlushInterval, 2);
+		s.serialize(i, w);
+		assertEquals("[0,1,2,3]", w.toString());
+		assertEquals("[[, [0,, [0,1,, [0,1,2,]", writtenBeforeNext.toString());
+		assertEquals(2, w.flushes);
+
+		w.flushes = 0;
+		s = new JsonSerializer.Simple().setProperty(SERIALIZER_streamFlushInterval, 0);
+		s.serialize(Arrays.asList(1, 2, 3).iterator(), w);
+		assertEquals(0, w.flushes);
+	}
+
+	//====================================================================================================
+	// Sorting reads the entries first.
+	//====================================================================================================
+	@Test
+	public void testSorted() throws Exception {
+		JsonSerializer s = new JsonSerializer.Simple().setProperty(SERIALIZER_sortCollections, true);
+		assertEquals("['a','b','c']", s.serialize(Arrays.asList("c", "a", "b").iterator()));
+	}
+
+	private static String serialize(Serializer s, Object o) throws Exception {
+		if (s.isWriterSerializer())
+			return ((WriterSerializer)s).serialize(o);
+		return Arrays.toString((byte[])s.serialize(o));
+	}
+
+	public static class A {
+		public String f1 = "x";
+	}
+
+	public static class B {
+		public Iterator<Integer> f1;
+	}
+
+	static class FlushCountingWriter extends StringWriter {
+		int flushes;
+		@Override /* Writer */
+		public void flush() {
+			flushes++;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau;
+
+import static org.apache.juneau.parser.ParserContext.*;
+import static org.apache.juneau.serializer.SerializerContext.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.xml1c.*;
+import org.junit.*;
+
+public class CT_SessionReuse {
+
+	//====================================================================================================
+	// Reused sessions produce the same output as new sessions.
+	//====================================================================================================
+	@Test
+	public void testSerializers() throws Exception {
+		Object[] inputs = {
+			new A(),
+			new T8(),
+			Arrays.asList(new A(), new A()),
+			"foo",
+			null,
+			new A(),
+		};
+
+		Serializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_LAX_READABLE,
+			UonSerializer.DEFAULT,
+			UrlEncodingSerializer.DEFAULT,
+			XmlSerializer.DEFAULT_SQ,
+			XmlSerializer.DEFAULT_SQ_READABLE,
+			HtmlSerializer.DEFAULT,
+			MsgPackSerializer.DEFAULT,
+		};
+
+		for (Serializer s : serializers) {
+			Serializer s2 = s.clone().setProperty(SERIALIZER_reuseSessions, true).lock();
+			for (Object o : inputs)
+				assertEquals(s.getClass().getSimpleName(), serialize(s, o), serialize(s2, o));
+		}
+	}
+
+	//====================================================================================================
+	// Reused sessions produce the same results as new sessions.
+	//====================================================================================================
+	@Test
+	public void testParsers() throws Exception {
+		Object[][] pairs = {
+			{JsonSerializer.DEFAULT, JsonParser.DEFAULT},
+			{UonSerializer.DEFAULT, UonParser.DEFAULT},
+			{UrlEncodingSerializer.DEFAULT, UrlEncodingParser.DEFAULT},
+			{XmlSerializer.DEFAULT_SQ, XmlParser.DEFAULT},
+			{HtmlSerializer.DEFAULT, HtmlParser.DEFAULT},
+			{MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT},
+		};
+
+		for (Object[] pair : pairs) {
+			Serializer s = (Serializer)pair[0];
+			Parser p = ((Parser)pair[1]).clone().setProperty(PARSER_reuseSessions, true).lock();
+			Object in = s.serialize(new A());
+			for (int i = 0; i < 3; i++) {
+				A a = p.parse(in, A.class);
+				assertEquals(p.getClass().getSimpleName(), "x", a.f1);
+				assertEquals(p.getClass().getSimpleName(), 2, a.f2.size());
+			}
+		}
+	}
+
+	//====================================================================================================
+	// A failed parse doesn't leave the reused session in a bad state.
+	//====================================================================================================
+	@Test
+	public void testParseErrors() throws Exception {
+		JsonParser p = JsonParser.DEFAULT.clone().setProperty(PARSER_reuseSessions, true).lock();
+		try {
+			p.parse("{f1:'x',f2:[", A.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			// Expected.
+		}
+		assertEquals("y", p.parse("{f1:'y'}", A.class).f1);
+		assertEquals(3, p.parseIntoCollection("[1,2,3]", new ArrayList<Integer>(), Integer.class).size());
+	}
+
+	//====================================================================================================
+	// Sessions are reused by the same thread, but not by nested calls.
+	//====================================================================================================
+	@Test
+	public void testSessionIdentity() throws Exception {
+		TestSerializer s = new TestSerializer();
+		s.setProperty(SERIALIZER_reuseSessions, true).lock();
+		s.serialize("foo");
+		SerializerSession session = s.last;
+		s.serialize("bar");
+		assertSame(session, s.last);
+
+		TestSerializer s2 = new TestSerializer();
+		s2.lock();
+		s2.serialize("foo");
+		session = s2.last;
+		s2.serialize("bar");
+		assertNotSame(session, s2.last);
+
+		B.serializer = s;
+		assertEquals("{f1:'[1,2]'}", s.serialize(new B()));
+		assertEquals("{f1:'[1,2]'}", s.serialize(new B()));
+	}
+
+	//====================================================================================================
+	// Sessions returned to the cache stay closed until they're reused.
+	//====================================================================================================
+	@Test
+	public void testCachedSessionsStayClosed() throws Exception {
+		TestSerializer s = new TestSerializer();
+		s.setProperty(SERIALIZER_reuseSessions, true).lock();
+		s.serialize("foo");
+		try {
+			s.last.close();
+			fail("Exception expected");
+		} catch (SerializeException e) {
+			assertEquals("Attempt to close SerializerSession more than once.", e.getLocalizedMessage());
+		}
+
+		TestParser p = new TestParser();
+		p.setProperty(PARSER_reuseSessions, true).lock();
+		p.parse("foo", String.class);
+		try {
+			p.last.close();
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertEquals("Attempt to close ParserSession more than once.", e.getLocalizedMessage());
+		}
+		assertEquals("bar", p.parse("bar", String.class));
+	}
+
+	private static Object serialize(Serializer s, Object o) throws Exception {
+		if (s.isWriterSerializer())
+			return ((WriterSerializer)s).serialize(o);
+		return Arrays.toString((byte[])s.serialize(o));
+	}
+
+	public static class A {
+		public String f1 = "x";
+		public List<Integer> f2 = new ArrayList<Integer>(Arrays.asList(1, 2));
+	}
+
+	public static class B {
+		static WriterSerializer serializer;
+		public String getF1() throws SerializeException {
+			// Nested call on the same thread while the outer session is in use.
+			return serializer.serialize(Arrays.asList(1, 2));
+		}
+	}
+
+	static class TestSerializer extends JsonSerializer.Simple {
+		SerializerSession last;
+		@Override /* Serializer */
+		protected SerializerSession createSession(Object output) {
+			last = super.createSession(output);
+			return last;
+		}
+	}
+
+	static class TestParser extends UonParser {
+		UonParserSession last;
+		@Override /* Parser */
+		public UonParserSession createSession(Object input, ObjectMap op, Method javaMethod, Object outer) {
+			last = super.createSession(input, op, javaMethod, outer);
+			return last;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.encoders;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.zip.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class CT_Encoders {
+
+	private static final String TEXT;
+	static {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++)
+			sb.append("foobar").append(i);
+		TEXT = sb.toString();
+	}
+
+	private static byte[] encode(Encoder e, String s) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream os = e.getOutputStream(baos);
+		os.write(s.getBytes("UTF-8"));
+		os.close();
+		return baos.toByteArray();
+	}
+
+	private static String decode(InputStream is) throws Exception {
+		try {
+			return new String(IOUtils.readBytes(is, 1024), "UTF-8");
+		} finally {
+			is.close();
+		}
+	}
+
+	//====================================================================================================
+	// testGzip
+	//====================================================================================================
+	@Test
+	public void testGzip() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+
+		// Output must be readable by the JDK and vice versa.
+		byte[] b = encode(e, TEXT);
+		assertTrue(b.length < TEXT.length());
+		assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(b))));
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(b))));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		GZIPOutputStream gos = new GZIPOutputStream(baos);
+		gos.write(TEXT.getBytes("UTF-8"));
+		gos.close();
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(baos.toByteArray()))));
+
+		// Empty content.
+		assertEquals("", decode(new GZIPInputStream(new ByteArrayInputStream(encode(e, "")))));
+	}
+
+	//====================================================================================================
+	// testDeflate
+	//====================================================================================================
+	@Test
+	public void testDeflate() throws Exception {
+		DeflateEncoder e = new DeflateEncoder();
+		assertEquals("deflate", e.getCodings()[0]);
+
+		byte[] b = encode(e, TEXT);
+		assertTrue(b.length < TEXT.length());
+		assertEquals(TEXT, decode(new InflaterInputStream(new ByteArrayInputStream(b))));
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(b))));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DeflaterOutputStream dos = new DeflaterOutputStream(baos);
+		dos.write(TEXT.getBytes("UTF-8"));
+		dos.close();
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(baos.toByteArray()))));
+	}
+
+	//====================================================================================================
+	// testLevels
+	//====================================================================================================
+	@Test
+	public void testLevels() throws Exception {
+		byte[] b0 = encode(new GzipEncoder(Deflater.NO_COMPRESSION, 512), TEXT);
+		byte[] b1 = encode(new GzipEncoder(Deflater.BEST_SPEED, 512), TEXT);
+		GzipEncoder e9 = new GzipEncoder(Deflater.BEST_COMPRESSION, 65536);
+		assertEquals(Deflater.BEST_COMPRESSION, e9.getLevel());
+		assertEquals(65536, e9.getBufferSize());
+		byte[] b9 = encode(e9, TEXT);
+		assertTrue(b0.length > TEXT.length());
+		assertTrue(b1.length < TEXT.length());
+		assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(b0))));
+		assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(b9))));
+
+		try {
+			new GzipEncoder(10, 512);
+			fail("Exception expected");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid compression level: 10", e.getMessage());
+		}
+		try {
+			new DeflateEncoder(1, 0);
+			fail("Exception expected");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid buffer size: 0", e.getMessage());
+		}
+	}
+
+	//====================================================================================================
+	// testPooling
+	//====================================================================================================
+	@Test
+	public void testPooling() throws Exception {
+		DeflateEncoder e = new DeflateEncoder();
+		CompressorPool p = e.getPool();
+		assertEquals(0, p.getIdleDeflaters());
+
+		// Deflaters are returned to the pool on close, and reused results must be identical.
+		byte[] b1 = encode(e, TEXT);
+		assertEquals(1, p.getIdleDeflaters());
+		byte[] b2 = encode(e, TEXT);
+		assertEquals(1, p.getIdleDeflaters());
+		assertArrayEquals(b1, b2);
+
+		// Closing twice must not return the deflater twice.
+		OutputStream os = e.getOutputStream(new ByteArrayOutputStream());
+		assertEquals(0, p.getIdleDeflaters());
+		os.close();
+		os.close();
+		assertEquals(1, p.getIdleDeflaters());
+
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(b1))));
+		assertEquals(1, p.getIdleInflaters());
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(b2))));
+		assertEquals(1, p.getIdleInflaters());
+
+		// Pool size is bounded.
+		OutputStream[] a = new OutputStream[CompressorPool.DEFAULT_MAX_SIZE + 5];
+		for (int i = 0; i < a.length; i++)
+			a[i] = e.getOutputStream(new ByteArrayOutputStream());
+		for (OutputStream o : a)
+			o.close();
+		assertEquals(CompressorPool.DEFAULT_MAX_SIZE, p.getIdleDeflaters());
+	}
+}
@@ -450,6 +450,44 @@ public class CT_Common {
 		public R1 r1;
 	}
 
+	//====================================================================================================
+	// Recursion detection on deeply nested models.
+	//====================================================================================================
+	@Test
+	public void testRecursionDeepNesting() throws Exception {
+		JsonSerializer s = new JsonSerializer.Simple().setProperty(SERIALIZER_detectRecursions, true);
+
+		R4 root = new R4(), r = root;
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			r.r4 = new R4();
+			r = r.r4;
+			expected.append("{r4:");
+		}
+		expected.append("{}");
+		for (int i = 0; i < 40; i++)
+			expected.append('}');
+		assertEquals(expected.toString(), s.serialize(root));
+
+		// The same object in sibling branches isn't recursion.
+		R4 shared = new R4();
+		assertEquals("[{},{},[{},{}]]", s.serialize(new Object[]{shared, shared, new Object[]{shared, shared}}));
+
+		r.r4 = root;
+		try {
+			s.serialize(root);
+			fail("Exception expected!");
+		} catch (Exception e) {
+			String msg = e.getLocalizedMessage();
+			assertTrue(msg.contains("->[40]r4:org.apache.juneau.json.CT_Common$R4"));
+			assertTrue(msg.contains("->[41]r4:org.apache.juneau.json.CT_Common$R4"));
+		}
+	}
+
+	public static class R4 {
+		public R4 r4;
+	}
+
 	//====================================================================================================
 	// Basic bean
 	//====================================================================================================
@@ -17,9 +17,13 @@ import static org.apache.juneau.json.JsonSerializerContext.*;
 import static org.apache.juneau.serializer.SerializerContext.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -305,4 +309,161 @@ public class CT_Json {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// Cached bean property names are encoded the same as map keys.
+	//====================================================================================================
+	@Test
+	public void testBeanPropertyNames() throws Exception {
+		JsonSerializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_LAX,
+			new JsonSerializer.Simple().setProperty(JSON_escapeSolidus, true),
+			new JsonSerializer().setProperty(JSON_escapeSolidus, true),
+			new JsonSerializer.Simple().setProperty(SERIALIZER_trimStrings, true),
+			new JsonSerializer.Simple().setProperty(SERIALIZER_quoteChar, '|'),
+		};
+
+		Map<String,Object> m = new LinkedHashMap<String,Object>();
+		for (String k : new String[]{"f1", "class", "1a", "a/b", "a'b", "a\"b"})
+			m.put(k, 1);
+
+		for (JsonSerializer s : serializers) {
+			String expected = s.serialize(m);
+			assertEquals(expected, s.serialize(new D()));
+			assertEquals(expected, s.serialize(new D()));
+		}
+	}
+
+	//====================================================================================================
+	// testSerializeToOutputStream
+	// Output streams are written to directly as UTF-8 bytes.
+	//====================================================================================================
+	@Test
+	public void testSerializeToOutputStream() throws Exception {
+		JsonSerializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_LAX_READABLE,
+			new JsonSerializer.Simple().setProperty(SERIALIZER_quoteChar, '|'),
+			new JsonSerializer().setProperty(SERIALIZER_reuseSessions, true),
+		};
+
+		ObjectMap m = new ObjectMap()
+			.append("a", new D())
+			.append("b", new ObjectList(1, -2L, Long.MIN_VALUE, (short)3, (byte)-4, 5.5f, true, null))
+			.append("c", "x\u00e9\u20ac\ud83d\ude00\"/\n");
+
+		for (JsonSerializer s : serializers) {
+			for (int i = 0; i < 2; i++) {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				s.serialize(m, baos);
+				assertEquals(s.serialize(m), new String(baos.toByteArray(), "UTF-8"));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// testParallelSerialization
+	// Large top-level collections serialized in parallel chunks produce the same output.
+	//====================================================================================================
+	@Test
+	public void testParallelSerialization() throws Exception {
+		ObjectList l = new ObjectList();
+		for (int i = 0; i < 500; i++) {
+			l.append(new D()).append(new ObjectMap().append("i", i).append("l", new ObjectList(i, "x"))).append("s" + i);
+			l.add(null);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			JsonSerializer[] serializers = {
+				JsonSerializer.DEFAULT,
+				JsonSerializer.DEFAULT_LAX_READABLE,
+			};
+			for (JsonSerializer s : serializers) {
+				String expected = s.serialize(l);
+				for (int chunkSize : new int[]{1, 7, 2000}) {
+					JsonSerializer s2 = s.clone()
+						.setProperty(SERIALIZER_parallelThreshold, 100)
+						.setProperty(SERIALIZER_parallelChunkSize, chunkSize);
+					assertEquals(expected, s2.serialize(l));
+					assertEquals(expected, s2.serialize(l.toArray()));
+					ByteArrayOutputStream baos = new ByteArrayOutputStream();
+					s2.serialize(l, baos);
+					assertEquals(expected, new String(baos.toByteArray(), "UTF-8"));
+					s2.setProperty(SERIALIZER_parallelExecutor, executor);
+					assertEquals(expected, s2.serialize(l));
+				}
+			}
+
+			// Below the threshold and nested collections are serialized normally.
+			JsonSerializer s = JsonSerializer.DEFAULT.clone().setProperty(SERIALIZER_parallelThreshold, 100000).setProperty(SERIALIZER_parallelChunkSize, 1);
+			assertEquals(JsonSerializer.DEFAULT.serialize(l), s.serialize(l));
+			s = JsonSerializer.DEFAULT.clone().setProperty(SERIALIZER_parallelThreshold, 1).setProperty(SERIALIZER_parallelChunkSize, 1);
+			ObjectMap m = new ObjectMap().append("l", l);
+			assertEquals(JsonSerializer.DEFAULT.serialize(m), s.serialize(m));
+			assertEquals("[]", s.serialize(new ObjectList()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	//====================================================================================================
+	// testParallelSerializationFailure
+	// Chunk sessions are closed when an element fails to serialize.
+	//====================================================================================================
+	@Test
+	public void testParallelSerializationFailure() throws Exception {
+		ObjectList l = new ObjectList();
+		for (int i = 0; i < 500; i++)
+			l.add(i == 250 ? new E() : "s" + i);
+		TestSerializer s = new TestSerializer();
+		s.setProperty(SERIALIZER_parallelThreshold, 100)
+			.setProperty(SERIALIZER_parallelChunkSize, 10)
+			.setProperty(SERIALIZER_parallelExecutor, new Executor() {
+				@Override /* Executor */
+				public void execute(Runnable r) {
+					r.run();
+				}
+			});
+		try {
+			s.serialize(l);
+			fail("Exception expected");
+		} catch (SerializeException e) {}
+		assertTrue(s.sessions.size() > 1);
+		for (SerializerSession ss : s.sessions) {
+			try {
+				ss.close();
+				fail("Session was not closed");
+			} catch (SerializeException e) {
+				assertEquals("Attempt to close SerializerSession more than once.", e.getMessage());
+			}
+		}
+	}
+
+	public static class E {
+		public String getF1() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	public static class TestSerializer extends JsonSerializer {
+		List<SerializerSession> sessions = new ArrayList<SerializerSession>();
+
+		@Override /* Serializer */
+		public JsonSerializerSession createSession(Object output, ObjectMap properties, Method javaMethod) {
+			JsonSerializerSession s = super.createSession(output, properties, javaMethod);
+			sessions.add(s);
+			return s;
+		}
+	}
+
+	@Bean(properties={"f1","class","1a","a/b","a'b","a\"b"})
+	public static class D {
+		@BeanProperty(name="f1") public int f1 = 1;
+		@BeanProperty(name="class") public int f2 = 1;
+		@BeanProperty(name="1a") public int f3 = 1;
+		@BeanProperty(name="a/b") public int f4 = 1;
+		@BeanProperty(name="a'b") public int f5 = 1;
+		@BeanProperty(name="a\"b") public int f6 = 1;
+	}
 }
\ No newline at end of file
@@ -14,6 +14,9 @@ package org.apache.juneau.json;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -328,4 +331,256 @@ public class CT_JsonParser {
 			return "f="+f;
 		}
 	}
+
+	//====================================================================================================
+	// testParseIterator
+	// Entries of a top-level array are parsed one at a time.
+	//====================================================================================================
+	@Test
+	public void testParseIterator() throws Exception {
+		JsonArrayIterator<D> i = p.parseIterator(new StringReader(" /*x*/ [ {f1:1} , {f1:2},{f1:3} ] "), D.class);
+		List<Integer> l = new ArrayList<Integer>();
+		for (D d : i)
+			l.add(d.f1);
+		assertEquals("[1, 2, 3]", l.toString());
+		assertFalse(i.hasNext());
+		i.close();
+
+		// Untyped entries.
+		JsonArrayIterator<Object> i2 = p.parseIterator("[1,'foo',[2],{a:3},null]", Object.class);
+		assertEquals(1, i2.next());
+		assertEquals("foo", i2.next());
+		assertEquals("[2]", i2.next().toString());
+		assertEquals("{a:3}", i2.next().toString());
+		assertTrue(i2.hasNext());
+		assertNull(i2.next());
+		assertFalse(i2.hasNext());
+		try {
+			i2.next();
+			fail("Exception expected");
+		} catch (NoSuchElementException e) {}
+
+		// A null element type is the same as Object.class.
+		i2 = p.parseIterator("[1,'foo',{a:3}]", (Class<Object>)null);
+		assertEquals(1, i2.next());
+		assertEquals("foo", i2.next());
+		assertEquals("{a:3}", i2.next().toString());
+		assertFalse(i2.hasNext());
+		i2 = p.parseIterator("[1,'foo']", (ClassMeta<Object>)null);
+		assertEquals(1, i2.next());
+		assertEquals("foo", i2.next());
+		assertFalse(i2.hasNext());
+
+		// Empty input and empty arrays.
+		assertFalse(p.parseIterator("", D.class).hasNext());
+		assertFalse(p.parseIterator(" [ ] ", D.class).hasNext());
+
+		// Close before reaching the end.
+		i = p.parseIterator("[{f1:1},{f1:2}]", D.class);
+		assertEquals(1, i.next().f1);
+		i.close();
+		i.close();
+		assertFalse(i.hasNext());
+	}
+
+	@Test
+	public void testParseIteratorInvalid() throws Exception {
+		try {
+			p.parseIterator("{f1:1}", D.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Expected '[' at beginning of JSON array."));
+		}
+
+		JsonArrayIterator<D> i = p.parseIterator("[{f1:1} {f1:2}]", D.class);
+		i.next();
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+			assertTrue(e.getCause().getMessage().contains("Expected ',' or ']'."));
+		}
+		assertFalse(i.hasNext());
+
+		i = p.parseIterator("[{f1:1},", D.class);
+		i.next();
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		i = p.parseIterator("[{f1:1}] x", D.class);
+		i.next();
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause().getMessage().contains("Remainder after parse"));
+		}
+	}
+
+	//====================================================================================================
+	// testUtf8Input
+	// UTF-8 encoded streams and byte arrays.
+	//====================================================================================================
+	@Test
+	public void testUtf8Input() throws Exception {
+		String json = "{\"a\":\"éè€😀\",\"b\":[1,\"x\"]}";
+		byte[] b = json.getBytes("UTF-8");
+		ObjectMap m = p.parse(new ByteArrayInputStream(b), ObjectMap.class);
+		assertEquals("éè€😀", m.getString("a"));
+		assertEquals(1, m.getObjectList("b").get(0));
+		assertEquals("x", m.getObjectList("b").get(1));
+		m = p.parse(b, ObjectMap.class);
+		assertEquals("éè€😀", m.getString("a"));
+		assertEquals(m, sp.parse(b, ObjectMap.class));
+	}
+
+	//====================================================================================================
+	// testRepeatedKeys
+	// Repeated field names are returned as the same string instance.
+	//====================================================================================================
+	@Test
+	public void testRepeatedKeys() throws Exception {
+		ObjectList l = p.parse("[{\"foo\":1,bar:2},{'foo':3,bar:4}]", ObjectList.class);
+		ObjectMap m1 = l.getObjectMap(0), m2 = l.getObjectMap(1);
+		assertEquals("{foo:1,bar:2}", m1.toString());
+		assertEquals("{foo:3,bar:4}", m2.toString());
+		Iterator<String> i1 = m1.keySet().iterator(), i2 = m2.keySet().iterator();
+		assertSame(i1.next(), i2.next());
+		assertSame(i1.next(), i2.next());
+	}
+
+	//====================================================================================================
+	// testLazyParsing
+	// Nested values of lazy maps and lists are only parsed when accessed.
+	//====================================================================================================
+	@Test
+	public void testLazyParsing() throws Exception {
+		JsonParser lp = new JsonParser().setProperty(JsonParserContext.JSON_lazyParsing, true).lock();
+
+		String json = " /*x*/ {a:'foo', b:{c:[1,{d:'bar'},\"x\\\"y\"], e:true}, f:null, g:1.5, 'h i':'a' + \"b\", j:[], k:'[{'};";
+		ObjectMap m = lp.parse(new StringReader(json), ObjectMap.class);
+		assertEquals("LazyObjectMap", m.getClass().getSimpleName());
+		assertEquals("[a, b, f, g, h i, j, k]", m.keySet().toString());
+		assertEquals("foo", m.getString("a"));
+		assertEquals("bar", m.getAt(String.class, "b/c/1/d"));
+		assertEquals("x\"y", m.getObjectMap("b").getObjectList("c").getString(2));
+		assertTrue(m.getObjectMap("b").getBoolean("e"));
+		assertNull(m.get("f"));
+		assertEquals("ab", m.getString("h i"));
+		assertEquals("[{", m.getString("k"));
+		assertSame(m.getObjectMap("b"), m.getObjectMap("b"));
+
+		// Same results as regular parsing.
+		ObjectMap m2 = p.parse(json, ObjectMap.class);
+		assertEquals(m2, m);
+		assertEquals(m2.toString(), lp.parse(json, ObjectMap.class).toString());
+		assertEquals(m2.get("g"), lp.parse(json, ObjectMap.class).get("g"));
+
+		// Objects with _class attributes are converted to beans.
+		m = lp.parse("{a:{_class:'"+D.class.getName()+"',f1:3}}", ObjectMap.class);
+		assertEquals(3, ((D)m.get("a")).f1);
+
+		ObjectList l = lp.parse("[1,[2,3],{a:'b'},'c']", ObjectList.class);
+		assertEquals("LazyObjectList", l.getClass().getSimpleName());
+		assertEquals(4, l.size());
+		assertEquals("{a:'b'}", l.get(2).toString());
+		assertEquals("c", l.getLast());
+		assertEquals(3, l.getAt(Integer.class, "1/1").intValue());
+		assertEquals(3, l.indexOf("c"));
+		assertEquals("[1,[2,3],{a:'b'},'c']", l.toString());
+		l = lp.parse("[1,[2,3],{a:'b'},'c']", ObjectList.class);
+		assertEquals(p.parse("[1,[2,3],{a:'b'},'c']", ObjectList.class), l);
+		assertEquals("c", l.removeLast());
+		assertEquals(1, l.remove(0));
+
+		// Copies contain the parsed values.
+		m = lp.parse("{a:'foo',b:[1,{c:2}]}", ObjectMap.class);
+		m2 = (ObjectMap)m.clone();
+		assertEquals("foo", new HashMap<String,Object>(m).get("a"));
+		assertEquals("[1,{c:2}]", m2.get("b").toString());
+		assertEquals(p.parse("{a:'foo',b:[1,{c:2}]}", ObjectMap.class), m2);
+		l = lp.parse("[1,{a:'b'},'c']", ObjectList.class);
+		assertEquals(p.parse("[1,{a:'b'},'c']", ObjectList.class), l.clone());
+		assertEquals("{a:'b'}", new ArrayList<Object>(l).get(1).toString());
+
+		// Java 8 map methods return the parsed values.
+		LazyObjectMap lm = (LazyObjectMap)lp.parse("{a:{b:1},c:'foo',d:[1,2],e:null,f:'bar',g:'baz'}", ObjectMap.class);
+		assertEquals("foo", lm.getOrDefault("c", "def"));
+		assertNull(lm.getOrDefault("e", "def"));
+		assertEquals("def", lm.getOrDefault("x", "def"));
+		assertEquals("{b:1}", lm.putIfAbsent("a", "zz").toString());
+		assertEquals("{b:1}", lm.get("a").toString());
+		assertNull(lm.putIfAbsent("e", "zz"));
+		assertEquals("zz", lm.get("e"));
+		assertEquals("[1,2]", lm.replace("d", "zz").toString());
+		assertEquals("zz", lm.get("d"));
+		assertNull(lm.replace("x", "zz"));
+		assertFalse(lm.containsKey("x"));
+		assertFalse(lm.replace("f", "xxx", "zz"));
+		assertTrue(lm.replace("f", "bar", "zz"));
+		assertEquals("zz", lm.get("f"));
+		assertFalse(lm.remove("g", "xxx"));
+		assertTrue(lm.remove("g", "baz"));
+		assertFalse(lm.containsKey("g"));
+
+		// Other types and input that isn't an object or array are parsed normally.
+		assertEquals(ObjectMap.class, lp.parse("{a:1}", Object.class).getClass());
+		assertEquals(ObjectList.class, lp.parse("[1]", Object.class).getClass());
+		assertNull(lp.parse(" ", ObjectMap.class));
+	}
+
+	@Test
+	public void testLazyParsingInvalid() throws Exception {
+		JsonParser lp = new JsonParser().setProperty(JsonParserContext.JSON_lazyParsing, true).lock();
+		JsonParser lsp = new JsonParser().setProperty(JsonParserContext.JSON_lazyParsing, true).setProperty(JsonParserContext.JSON_strictMode, true).lock();
+
+		for (String s : new String[]{"{a:[1,2}", "{a:'b}", "{a:1} x", "{a 1}", "{a:1 b:2}", "{a:1}/*"}) {
+			try {
+				lp.parse(s, ObjectMap.class);
+				fail("Exception expected: " + s);
+			} catch (ParseException e) {}
+		}
+
+		// Syntax errors in nested values are found when the values are accessed.
+		ObjectMap m = lp.parse("{a:1,b:xxx}", ObjectMap.class);
+		assertEquals(1, m.getInt("a").intValue());
+		try {
+			m.get("b");
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		try {
+			lsp.parse("{a:1}", ObjectMap.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unquoted attribute detected"));
+		}
+		// Malformed numbers are reported as parse errors.
+		m = lp.parse("{a:1.2.3}", ObjectMap.class);
+		try {
+			m.get("a");
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+
+		m = lsp.parse("{\"a\":0123}", ObjectMap.class);
+		try {
+			m.get("a");
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+	}
+
+	public static class D {
+		public int f1;
+	}
 }
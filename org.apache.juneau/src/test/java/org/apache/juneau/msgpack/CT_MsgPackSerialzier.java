@@ -12,11 +12,16 @@
  ***************************************************************************************************************************/
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.serializer.SerializerContext.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
 import org.junit.*;
 
 @SuppressWarnings("serial")
@@ -208,6 +213,131 @@ public class CT_MsgPackSerialzier {
 		System.err.println(TestUtils.toReadableBytes2(b));
 	}
 
+	//====================================================================================================
+	// Values spanning the internal buffer boundaries of the input and output streams.
+	//====================================================================================================
+	@Test
+	public void testBuffering() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 3000; i++)
+			sb.append("a\u00e9\u4e2d\ud83d\ude00");
+		String s1 = sb.toString(), s2 = s1.substring(1, 9000), s3 = "x\ud800y";
+
+		// Strings are encoded the same as String.getBytes().
+		for (String s : new String[]{s1, s2, s3, "", "abc"}) {
+			byte[] b = MsgPackSerializer.DEFAULT.serialize(s), e = s.getBytes("UTF-8");
+			assertEquals(new String(e, "UTF-8"), new String(b, b.length - e.length, e.length, "UTF-8"));
+		}
+
+		ObjectList l = new ObjectList();
+		for (int i = 0; i < 2000; i++)
+			l.add(i * 1000003L);
+		l.append(s1).append(s2).append(s3).append(1.5d).append(Long.MAX_VALUE).append(-12345678);
+
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new ObjectMap().append("l", l));
+		ObjectList l2 = MsgPackParser.DEFAULT.parse(new TrickleInputStream(b), ObjectMap.class).getObjectList("l");
+		assertEquals(l.size(), l2.size());
+		for (int i = 0; i < 2000; i++)
+			assertEquals(i * 1000003L, ((Number)l2.get(i)).longValue());
+		assertEquals(s1, l2.get(2000));
+		assertEquals(s2, l2.get(2001));
+		assertEquals("x?y", l2.get(2002));
+		assertEquals(1.5d, l2.get(2003));
+		assertEquals(Long.MAX_VALUE, l2.get(2004));
+		assertEquals(-12345678, l2.get(2005));
+
+		// bin 16
+		b = new byte[20003];
+		b[0] = (byte)0xC5;
+		b[1] = (byte)0x4E;
+		b[2] = (byte)0x20;
+		for (int i = 3; i < b.length; i++)
+			b[i] = (byte)i;
+		byte[] bin = (byte[])MsgPackParser.DEFAULT.parse(new TrickleInputStream(b), Object.class);
+		assertTrue(Arrays.equals(Arrays.copyOfRange(b, 3, b.length), bin));
+	}
+
+	//====================================================================================================
+	// testParallelSerialization
+	// Large top-level collections serialized in parallel chunks produce the same output.
+	//====================================================================================================
+	@Test
+	public void testParallelSerialization() throws Exception {
+		ObjectList l = new ObjectList();
+		for (int i = 0; i < 500; i++)
+			l.append(new Person()).append(new ObjectMap().append("i", i)).append("s" + i).append(i * 1000003L);
+		String expected = TestUtils.toReadableBytes2(MsgPackSerializer.DEFAULT.serialize(l));
+		for (int chunkSize : new int[]{1, 7, 2000}) {
+			MsgPackSerializer s = MsgPackSerializer.DEFAULT.clone()
+				.setProperty(SERIALIZER_parallelThreshold, 100)
+				.setProperty(SERIALIZER_parallelChunkSize, chunkSize);
+			assertEquals(expected, TestUtils.toReadableBytes2(s.serialize(l)));
+			assertEquals(expected, TestUtils.toReadableBytes2(s.serialize(l.toArray())));
+		}
+	}
+
+	//====================================================================================================
+	// testParallelSerializationFailure
+	// Chunk sessions are closed when an element fails to serialize.
+	//====================================================================================================
+	@Test
+	public void testParallelSerializationFailure() throws Exception {
+		ObjectList l = new ObjectList();
+		for (int i = 0; i < 500; i++)
+			l.add(i == 250 ? new BadBean() : "s" + i);
+		TestSerializer s = new TestSerializer();
+		s.setProperty(SERIALIZER_parallelThreshold, 100)
+			.setProperty(SERIALIZER_parallelChunkSize, 10)
+			.setProperty(SERIALIZER_parallelExecutor, new Executor() {
+				@Override /* Executor */
+				public void execute(Runnable r) {
+					r.run();
+				}
+			});
+		try {
+			s.serialize(l);
+			fail("Exception expected");
+		} catch (SerializeException e) {}
+		assertTrue(s.sessions.size() > 1);
+		for (SerializerSession ss : s.sessions) {
+			try {
+				ss.close();
+				fail("Session was not closed");
+			} catch (SerializeException e) {
+				assertEquals("Attempt to close SerializerSession more than once.", e.getMessage());
+			}
+		}
+	}
+
+	public static class BadBean {
+		public String getF1() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	public static class TestSerializer extends MsgPackSerializer {
+		List<SerializerSession> sessions = new ArrayList<SerializerSession>();
+
+		@Override /* Serializer */
+		public MsgPackSerializerSession createSession(Object output, ObjectMap properties, Method javaMethod) {
+			MsgPackSerializerSession s = super.createSession(output, properties, javaMethod);
+			sessions.add(s);
+			return s;
+		}
+	}
+
+	// Returns at most 3 bytes per read to exercise partial reads.
+	private static class TrickleInputStream extends ByteArrayInputStream {
+		TrickleInputStream(byte[] b) {
+			super(b);
+		}
+
+		@Override /* InputStream */
+		public synchronized int read(byte[] buff, int off, int len) {
+			return super.read(buff, off, Math.min(len, 3));
+		}
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
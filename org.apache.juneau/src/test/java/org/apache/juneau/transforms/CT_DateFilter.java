@@ -140,6 +140,40 @@ public class CT_DateFilter {
 		assertEquals(6, d.getSeconds());
 	}
 
+	//====================================================================================================
+	// Transforms can be shared by multiple threads.
+	//====================================================================================================
+	@Test
+	public void testConcurrency() throws Exception {
+		final WriterSerializer s = new JsonSerializer.Simple().addTransforms(DateTransform.SimpleDTP.class, DateTransform.ISO8601DTZP.class).lock();
+		final ReaderParser p = new JsonParser().addTransforms(DateTransform.SimpleDTP.class).lock();
+		final DateTransform t2 = new DateTransform.ISO8601DTZ();
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			final int offset = i;
+			threads[i] = new Thread() {
+				@Override /* Thread */
+				public void run() {
+					try {
+						for (int j = 0; j < 500; j++) {
+							Date d = new Date(testDate.getTime() + (offset * 1000 + j) * 86400123L);
+							assertEquals(d, p.parse(s.serialize(d), Date.class));
+							assertEquals(d.getTime() - (d.getTime() % 1000 + 1000) % 1000, t2.normalize(t2.transform(d), null).getTime());
+						}
+					} catch (Throwable t) {
+						errors.add(t);
+					}
+				}
+			};
+		}
+		for (Thread t : threads)
+			t.start();
+		for (Thread t : threads)
+			t.join();
+		assertEquals(Collections.emptyList(), errors);
+	}
+
 	//====================================================================================================
 	//====================================================================================================
 	@Test
@@ -0,0 +1,92 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+public class CT_BoundedCache {
+
+	//====================================================================================================
+	// testBasic
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		BoundedCache<String,String> c = new BoundedCache<String,String>(2);
+
+		assertNull(c.get("a"));
+		assertEquals("1", c.put("a", "1"));
+		assertEquals("1", c.put("a", "2"));
+		assertEquals("1", c.get("a"));
+		assertEquals(1, c.getHits());
+		assertEquals(1, c.getMisses());
+
+		// Oldest entries are evicted first.
+		c.put("b", "2");
+		c.put("c", "3");
+		assertEquals(2, c.size());
+		assertNull(c.get("a"));
+		assertEquals("2", c.get("b"));
+		assertEquals("3", c.get("c"));
+		assertEquals("size=2,maxSize=2,hits=3,misses=2", c.toString());
+
+		c.clear();
+		assertEquals(0, c.size());
+
+		// Size of 0 disables caching.
+		c.setMaxSize(0);
+		c.put("a", "1");
+		assertEquals(0, c.size());
+	}
+
+	//====================================================================================================
+	// Negotiation results are cached by the serializer, parser, and encoder groups.
+	//====================================================================================================
+	@Test
+	public void testGroups() throws Exception {
+		SerializerGroup sg = new SerializerGroup().append(JsonSerializer.class, XmlSerializer.class);
+		assertEquals("text/xml", sg.findMatch("text/foo, text/xml;q=0.9"));
+		assertEquals("text/xml", sg.findMatch("text/foo, text/xml;q=0.9"));
+		assertNull(sg.findMatch("text/foo"));
+		assertNull(sg.findMatch("text/foo"));
+		assertEquals(2, sg.getMatchCache().getHits());
+		assertEquals(2, sg.getMatchCache().getMisses());
+		assertTrue(sg.getSerializer("text/foo, text/xml;q=0.9") instanceof XmlSerializer);
+
+		// Appending serializers clears the cache.
+		sg.append(JsonSerializer.Simple.class);
+		assertEquals(0, sg.getMatchCache().size());
+
+		ParserGroup pg = new ParserGroup().append(JsonParser.class, XmlParser.class);
+		assertEquals("text/json", pg.findMatch("text/json"));
+		assertEquals("text/json", pg.findMatch("text/json"));
+		assertNull(pg.findMatch("text/foo"));
+		assertNull(pg.findMatch("text/foo"));
+		assertEquals(2, pg.getMatchCache().getHits());
+
+		EncoderGroup eg = new EncoderGroup().append(GzipEncoder.class);
+		assertEquals("gzip", eg.findMatch("compress;q=1.0, gzip;q=0.8"));
+		assertEquals("gzip", eg.findMatch("compress;q=1.0, gzip;q=0.8"));
+		assertNull(eg.findMatch("compress"));
+		assertNull(eg.findMatch("compress"));
+		assertEquals(2, eg.getMatchCache().getHits());
+		assertEquals(2, eg.getMatchCache().getMisses());
+	}
+}
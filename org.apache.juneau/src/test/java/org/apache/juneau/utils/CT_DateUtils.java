@@ -0,0 +1,104 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.utils;
+
+import static org.apache.juneau.internal.DateUtils.*;
+import static org.junit.Assert.*;
+
+import java.text.*;
+import java.util.*;
+
+import org.junit.*;
+
+public class CT_DateUtils {
+
+	private static final String[] TIME_ZONES = {"GMT", "GMT-5", "GMT+05:30", "America/Los_Angeles", "Europe/London", "Asia/Kathmandu"};
+
+	//====================================================================================================
+	// appendISO8601(StringBuilder,long,TimeZone,boolean,boolean) produces the same output as SimpleDateFormat.
+	//====================================================================================================
+	@Test
+	public void testAppendISO8601Time() throws Exception {
+		Random r = new Random(1);
+		long[] times = new long[1000];
+		for (int i = 0; i < times.length; i++)
+			times[i] = (long)((r.nextDouble() - 0.5) * 1e14);
+		times[0] = 0;
+		times[1] = -1;
+		times[2] = -12219292800000L;   // Gregorian cutover.
+		times[3] = -12219292800001L;
+		times[4] = 253402300799999L;   // 9999-12-31T23:59:59.999Z
+		times[5] = 951782400000L;      // 2000-02-29
+
+		for (String id : TIME_ZONES) {
+			TimeZone tz = TimeZone.getTimeZone(id);
+			SimpleDateFormat f1 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss"), f2 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS"), f3 = new SimpleDateFormat("Z");
+			f1.setTimeZone(tz);
+			f2.setTimeZone(tz);
+			f3.setTimeZone(tz);
+			for (long t : times) {
+				Date d = new Date(t);
+				String z = f3.format(d);
+				z = (z.equals("+0000") ? "Z" : z.substring(0,3) + ':' + z.substring(3));
+				assertEquals(f1.format(d) + z, appendISO8601(new StringBuilder(), t, tz, false, true).toString());
+				assertEquals(f2.format(d), appendISO8601(new StringBuilder(), t, tz, true, false).toString());
+			}
+		}
+	}
+
+	//====================================================================================================
+	// appendISO8601(StringBuilder,Calendar)
+	//====================================================================================================
+	@Test
+	public void testAppendISO8601Calendar() throws Exception {
+		Calendar c = new GregorianCalendar(TimeZone.getTimeZone("GMT-5"));
+		c.clear();
+		c.set(2001, 6, 4, 15, 30, 45);
+		assertEquals("2001-07-04T15:30:45-05:00", appendISO8601(new StringBuilder(), c).toString());
+		c.set(Calendar.MILLISECOND, 12);
+		assertEquals("2001-07-04T15:30:45.012-05:00", appendISO8601(new StringBuilder(), c).toString());
+		c.setTimeZone(TimeZone.getTimeZone("GMT"));
+		assertEquals("2001-07-04T20:30:45.012Z", appendISO8601(new StringBuilder(), c).toString());
+	}
+
+	//====================================================================================================
+	// parseISO8601Date(String) and parseISO8601Calendar(String)
+	//====================================================================================================
+	@Test
+	public void testParseISO8601() throws Exception {
+		assertEquals(0, parseISO8601Date("1970-01-01T00:00:00Z").getTime());
+		assertEquals(0, parseISO8601Date("1970-01-01T05:30:00+05:30").getTime());
+		assertEquals(-1, parseISO8601Date("1969-12-31T23:59:59.999Z").getTime());
+		assertEquals(123, parseISO8601Date("1970-01-01T00:00:00.1239Z").getTime());
+		assertEquals(100, parseISO8601Date("1970-01-01T00:00:00.1Z").getTime());
+		assertEquals(951782400000L, parseISO8601Date("2000-02-29T00:00:00Z").getTime());
+		assertEquals(-12219292800000L, parseISO8601Date("1582-10-15T00:00:00Z").getTime());
+
+		// Round trip through the formatter.
+		Random r = new Random(2);
+		for (String id : TIME_ZONES) {
+			TimeZone tz = TimeZone.getTimeZone(id);
+			for (int i = 0; i < 1000; i++) {
+				long t = (long)(r.nextDouble() * 1e13);
+				assertEquals(t, parseISO8601Date(appendISO8601(new StringBuilder(), t, tz, true, true).toString()).getTime());
+			}
+		}
+
+		Calendar c = parseISO8601Calendar("2001-07-04T15:30:45.5-05:00");
+		assertEquals("GMT-05:00", c.getTimeZone().getID());
+		assertEquals(15, c.get(Calendar.HOUR_OF_DAY));
+		assertEquals(500, c.get(Calendar.MILLISECOND));
+		assertEquals("2001-07-04T15:30:45.500-05:00", appendISO8601(new StringBuilder(), c).toString());
+		assertEquals(0, parseISO8601Calendar("2001-07-04T15:30:45Z").getTimeZone().getRawOffset());
+	}
+}
@@ -0,0 +1,53 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class CT_SymbolTable {
+
+	//====================================================================================================
+	// testGet
+	//====================================================================================================
+	@Test
+	public void testGet() throws Exception {
+		SymbolTable t = new SymbolTable(4);
+		char[] c = "xfoobarfoo".toCharArray();
+		String s1 = t.get(c, 1, 3);
+		assertEquals("foo", s1);
+		assertSame(s1, t.get(c, 7, 3));
+		assertEquals("bar", t.get(c, 4, 3));
+		assertEquals("", t.get(c, 0, 0));
+		assertEquals("xfoobarfoo", t.get(c, 0, 10));
+
+		// Colliding entries replace each other, but must never return the wrong string.
+		for (int i = 0; i < 100; i++) {
+			String s = "k" + i;
+			assertEquals(s, t.get(s.toCharArray(), 0, s.length()));
+		}
+	}
+
+	//====================================================================================================
+	// testLongStringsNotCached
+	//====================================================================================================
+	@Test
+	public void testLongStringsNotCached() throws Exception {
+		SymbolTable t = new SymbolTable();
+		char[] c = new char[100];
+		assertNotSame(t.get(c, 0, 100), t.get(c, 0, 100));
+		assertSame(t.get(c, 0, 10), t.get(c, 0, 10));
+	}
+}
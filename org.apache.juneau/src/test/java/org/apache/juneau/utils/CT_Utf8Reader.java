@@ -0,0 +1,120 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class CT_Utf8Reader {
+
+	//====================================================================================================
+	// testDecoding
+	// Output must be identical to the JDK decoder, regardless of where the buffer boundaries fall.
+	//====================================================================================================
+	@Test
+	public void testDecoding() throws Exception {
+		String[] tests = {
+			"",
+			"foobar",
+			"éèê",
+			"a€b€c",
+			"😀x😁",
+			"😀😁😂😃",
+			"\u0000\u007f\u0080߿ࠀ￿",
+		};
+		for (String s : tests) {
+			byte[] b = s.getBytes("UTF-8");
+			assertEquals(s, read(new Utf8Reader(b), 8192));
+			for (int size = 4; size < 12; size++) {
+				for (int chars = 1; chars < 4; chars++) {
+					assertEquals(s, read(new Utf8Reader(new ByteArrayInputStream(b), size), chars));
+					assertEquals(s, read(new Utf8Reader(new TrickleInputStream(b), size), chars));
+				}
+			}
+		}
+	}
+
+	//====================================================================================================
+	// testMalformed
+	// Malformed sequences are replaced the same way as the JDK decoder.
+	//====================================================================================================
+	@Test
+	public void testMalformed() throws Exception {
+		assertEquals("a\uFFFDb", decode('a', 0x80, 'b'));
+		assertEquals("a\uFFFD", decode('a', 0xC3));
+		assertEquals("a\uFFFDb", decode('a', 0xC3, 'b'));
+		assertEquals("\uFFFD\uFFFD", decode(0xC0, 0x80));
+		assertEquals("\uFFFD", decode(0xED, 0xA0, 0x80));
+		assertEquals("\uFFFDa", decode(0xF8, 'a'));
+		assertEquals("\uFFFD\uFFFD\uFFFD\uFFFD", decode(0xF4, 0x90, 0x80, 0x80));
+		assertEquals("\uFFFD\uFFFD\uFFFD", decode(0xE0, 0x80, 0x80));
+	}
+
+	//====================================================================================================
+	// testTruncated
+	// Truncated sequences are replaced with a single character.
+	//====================================================================================================
+	@Test
+	public void testTruncated() throws Exception {
+		assertEquals("a\uFFFD", decode('a', 0xE2, 0x82));
+		assertEquals("a\uFFFDb", decode('a', 0xE2, 0x82, 'b'));
+		assertEquals("\uFFFD", decode(0xF0, 0x9F, 0x98));
+		assertEquals("\uFFFDx\uFFFD", decode(0xF0, 0x9F, 'x', 0xF0, 0x9F));
+		assertEquals("\uFFFD\uFFFD", decode(0xE2, 0x82, 0xE2));
+	}
+
+	//====================================================================================================
+	// testByteArrayRange
+	//====================================================================================================
+	@Test
+	public void testByteArrayRange() throws Exception {
+		byte[] b = "xxéyy".getBytes("UTF-8");
+		assertEquals("é", read(new Utf8Reader(b, 2, 2), 10));
+	}
+
+	private static String decode(int...bytes) throws Exception {
+		byte[] b = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++)
+			b[i] = (byte)bytes[i];
+		String s1 = read(new Utf8Reader(b), 10);
+		String s2 = read(new Utf8Reader(new TrickleInputStream(b), 4), 1);
+		assertEquals(s1, s2);
+		assertEquals(read(new InputStreamReader(new ByteArrayInputStream(b), "UTF-8"), 10), s1);
+		return s1;
+	}
+
+	private static String read(Reader r, int chars) throws Exception {
+		StringBuilder sb = new StringBuilder();
+		char[] c = new char[chars];
+		int i;
+		while ((i = r.read(c, 0, chars)) != -1)
+			sb.append(c, 0, i);
+		r.close();
+		return sb.toString();
+	}
+
+	// Returns one byte at a time to force multi-byte sequences to be split across reads.
+	private static class TrickleInputStream extends ByteArrayInputStream {
+		TrickleInputStream(byte[] b) {
+			super(b);
+		}
+		@Override /* InputStream */
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, 1));
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/***************************************************************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ ***************************************************************************************************************************/
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class CT_Utf8Writer {
+
+	//====================================================================================================
+	// testEncoding
+	// Output must be identical to the JDK encoder, regardless of where the buffer boundaries fall.
+	//====================================================================================================
+	@Test
+	public void testEncoding() throws Exception {
+		String[] tests = {
+			"",
+			"foobar",
+			"éèê",
+			"a€b€c",
+			"😀x😁",
+			"\u0000\u007f\u0080߿ࠀ￿",
+		};
+		for (String s : tests) {
+			String expected = Arrays.toString(s.getBytes("UTF-8"));
+			for (int size = 4; size < 12; size++) {
+				assertEquals(s, expected, Arrays.toString(write(s, size, 0)));
+				assertEquals(s, expected, Arrays.toString(write(s, size, 1)));
+				assertEquals(s, expected, Arrays.toString(write(s, size, 2)));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// testUnpairedSurrogates
+	//====================================================================================================
+	@Test
+	public void testUnpairedSurrogates() throws Exception {
+		assertEquals("a?b", new String(write("a\ud83db", 8, 0), "UTF-8"));
+		assertEquals("a?b", new String(write("a\ude00b", 8, 1), "UTF-8"));
+		assertEquals("a??", new String(write("a\ud83d\ud83d", 8, 2), "UTF-8"));
+		assertEquals("a?", new String(write("a\ud83d", 8, 0), "UTF-8"));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos);
+		w.write("a\ud83d");
+		w.writeBytes(new byte[]{'b'});
+		w.write('\ud83d');
+		w.writeLong(1);
+		w.close();
+		assertEquals("a?b?1", new String(baos.toByteArray(), "UTF-8"));
+	}
+
+	//====================================================================================================
+	// testBytesAndNumbers
+	//====================================================================================================
+	@Test
+	public void testBytesAndNumbers() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos, 8);
+		long[] numbers = {0, 1, -1, 10, -123456789, Long.MAX_VALUE, Long.MIN_VALUE};
+		StringBuilder expected = new StringBuilder();
+		for (long l : numbers) {
+			w.writeLong(l);
+			w.writeBytes("é,".getBytes("UTF-8"));
+			expected.append(l).append("é,");
+		}
+		w.writeBytes("0123456789".getBytes("UTF-8"));
+		expected.append("0123456789");
+		w.flush();
+		assertEquals(expected.toString(), new String(baos.toByteArray(), "UTF-8"));
+	}
+
+	//====================================================================================================
+	// testReuse
+	//====================================================================================================
+	@Test
+	public void testReuse() throws Exception {
+		ByteArrayOutputStream baos1 = new ByteArrayOutputStream(), baos2 = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos1);
+		w.write("foo");
+		w.flush();
+		w.write("bar");
+		w.setOutputStream(baos2);
+		w.write("baz");
+		w.flush();
+		assertEquals("foo", baos1.toString("UTF-8"));
+		assertEquals("baz", baos2.toString("UTF-8"));
+	}
+
+	/*
+	 * Writes the string using a small buffer.
+	 * mode 0 = write(String), 1 = write(char[]), 2 = write(int)
+	 */
+	private static byte[] write(String s, int bufferSize, int mode) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new Utf8Writer(baos, bufferSize);
+		if (mode == 0)
+			w.write(s);
+		else if (mode == 1)
+			w.write(s.toCharArray());
+		else
+			for (int i = 0; i < s.length(); i++)
+				w.write(s.charAt(i));
+		w.close();
+		return baos.toByteArray();
+	}
+}
@@ -181,6 +181,28 @@ public class CT_Xml {
 		public int f1 = 1;
 	}
 
+	//====================================================================================================
+	// Bean property names with invalid XML characters.
+	//====================================================================================================
+	@Test
+	public void testPropertyNameWithInvalidChars() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SIMPLE_SQ;
+		XmlParser p = XmlParser.DEFAULT;
+		D2 t = new D2();
+		String r = s.serialize(t);
+		assertEquals("<object><a_x0020_b>1</a_x0020_b><_x0031_c>2</_x0031_c></object>", r);
+		assertEquals(r, s.serialize(t));
+		t = p.parse(r, D2.class);
+		assertEquals(1, t.f1);
+		assertEquals(2, t.f2);
+	}
+
+	@Bean(properties={"a b","1c"})
+	public static class D2 {
+		@BeanProperty(name="a b") public int f1 = 1;
+		@BeanProperty(name="1c") public int f2 = 2;
+	}
+
 	//====================================================================================================
 	// Element name can only be specified on classes.
 	//====================================================================================================